@@ -18,4 +18,11 @@ public abstract class BaseEntity {
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    /**
+     * 컬럼 변경 없이 수정 시각만 갱신 (하위 엔티티 변경을 상위 엔티티에 반영할 때 사용)
+     */
+    protected void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
@@ -28,6 +28,8 @@ public enum BaseResponseStatus {
     BUNDLE_NAME_REQUIRED(false, 400, "보따리 이름을 입력하세요."),
     BUNDLE_DESIGN_REQUIRED(false, 400, "보따리 디자인을 선택하세요."),
     BUNDLE_MINIMUM_GIFTS_REQUIRED(false, 400, "보따리는 최소 2개의 선물을 포함해야 합니다."),
+    BUNDLE_MAXIMUM_GIFTS_EXCEEDED(false, 400, "보따리에는 최대 6개의 선물만 포함될 수 있습니다."),
+    GIFT_NAME_REQUIRED(false, 400, "선물 이름을 입력하세요."),
     GIFT_IMAGE_REQUIRED(false, 400, "선물에는 이미지가 최소 1장 포함되어야 합니다."),
     INVALID_JSON_REQUEST(false, 400, "잘못된 JSON 형식입니다."),
     INVALID_DESIGN_TYPE(false, 400, "유효하지 않은 디자인 타입입니다. 가능한 값: RED, GREEN, YELLOW, PINK, BLUE"),
@@ -43,6 +45,14 @@ public enum BaseResponseStatus {
     INVALID_BUNDLE_STATUS_FOR_COMPLETE(false, 400, "PUBLISHED 상태에서만 COMPLETED로 변경 가능합니다."),
     VALIDATION_ERROR(false, 400, "유효성 검증 오류"),
     INVALID_BUNDLE_STATUS_FOR_DRAFT(false, 400, "임시저장 상태인 보따리가 아닙니다."),
+    /**
+     * 409: 동시 수정 충돌
+     */
+    BUNDLE_VERSION_CONFLICT(false, 409, "다른 곳에서 먼저 수정된 보따리입니다. 새로고침 후 다시 시도해주세요."),
+    /**
+     * 429: 요청 수 제한
+     */
+    TOO_MANY_REQUESTS(false, 429, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     /**
      * 400: Gift Response 관련 오류
      */
@@ -51,6 +61,7 @@ public enum BaseResponseStatus {
     INVALID_RESPONSE_TYPE(false, 400, "잘못된 응답 타입입니다."),
     INVALID_GIFT_ID(false, 400, "존재하지 않는 선물입니다."),
     INVALID_GIFT_UPDATE(false,400,"요청 사항이 비어있습니다."),
+    INVALID_DRAFT_OPERATION(false, 400, "잘못된 임시 저장 변경 요청입니다."),
 
 
     /**
@@ -63,6 +74,7 @@ public enum BaseResponseStatus {
      * 500: Server 오류
      */
     DATABASE_ERROR(false, 503, "데이터베이스 연결에 실패하였습니다."),
+    STREAM_CONNECTION_LIMIT_EXCEEDED(false, 503, "실시간 연결이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     SERVER_ERROR(false, 500, "서버와의 연결에 실패하였습니다."),
     KAKAO_API_ERROR(false, 502, "카카오 API 호출 중 오류가 발생했습니다."),
     INTERNAL_SERVER_ERROR(false, 500, "서버에서 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
@@ -0,0 +1,18 @@
+package com.picktory.common.cache;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 영역 이름
+ * 엔티티의 @Cache(region = ...)와 캐시 설정 / 메트릭이 같은 이름을 쓰도록 한 곳에 모아 둔다.
+ * 2차 캐시는 인스턴스(JVM)마다 따로 있으므로 거의 바뀌지 않는 사용자만 캐시한다.
+ */
+public final class CacheRegions {
+
+    public static final String USER = "picktory.user";
+
+    public static final List<String> ENTITY_REGIONS = List.of(USER);
+
+    private CacheRegions() {
+    }
+}
@@ -4,6 +4,7 @@ import com.picktory.common.BaseResponse;
 import com.picktory.common.BaseResponseStatus;
 import com.picktory.common.exception.BaseException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -49,6 +50,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(new BaseResponse<>(false, HttpStatus.BAD_REQUEST.value(), errorMessage));
     }
 
+    /**
+     * 409 Conflict - 낙관적 락 충돌 (동시 수정)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<BaseResponse<?>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("동시 수정 충돌 발생: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new BaseResponse<>(BaseResponseStatus.BUNDLE_VERSION_CONFLICT));
+    }
+
     /**
      * 500 Internal Server Error - 알 수 없는 서버 오류
      */
@@ -0,0 +1,9 @@
+package com.picktory.common.id;
+
+/**
+ * 엔티티 ID 생성 전략
+ */
+public interface IdGenerator {
+
+    long nextId();
+}
@@ -0,0 +1,99 @@
+package com.picktory.common.id;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식 ID 생성기 (53비트, JavaScript Number로 안전하게 표현 가능)
+ * [41비트: 기준 시각 이후 ms][5비트: 노드 ID][7비트: ms당 시퀀스]
+ * - 약 69년, 노드 32대, 노드당 ms당 128개
+ * - 시계가 조금(5ms 이하) 뒤로 가면 따라잡을 때까지 기다리고, 그 이상이면 발급을 거부한다.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    static final long EPOCH = 1735689600000L; // 2025-01-01T00:00:00Z
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    static final int TIMESTAMP_BITS = 41;
+
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    static final long MAX_ELAPSED = (1L << TIMESTAMP_BITS) - 1;
+    static final long MAX_BACKWARD_DRIFT_MS = 5;
+
+    private static final int NODE_SHIFT = SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + NODE_BITS;
+
+    private static final Map<Integer, SnowflakeIdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 노드별 공유 생성기 (모든 테이블이 같은 시퀀스를 사용해 ID가 전역적으로 유일)
+     */
+    public static SnowflakeIdGenerator forNode(int nodeId) {
+        return GENERATORS.computeIfAbsent(nodeId, id -> new SnowflakeIdGenerator(id, System::currentTimeMillis));
+    }
+
+    /**
+     * epochMillis 시각 이후에 발급된 ID보다 항상 작거나 같은 값
+     * (ID 범위로 "이 시각 이전에 발급된 행"을 고를 때 사용)
+     */
+    public static long minIdAt(long epochMillis) {
+        long elapsed = Math.min(Math.max(epochMillis - EPOCH, 0L), MAX_ELAPSED);
+        return elapsed << TIMESTAMP_SHIFT;
+    }
+
+    @Override
+    public synchronized long nextId() {
+        long now = clock.getAsLong();
+
+        if (now < lastTimestamp) {
+            long drift = lastTimestamp - now;
+            if (drift > MAX_BACKWARD_DRIFT_MS) {
+                throw new IllegalStateException("시스템 시계가 " + drift + "ms 뒤로 이동하여 ID를 발급할 수 없습니다.");
+            }
+            now = waitUntil(lastTimestamp);
+        }
+
+        if (now == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                // 이번 ms의 시퀀스를 모두 사용함
+                now = waitUntil(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastTimestamp = now;
+
+        long elapsed = now - EPOCH;
+        if (elapsed < 0 || elapsed > MAX_ELAPSED) {
+            throw new IllegalStateException("ID 생성 가능 시간 범위를 벗어났습니다: " + now);
+        }
+        return (elapsed << TIMESTAMP_SHIFT) | (nodeId << NODE_SHIFT) | sequence;
+    }
+
+    private long waitUntil(long targetTimestamp) {
+        long now = clock.getAsLong();
+        while (now < targetTimestamp) {
+            Thread.onSpinWait();
+            now = clock.getAsLong();
+        }
+        return now;
+    }
+}
@@ -0,0 +1,43 @@
+package com.picktory.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * @SnowflakeId 용 Hibernate IdentifierGenerator
+ * 노드 ID는 Hibernate 설정 picktory.id.node-id 로 지정한다. (spring.jpa.properties.picktory.id.node-id)
+ * 지정하지 않으면 여러 인스턴스가 같은 노드 ID로 ID를 발급할 수 있으므로 기본값 없이 기동을 실패시킨다.
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "picktory.id.node-id";
+
+    private final IdGenerator idGenerator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        ConfigurationService configurationService = context.getServiceRegistry().getService(ConfigurationService.class);
+        String nodeId = configurationService.getSetting(NODE_ID_SETTING, StandardConverters.STRING);
+        this.idGenerator = SnowflakeIdGenerator.forNode(parseNodeId(nodeId));
+    }
+
+    static int parseNodeId(String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalStateException(NODE_ID_SETTING + " 설정이 없습니다. 인스턴스마다 다른 PICKTORY_NODE_ID를 지정하세요.");
+        }
+        try {
+            return Integer.parseInt(nodeId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(NODE_ID_SETTING + " 설정은 숫자여야 합니다 (PICKTORY_NODE_ID 미지정 여부 확인): " + nodeId, e);
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return idGenerator.nextId();
+    }
+}
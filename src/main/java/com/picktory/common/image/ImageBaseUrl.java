@@ -0,0 +1,20 @@
+package com.picktory.common.image;
+
+/**
+ * CloudFront 도메인으로 이미지 기준 URL(https://{domain}/) 생성
+ */
+public final class ImageBaseUrl {
+
+    private ImageBaseUrl() {
+    }
+
+    /**
+     * @return 도메인이 비어 있으면 null (URL 변환 없음)
+     */
+    public static String of(String cloudFrontDomain) {
+        if (cloudFrontDomain == null || cloudFrontDomain.isBlank()) {
+            return null;
+        }
+        return "https://" + cloudFrontDomain + "/";
+    }
+}
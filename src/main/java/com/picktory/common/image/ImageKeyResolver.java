@@ -0,0 +1,26 @@
+package com.picktory.common.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 URL -> 저장용 객체 키 변환
+ * CDN 기준 URL로 시작하면 도메인을 뗀 S3 객체 키(gifts/users/...)로 저장하고,
+ * 외부 URL은 그대로 둔다. 응답 시에는 {@link ImageUrlSerializer}가 다시 전체 URL로 만든다.
+ */
+@Component
+public class ImageKeyResolver {
+
+    private final String baseUrl;
+
+    public ImageKeyResolver(@Value("${aws.cloudfront.domain:}") String cloudFrontDomain) {
+        this.baseUrl = ImageBaseUrl.of(cloudFrontDomain);
+    }
+
+    public String toKey(String imageUrl) {
+        if (baseUrl != null && imageUrl != null && imageUrl.startsWith(baseUrl)) {
+            return imageUrl.substring(baseUrl.length());
+        }
+        return imageUrl;
+    }
+}
@@ -0,0 +1,33 @@
+package com.picktory.common.image;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 응답 이미지 URL 표현 방식
+ * ABSOLUTE: 전체 CloudFront URL (기본), RELATIVE: 객체 키만 내려주고 도메인은 X-Image-Base-Url 헤더로 한 번만 전달
+ */
+public enum ImageUrlMode {
+    ABSOLUTE,
+    RELATIVE;
+
+    public static final String REQUEST_HEADER = "X-Image-Url-Mode";
+    public static final String BASE_URL_HEADER = "X-Image-Base-Url";
+    static final String REQUEST_ATTRIBUTE = ImageUrlMode.class.getName();
+
+    /**
+     * 현재 요청의 표현 방식 (요청 밖이거나 지정하지 않았으면 ABSOLUTE)
+     */
+    public static ImageUrlMode current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return ABSOLUTE;
+        }
+        Object mode = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return mode instanceof ImageUrlMode imageUrlMode ? imageUrlMode : ABSOLUTE;
+    }
+
+    static ImageUrlMode fromHeader(String value) {
+        return "relative".equalsIgnoreCase(value) ? RELATIVE : ABSOLUTE;
+    }
+}
@@ -0,0 +1,35 @@
+package com.picktory.common.image;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * X-Image-Url-Mode: relative 요청이면 응답 이미지 URL을 객체 키로 줄이고,
+ * 기준 URL은 X-Image-Base-Url 헤더로 한 번만 내려준다.
+ */
+@Component
+public class ImageUrlModeInterceptor implements HandlerInterceptor {
+
+    private final String baseUrl;
+
+    public ImageUrlModeInterceptor(@Value("${aws.cloudfront.domain:}") String cloudFrontDomain) {
+        this.baseUrl = ImageBaseUrl.of(cloudFrontDomain);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 같은 URL이라도 헤더에 따라 본문이 달라지므로 공유 캐시가 구분하도록
+        response.addHeader(HttpHeaders.VARY, ImageUrlMode.REQUEST_HEADER);
+
+        ImageUrlMode mode = ImageUrlMode.fromHeader(request.getHeader(ImageUrlMode.REQUEST_HEADER));
+        if (mode == ImageUrlMode.RELATIVE && baseUrl != null) {
+            request.setAttribute(ImageUrlMode.REQUEST_ATTRIBUTE, mode);
+            response.setHeader(ImageUrlMode.BASE_URL_HEADER, baseUrl);
+        }
+        return true;
+    }
+}
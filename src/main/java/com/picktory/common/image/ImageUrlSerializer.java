@@ -0,0 +1,40 @@
+package com.picktory.common.image;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * 이미지 URL 필드 직렬화
+ * ObjectMapper 공유 속성의 CDN 기준 URL(BASE_URL_ATTRIBUTE)을 기준으로
+ * ABSOLUTE 모드는 전체 URL을, RELATIVE 모드는 기준 URL을 뗀 객체 키를 쓴다.
+ * 모드는 직렬화 속성(MODE_ATTRIBUTE) -> 현재 요청 순으로 정한다.
+ */
+public class ImageUrlSerializer extends StdSerializer<String> {
+
+    public static final String BASE_URL_ATTRIBUTE = "picktory.image.base-url";
+    public static final String MODE_ATTRIBUTE = "picktory.image.url-mode";
+
+    public ImageUrlSerializer() {
+        super(String.class);
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        String baseUrl = (String) provider.getAttribute(BASE_URL_ATTRIBUTE);
+        Object mode = provider.getAttribute(MODE_ATTRIBUTE);
+        gen.writeString(render(value, baseUrl, mode instanceof ImageUrlMode imageUrlMode ? imageUrlMode : ImageUrlMode.current()));
+    }
+
+    static String render(String stored, String baseUrl, ImageUrlMode mode) {
+        if (baseUrl == null || baseUrl.isEmpty()) {
+            return stored;
+        }
+        if (mode == ImageUrlMode.RELATIVE) {
+            return stored.startsWith(baseUrl) ? stored.substring(baseUrl.length()) : stored;
+        }
+        return stored.startsWith("http://") || stored.startsWith("https://") ? stored : baseUrl + stored;
+    }
+}
@@ -0,0 +1,77 @@
+package com.picktory.common.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 배치 실행 권한 (scheduler_locks 행 하나를 임대)
+ * 여러 인스턴스가 같은 @Scheduled 작업을 돌리더라도 임대를 가진 한 인스턴스만 실행한다.
+ * 임대는 leaseTime 뒤 만료되므로 잠근 인스턴스가 죽어도 다음 주기에 다른 인스턴스가 이어받는다.
+ * 각 문장은 자동 커밋으로 바로 반영되어야 하므로 트랜잭션 밖에서 호출한다.
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    private static final String ACQUIRE =
+            "UPDATE scheduler_locks SET locked_until = ?, locked_by = ? "
+                    + "WHERE name = ? AND (locked_until <= ? OR locked_by = ?)";
+
+    private static final String INSERT =
+            "INSERT INTO scheduler_locks (name, locked_until, locked_by) VALUES (?, ?, ?)";
+
+    private static final String RELEASE =
+            "UPDATE scheduler_locks SET locked_until = ? WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner;
+
+    @Autowired
+    public SchedulerLock(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, hostName() + ":" + UUID.randomUUID());
+    }
+
+    public SchedulerLock(JdbcTemplate jdbcTemplate, String owner) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = owner;
+    }
+
+    /**
+     * 임대를 얻으면 true (이미 가진 인스턴스가 다시 요청하면 기간을 연장)
+     */
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp lockedUntil = Timestamp.valueOf(now.plus(leaseTime));
+        if (jdbcTemplate.update(ACQUIRE, lockedUntil, owner, name, Timestamp.valueOf(now), owner) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT, name, lockedUntil, owner) > 0;
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 임대 중
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        jdbcTemplate.update(RELEASE, Timestamp.valueOf(LocalDateTime.now()), name, owner);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
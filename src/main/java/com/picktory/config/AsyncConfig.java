@@ -0,0 +1,52 @@
+package com.picktory.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 커밋 후 후속 작업(@TransactionalEventListener + @Async) 실행기
+ * 큐 크기를 제한하고, 가득 차면 버리지 않고 이벤트를 발행한 스레드에서 직접 실행한다. (발행하는 쪽이 느려지는 대신 이벤트가 유실되지 않는다)
+ * 스레드 / 큐 사용량은 Actuator가 executor.*{name=bundleEventExecutor} 로 노출한다.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String BUNDLE_EVENT_EXECUTOR = "bundleEventExecutor";
+
+    @Bean(name = BUNDLE_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor bundleEventExecutor(
+            @Value("${picktory.bundle.events.core-pool-size:2}") int corePoolSize,
+            @Value("${picktory.bundle.events.max-pool-size:4}") int maxPoolSize,
+            @Value("${picktory.bundle.events.queue-capacity:1000}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("picktory.bundle.events.rejected")
+                .description("큐가 가득 차 발행한 스레드에서 실행된 보따리 이벤트 수")
+                .register(meterRegistry);
+        RejectedExecutionHandler callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("bundle-event-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("보따리 이벤트 큐가 가득 차 발행한 스레드에서 실행합니다 - queue: {}", pool.getQueue().size());
+            callerRuns.rejectedExecution(task, pool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,36 @@
+package com.picktory.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.picktory.common.image.ImageBaseUrl;
+import com.picktory.common.image.ImageUrlSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 설정
+ * Blackbird: getter / 생성자 호출을 리플렉션 대신 LambdaMetafactory로 생성한 코드로 처리해 직렬화 비용을 줄인다.
+ * (Spring Boot가 Module 빈을 기본 ObjectMapper에 자동 등록)
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * 이미지 URL 직렬화({@link ImageUrlSerializer})에서 사용할 CDN 기준 URL
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer imageBaseUrlCustomizer(
+            @Value("${aws.cloudfront.domain:}") String cloudFrontDomain) {
+        String baseUrl = ImageBaseUrl.of(cloudFrontDomain);
+        return builder -> builder.postConfigurer(objectMapper -> objectMapper.setDefaultAttributes(
+                ContextAttributes.getEmpty().withSharedAttribute(ImageUrlSerializer.BASE_URL_ATTRIBUTE, baseUrl)));
+    }
+}
@@ -4,6 +4,7 @@ import com.picktory.domain.auth.jwt.filter.JwtAuthenticationFilter;
 import com.picktory.domain.auth.jwt.filter.JwtExceptionFilter;
 import com.picktory.domain.auth.jwt.handler.JwtAccessDeniedHandler;
 import com.picktory.domain.auth.jwt.handler.JwtAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -52,13 +53,24 @@ public class SecurityConfig {
                 "Content-Type",
                 "Accept",
                 "Authorization",
-                "X-Requested-With"
+                "X-Requested-With",
+                "If-None-Match",
+                "If-Modified-Since",
+                "X-Image-Url-Mode"
+        );
+
+        private final List<String> EXPOSED_HEADERS = List.of(
+                "ETag",
+                "Last-Modified",
+                "X-Image-Base-Url",
+                "Retry-After" // 429 응답의 재시도 대기 시간 (RateLimitInterceptor)
         );
 
         private final List<String> ALLOWED_METHODS = List.of(
                 "GET",
                 "POST",
                 "PUT",
+                "PATCH",
                 "DELETE",
                 "OPTIONS"
         );
@@ -74,6 +86,10 @@ public class SecurityConfig {
         public List<String> getAllowedMethods() {
             return ALLOWED_METHODS;
         }
+
+        public List<String> getExposedHeaders() {
+            return EXPOSED_HEADERS;
+        }
     }
 
     @Bean
@@ -94,6 +110,8 @@ public class SecurityConfig {
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 요청의 완료 디스패치 (인증은 최초 요청에서 끝남)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(getPublicEndpoints()).permitAll()
                         .requestMatchers(CorsUtils::isPreFlightRequest).permitAll()
                         .requestMatchers(getAuthenticatedEndpoints()).authenticated()
@@ -132,7 +150,8 @@ public class SecurityConfig {
                 API_V1 + "bundles/{id}/save",
                 API_V1 + "bundles/{id}/gifts/**",
                 API_V1 + "bundles/{id}/delivery",
-                API_V1 + "bundles/{id}/deliver"
+                API_V1 + "bundles/{id}/deliver",
+                API_V1 + "admin/**"
         };
     }
 
@@ -142,6 +161,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(CorsConfig.INSTANCE.getAllowedOrigins());
         configuration.setAllowedHeaders(CorsConfig.INSTANCE.getAllowedHeaders());
         configuration.setAllowedMethods(CorsConfig.INSTANCE.getAllowedMethods());
+        configuration.setExposedHeaders(CorsConfig.INSTANCE.getExposedHeaders());
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
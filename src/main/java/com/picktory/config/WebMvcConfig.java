@@ -0,0 +1,42 @@
+package com.picktory.config;
+
+import com.picktory.common.image.ImageUrlModeInterceptor;
+import com.picktory.config.ratelimit.RateLimitInterceptor;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // 연결이 끝날 때까지 요청이 끝나지 않는 SSE 스트림
+    static final String BUNDLE_STREAM_PATH = "/api/v1/bundles/stream";
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final ImageUrlModeInterceptor imageUrlModeInterceptor;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns("/api/v1/**");
+        registry.addInterceptor(imageUrlModeInterceptor)
+                .addPathPatterns("/api/v1/**");
+
+        // spring.jpa.open-in-view=false 대신 직접 등록하는 OSIV
+        // 요청 동안 열린 EntityManager는 처음 쓴 DB 커넥션을 요청이 끝날 때까지 쥐고 있으므로,
+        // 최대 timeout까지 열려 있는 스트림은 제외해 커넥션 풀을 점유하지 않게 한다.
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(BUNDLE_STREAM_PATH);
+    }
+
+    private OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        return interceptor;
+    }
+}
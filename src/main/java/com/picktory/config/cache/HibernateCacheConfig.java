@@ -0,0 +1,81 @@
+package com.picktory.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.picktory.common.cache.CacheRegions;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine)
+ * 영역마다 크기 / 만료 시간을 따로 잡는다. (picktory.hibernate-cache.regions.{영역}.max-size / ttl 로 변경 가능)
+ * 캐시는 인스턴스(JVM)마다 따로 있고 다른 인스턴스의 변경은 전달되지 않으므로,
+ * 인증된 요청마다 조회되면서 거의 바뀌지 않는 사용자만 캐시하고 만료 시간을 짧게 둔다.
+ * (보따리 / 선물 / 이미지는 벌크 UPDATE / DELETE가 영역을 통째로 비워 적중률이 낮아 캐시하지 않는다)
+ * 업데이트 타임스탬프 영역은 쿼리 캐시 무효화 기준이므로 만료시키지 않는다.
+ */
+@Slf4j
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final String PROPERTY_PREFIX = "picktory.hibernate-cache.regions.";
+
+    private static final Map<String, RegionSpec> DEFAULT_SPECS = Map.of(
+            CacheRegions.USER, new RegionSpec(10_000, Duration.ofMinutes(1)),
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, new RegionSpec(10_000, Duration.ofMinutes(1))
+    );
+
+    private static final long UPDATE_TIMESTAMPS_MAX_SIZE = 1_000;
+
+    @Bean
+    public CacheManager hibernateCacheManager(Environment environment) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        DEFAULT_SPECS.forEach((region, defaults) -> {
+            long maxSize = environment.getProperty(PROPERTY_PREFIX + region + ".max-size", Long.class, defaults.maxSize());
+            Duration ttl = environment.getProperty(PROPERTY_PREFIX + region + ".ttl", Duration.class, defaults.ttl());
+            createIfAbsent(cacheManager, region, maxSize, ttl);
+        });
+        createIfAbsent(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                UPDATE_TIMESTAMPS_MAX_SIZE, null);
+        return cacheManager;
+    }
+
+    /**
+     * 위에서 만든 CacheManager를 Hibernate JCache 영역 팩토리에 그대로 넘긴다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private void createIfAbsent(CacheManager cacheManager, String region, long maxSize, Duration ttl) {
+        // 기본 CacheManager는 JVM 단위로 공유되므로 (테스트 컨텍스트 재생성 등) 이미 있으면 그대로 사용
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false); // Hibernate가 이미 분해된 상태(CacheEntry)로 넣으므로 복사 불필요
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        cacheManager.createCache(region, configuration);
+        log.info("2차 캐시 영역 생성: region = {}, maxSize = {}, ttl = {}", region, maxSize, ttl);
+    }
+
+    private record RegionSpec(long maxSize, Duration ttl) {
+    }
+}
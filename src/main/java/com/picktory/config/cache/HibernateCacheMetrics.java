@@ -0,0 +1,84 @@
+package com.picktory.config.cache;
+
+import com.picktory.common.cache.CacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 2차 캐시 영역별 메트릭 (hibernate.generate_statistics=true 필요)
+ * - picktory.hibernate.cache.requests{region, result=hit|miss}
+ * - picktory.hibernate.cache.puts{region}
+ * - picktory.hibernate.cache.hit-ratio{region} (누적 기준, 요청이 없으면 NaN)
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            bindRegion(registry, region, statistics, stats -> stats.getDomainDataRegionStatistics(region));
+        }
+        String queryRegion = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+        bindRegion(registry, queryRegion, statistics, stats -> stats.getQueryRegionStatistics(queryRegion));
+    }
+
+    private void bindRegion(MeterRegistry registry, String region, Statistics statistics,
+                            Function<Statistics, CacheRegionStatistics> regionStatistics) {
+        counter(registry, "picktory.hibernate.cache.requests", region, "hit", statistics,
+                count(regionStatistics, CacheRegionStatistics::getHitCount));
+        counter(registry, "picktory.hibernate.cache.requests", region, "miss", statistics,
+                count(regionStatistics, CacheRegionStatistics::getMissCount));
+        counter(registry, "picktory.hibernate.cache.puts", region, null, statistics,
+                count(regionStatistics, CacheRegionStatistics::getPutCount));
+
+        Gauge.builder("picktory.hibernate.cache.hit-ratio", statistics, stats -> hitRatio(regionStatistics.apply(stats)))
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String region, String result, Statistics statistics,
+                         ToDoubleFunction<Statistics> count) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, count)
+                .tag("region", region);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+
+    // 쿼리 캐시 영역 통계는 첫 사용 전까지 null
+    private static ToDoubleFunction<Statistics> count(Function<Statistics, CacheRegionStatistics> regionStatistics,
+                                                      ToLongFunction<CacheRegionStatistics> counter) {
+        return stats -> {
+            CacheRegionStatistics region = regionStatistics.apply(stats);
+            return region == null ? 0 : counter.applyAsLong(region);
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long hits = regionStatistics.getHitCount();
+        long requests = hits + regionStatistics.getMissCount();
+        return requests == 0 ? Double.NaN : (double) hits / requests;
+    }
+}
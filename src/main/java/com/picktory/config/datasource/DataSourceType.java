@@ -0,0 +1,6 @@
+package com.picktory.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
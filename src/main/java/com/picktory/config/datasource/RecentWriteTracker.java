@@ -0,0 +1,93 @@
+package com.picktory.config.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 최근 쓰기 시각 기록 (read-your-writes 보장용)
+ * 쓰기 직후 일정 시간 동안은 해당 사용자의 읽기 전용 트랜잭션도 primary에서 조회하도록 한다.
+ */
+@Component
+public class RecentWriteTracker {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final Map<Long, Long> lastWriteAtByUserId = new ConcurrentHashMap<>();
+    private final Duration window;
+    private final Clock clock;
+
+    public RecentWriteTracker(@Value("${picktory.datasource.read-your-writes-window:5s}") Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    RecentWriteTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    /**
+     * 사용자의 쓰기 기록 (트랜잭션 안이면 커밋 이후 시각 기준)
+     */
+    public void recordWrite(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    touch(userId);
+                }
+            });
+            return;
+        }
+        touch(userId);
+    }
+
+    /**
+     * 사용자가 최근에 쓰기를 했는지 여부
+     */
+    public boolean hasRecentWrite(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long lastWriteAt = lastWriteAtByUserId.get(userId);
+        return lastWriteAt != null && clock.millis() - lastWriteAt < window.toMillis();
+    }
+
+    /**
+     * 현재 인증된 사용자가 최근에 쓰기를 했는지 여부
+     */
+    public boolean hasRecentWriteByCurrentUser() {
+        return hasRecentWrite(currentUserId());
+    }
+
+    private void touch(Long userId) {
+        long now = clock.millis();
+        lastWriteAtByUserId.put(userId, now);
+        if (lastWriteAtByUserId.size() > CLEANUP_THRESHOLD) {
+            lastWriteAtByUserId.values().removeIf(lastWriteAt -> now - lastWriteAt >= window.toMillis());
+        }
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(authentication.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
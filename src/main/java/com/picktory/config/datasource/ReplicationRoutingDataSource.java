@@ -0,0 +1,28 @@
+package com.picktory.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 그 외는 primary로 라우팅
+ * 트랜잭션 속성이 확정된 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final RecentWriteTracker recentWriteTracker;
+
+    public ReplicationRoutingDataSource(RecentWriteTracker recentWriteTracker) {
+        this.recentWriteTracker = recentWriteTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (readOnly && !recentWriteTracker.hasRecentWriteByCurrentUser()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
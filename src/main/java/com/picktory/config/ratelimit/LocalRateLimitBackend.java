@@ -0,0 +1,93 @@
+package com.picktory.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 인스턴스 로컬 토큰 버킷
+ * 키마다 불변 상태(남은 토큰, 충전 시각)를 AtomicReference에 두고 CAS로 갱신해 락 없이 동작한다.
+ * 버킷은 최대 maxKeys개까지만 Caffeine 캐시에 두고, 가장 긴 충전 주기 동안 쓰이지 않으면(= 가득 찬 상태) 만료시킨다.
+ */
+@Component
+@ConditionalOnProperty(name = "picktory.rate-limit.backend", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitBackend implements RateLimitBackend {
+
+    /**
+     * 이 시간 동안 쓰이지 않은 버킷은 어떤 정책이든 가득 차 있으므로 지워도 결과가 같다.
+     */
+    static final Duration IDLE_EXPIRY = Arrays.stream(RateLimitPolicy.values())
+            .map(RateLimitPolicy::getRefillPeriod)
+            .max(Duration::compareTo)
+            .orElseThrow();
+
+    private final Cache<String, AtomicReference<Bucket>> buckets;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public LocalRateLimitBackend(@Value("${picktory.rate-limit.max-keys:100000}") int maxKeys,
+                                 MeterRegistry meterRegistry) {
+        this(maxKeys, System::nanoTime);
+        Gauge.builder("picktory.rate-limit.keys", buckets, Cache::estimatedSize)
+                .description("메모리에 유지 중인 요청 제한 버킷 수")
+                .register(meterRegistry);
+    }
+
+    LocalRateLimitBackend(int maxKeys, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(IDLE_EXPIRY)
+                .ticker(nanoClock::getAsLong)
+                .build();
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        long now = nanoClock.getAsLong();
+        AtomicReference<Bucket> reference = buckets.get(key, k -> new AtomicReference<>(Bucket.full(policy, now)));
+
+        while (true) {
+            Bucket current = reference.get();
+            Bucket refilled = current.refill(policy, now);
+            if (refilled.tokens < 1) {
+                double missing = 1 - refilled.tokens;
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis((long) Math.ceil(missing / policy.getTokensPerNano())));
+            }
+            if (reference.compareAndSet(current, new Bucket(refilled.tokens - 1, refilled.refilledAtNanos))) {
+                return 0;
+            }
+        }
+    }
+
+    long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private record Bucket(double tokens, long refilledAtNanos) {
+
+        static Bucket full(RateLimitPolicy policy, long now) {
+            return new Bucket(policy.getCapacity(), now);
+        }
+
+        Bucket refill(RateLimitPolicy policy, long now) {
+            if (now <= refilledAtNanos) {
+                return this; // 다른 스레드가 더 늦은 시각으로 이미 충전함
+            }
+            double tokens = Math.min(policy.getCapacity(), this.tokens + (now - refilledAtNanos) * policy.getTokensPerNano());
+            return new Bucket(tokens, now);
+        }
+    }
+}
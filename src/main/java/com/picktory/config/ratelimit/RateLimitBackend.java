@@ -0,0 +1,16 @@
+package com.picktory.config.ratelimit;
+
+/**
+ * 토큰 버킷 저장소
+ * 기본은 인스턴스 로컬 메모리({@link LocalRateLimitBackend})이며,
+ * 여러 인스턴스가 한도를 공유해야 하면 picktory.rate-limit.backend 값으로 다른 구현을 선택한다.
+ */
+public interface RateLimitBackend {
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @return 허용되면 0, 거부되면 다음 토큰까지 기다려야 하는 시간(ms)
+     */
+    long tryAcquire(String key, RateLimitPolicy policy);
+}
@@ -0,0 +1,104 @@
+package com.picktory.config.ratelimit;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * {@link RateLimited}가 붙은 핸들러에 토큰 버킷 요청 제한 적용
+ * 한도를 넘으면 Retry-After 헤더와 함께 429(TOO_MANY_REQUESTS)로 응답한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String LINK_VARIABLE = "link";
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final RateLimitBackend rateLimitBackend;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${picktory.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 앞단 프록시 수 (CloudFront -> ALB면 2)
+     * X-Forwarded-For의 오른쪽 끝부터 이 수만큼이 신뢰할 수 있는 프록시가 붙인 값이며, 그보다 왼쪽은 클라이언트가 위조할 수 있다.
+     */
+    @Value("${picktory.rate-limit.trusted-proxies:0}")
+    private int trustedProxies;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return true;
+        }
+
+        RateLimitPolicy policy = rateLimited.value();
+        String key = policy.name() + ":" + resolveKey(policy, request);
+        long retryAfterMillis = rateLimitBackend.tryAcquire(key, policy);
+        if (retryAfterMillis == 0) {
+            return true;
+        }
+
+        meterRegistry.counter("picktory.rate-limit.rejected", "policy", policy.name()).increment();
+        log.warn("요청 제한 초과: key = {}, retryAfter = {}ms", key, retryAfterMillis);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000));
+        throw new BaseException(BaseResponseStatus.TOO_MANY_REQUESTS);
+    }
+
+    private String resolveKey(RateLimitPolicy policy, HttpServletRequest request) {
+        return switch (policy.getKeyType()) {
+            case USER -> {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                if (authentication != null && authentication.isAuthenticated()
+                        && !(authentication instanceof AnonymousAuthenticationToken)) {
+                    yield "user:" + authentication.getName();
+                }
+                yield "ip:" + clientIp(request);
+            }
+            case IP -> "ip:" + clientIp(request);
+            case LINK_CLIENT -> "link:" + pathVariable(request, LINK_VARIABLE) + ":ip:" + clientIp(request);
+        };
+    }
+
+    /**
+     * 요청 IP (프록시 뒤에서는 getRemoteAddr()가 프록시 주소라 모든 요청이 한 버킷을 쓰게 된다)
+     * 신뢰하는 프록시가 붙인 X-Forwarded-For 항목 중 가장 왼쪽 = 첫 번째 프록시가 본 클라이언트 주소를 사용한다.
+     */
+    String clientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (trustedProxies <= 0 || forwardedFor == null || forwardedFor.isBlank()) {
+            return request.getRemoteAddr();
+        }
+        String[] addresses = forwardedFor.split(",");
+        String address = addresses[Math.max(0, addresses.length - trustedProxies)].trim();
+        return address.isEmpty() ? request.getRemoteAddr() : address;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String pathVariable(HttpServletRequest request, String name) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables == null ? "" : variables.getOrDefault(name, "");
+    }
+}
@@ -0,0 +1,37 @@
+package com.picktory.config.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 엔드포인트별 토큰 버킷 정책
+ * capacity: 순간적으로 허용하는 최대 요청 수, refillPeriod: 비어 있는 버킷이 가득 차는 데 걸리는 시간
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitPolicy {
+
+    BUNDLE_CREATE(KeyType.USER, 10, Duration.ofMinutes(1)),
+    IMAGE_UPLOAD(KeyType.USER, 30, Duration.ofMinutes(1)),
+    LINK_VIEW(KeyType.IP, 120, Duration.ofMinutes(1)),
+    LINK_ANSWER(KeyType.LINK_CLIENT, 5, Duration.ofMinutes(1));
+
+    private final KeyType keyType;
+    private final int capacity;
+    private final Duration refillPeriod;
+
+    /**
+     * 나노초당 충전되는 토큰 수
+     */
+    public double getTokensPerNano() {
+        return (double) capacity / refillPeriod.toNanos();
+    }
+
+    public enum KeyType {
+        USER, // 인증된 사용자 ID (비로그인 요청은 IP)
+        IP,   // 요청 IP
+        LINK_CLIENT // 배달 링크 경로 변수 + 요청 IP (한 사람이 링크를 막지 못하도록 링크 안에서도 요청자별로 나눔)
+    }
+}
@@ -0,0 +1,57 @@
+package com.picktory.domain.analytics.controller;
+
+import com.picktory.common.BaseResponse;
+import com.picktory.domain.analytics.dto.DailyTagStatsResponse;
+import com.picktory.domain.analytics.dto.PurchaseDomainTagStatsResponse;
+import com.picktory.domain.analytics.service.ResponseTagAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 관리자용 답변 태그 집계 API (picktory.admin.user-ids에 등록된 사용자만 조회 가능)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/analytics")
+public class AnalyticsAdminController {
+
+    private final ResponseTagAnalyticsService responseTagAnalyticsService;
+
+    /**
+     * 구매처 도메인별 답변 태그 집계 API
+     *
+     * @param from         시작일 (포함)
+     * @param to           종료일 (포함)
+     * @param minResponses 최소 답변 수
+     * @param limit        최대 도메인 수
+     */
+    @GetMapping("/response-tags/domains")
+    public ResponseEntity<BaseResponse<List<PurchaseDomainTagStatsResponse>>> getPurchaseDomainStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int minResponses,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<PurchaseDomainTagStatsResponse> response =
+                responseTagAnalyticsService.getPurchaseDomainStats(from, to, minResponses, limit);
+        return ResponseEntity.ok(BaseResponse.success(response, "구매처별 답변 태그 집계 조회 성공"));
+    }
+
+    /**
+     * 일자별 답변 태그 집계 API
+     *
+     * @param from 시작일 (포함)
+     * @param to   종료일 (포함)
+     */
+    @GetMapping("/response-tags/daily")
+    public ResponseEntity<BaseResponse<List<DailyTagStatsResponse>>> getDailyStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<DailyTagStatsResponse> response = responseTagAnalyticsService.getDailyStats(from, to);
+        return ResponseEntity.ok(BaseResponse.success(response, "일자별 답변 태그 집계 조회 성공"));
+    }
+}
@@ -0,0 +1,18 @@
+package com.picktory.domain.analytics.dto;
+
+import com.picktory.domain.gift.enums.GiftResponseTag;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyTagStatsResponse {
+    private LocalDate date;
+    private long totalCount;
+    private Map<GiftResponseTag, Long> tagCounts; // 응답 태그별 답변 수
+}
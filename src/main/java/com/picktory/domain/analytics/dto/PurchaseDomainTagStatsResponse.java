@@ -0,0 +1,18 @@
+package com.picktory.domain.analytics.dto;
+
+import com.picktory.domain.gift.enums.GiftResponseTag;
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PurchaseDomainTagStatsResponse {
+    private String purchaseDomain; // 정규화된 도메인, 구매처 없음 (none) / 잘못된 URL (invalid) / 선물 삭제됨 (deleted)
+    private long totalCount;
+    private double positiveRate; // (GREAT + GOOD) / 전체 답변 수
+    private Map<GiftResponseTag, Long> tagCounts; // 응답 태그별 답변 수
+}
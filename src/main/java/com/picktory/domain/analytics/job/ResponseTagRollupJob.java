@@ -0,0 +1,57 @@
+package com.picktory.domain.analytics.job;
+
+import com.picktory.common.id.SnowflakeIdGenerator;
+import com.picktory.domain.analytics.service.ResponseTagRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 답변 태그 증분 집계 배치
+ * 워터마크 이후 답변을 batchSize씩 각각 별도 트랜잭션으로 집계하고, 한 번에 max-batches-per-run 배치까지만 처리한다.
+ * Snowflake ID는 노드마다 발급 시각 순이지만 커밋 순서는 다를 수 있으므로,
+ * commit-lag보다 최근에 발급된 ID는 늦게 커밋되는 더 작은 ID를 놓치지 않도록 다음 주기로 미룬다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseTagRollupJob {
+
+    private final ResponseTagRollupService responseTagRollupService;
+
+    @Value("${picktory.analytics.response-tag-rollup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${picktory.analytics.response-tag-rollup.commit-lag:1m}")
+    private Duration commitLag;
+
+    @Value("${picktory.analytics.response-tag-rollup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${picktory.analytics.response-tag-rollup.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${picktory.analytics.response-tag-rollup.interval-ms:60000}")
+    public void rollup() {
+        if (!enabled) {
+            return;
+        }
+
+        long beforeId = SnowflakeIdGenerator.minIdAt(System.currentTimeMillis() - commitLag.toMillis());
+        int responseCount = 0;
+        int batchCount = 0;
+        int rolledUp;
+        while (batchCount < maxBatchesPerRun && (rolledUp = responseTagRollupService.rollupBatch(beforeId, batchSize)) > 0) {
+            responseCount += rolledUp;
+            batchCount++;
+        }
+
+        if (responseCount > 0) {
+            log.info("답변 태그 집계 완료 - 답변 {}개 ({}개 배치)", responseCount, batchCount);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.picktory.domain.analytics.repository;
+
+import com.picktory.domain.gift.enums.GiftResponseTag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 답변 태그 집계 저장소
+ * 원본 답변은 ID 범위로만 읽고, 집계 테이블은 UPSERT로 누적한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResponseTagRollupRepository {
+
+    private static final String FIND_WATERMARK_FOR_UPDATE =
+            "SELECT last_id FROM analytics_watermarks WHERE name = ? FOR UPDATE";
+
+    private static final String UPDATE_WATERMARK =
+            "UPDATE analytics_watermarks SET last_id = ?, updated_at = ? WHERE name = ?";
+
+    // 선물만 지워진 답변(보따리 삭제 등)도 태그는 집계하도록 LEFT JOIN (g.id가 NULL이면 선물 삭제됨)
+    private static final String SELECT_RESPONSES =
+            "SELECT r.id, r.response_tag, r.created_at, g.id AS gift_id, g.purchase_url "
+                    + "FROM responses r LEFT JOIN gifts g ON g.id = r.gift_id ";
+
+    private static final String FIND_RESPONSES =
+            SELECT_RESPONSES + "WHERE r.id > ? AND r.id < ? ORDER BY r.id LIMIT ?";
+
+    private static final String FIND_RESPONSES_BY_BUNDLE_IDS =
+            SELECT_RESPONSES + "WHERE r.bundle_id IN (%s) AND r.id > ?";
+
+    // VALUES()는 H2 MySQL 모드와 MySQL 8.x 모두에서 동작한다 (행 별칭 AS new는 H2가 해석하지 못함)
+    private static final String UPSERT =
+            "INSERT INTO response_tag_rollups (stat_date, purchase_domain, response_tag, response_count) VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE response_count = response_count + VALUES(response_count)";
+
+    private static final String FIND_DOMAIN_TAG_COUNTS =
+            "SELECT purchase_domain, response_tag, SUM(response_count) AS response_count FROM response_tag_rollups "
+                    + "WHERE stat_date BETWEEN ? AND ? GROUP BY purchase_domain, response_tag";
+
+    private static final String FIND_DAILY_TAG_COUNTS =
+            "SELECT stat_date, response_tag, SUM(response_count) AS response_count FROM response_tag_rollups "
+                    + "WHERE stat_date BETWEEN ? AND ? GROUP BY stat_date, response_tag ORDER BY stat_date";
+
+    private static final RowMapper<ResponseRow> RESPONSE_ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        rs.getLong("gift_id");
+        boolean giftDeleted = rs.wasNull();
+        return new ResponseRow(
+                rs.getLong("id"),
+                GiftResponseTag.valueOf(rs.getString("response_tag")),
+                createdAt != null ? createdAt.toLocalDateTime().toLocalDate() : null,
+                giftDeleted,
+                rs.getString("purchase_url"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 워터마크 조회 (행 잠금으로 여러 인스턴스가 같은 구간을 중복 집계하지 않게 함)
+     */
+    public long findWatermarkForUpdate(String name) {
+        Long lastId = jdbcTemplate.queryForObject(FIND_WATERMARK_FOR_UPDATE, Long.class, name);
+        return lastId != null ? lastId : 0L;
+    }
+
+    public void updateWatermark(String name, long lastId) {
+        jdbcTemplate.update(UPDATE_WATERMARK, lastId, Timestamp.valueOf(LocalDateTime.now()), name);
+    }
+
+    /**
+     * afterId 초과, beforeId 미만 답변을 ID 순으로 limit개 조회
+     */
+    public List<ResponseRow> findResponses(long afterId, long beforeId, int limit) {
+        return jdbcTemplate.query(FIND_RESPONSES, RESPONSE_ROW_MAPPER, afterId, beforeId, limit);
+    }
+
+    /**
+     * 보따리들의 답변 중 afterId 초과 답변 조회 (보관 / 탈퇴 회원 삭제 직전 집계용)
+     */
+    public List<ResponseRow> findResponsesByBundleIdIn(Collection<Long> bundleIds, long afterId) {
+        if (bundleIds.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(bundleIds.size(), "?"));
+        Object[] args = Stream.concat(bundleIds.stream(), Stream.of(afterId)).toArray();
+        return jdbcTemplate.query(FIND_RESPONSES_BY_BUNDLE_IDS.formatted(placeholders), RESPONSE_ROW_MAPPER, args);
+    }
+
+    public void addAll(List<RollupDelta> deltas) {
+        jdbcTemplate.batchUpdate(UPSERT, deltas.stream()
+                .map(delta -> new Object[]{
+                        Date.valueOf(delta.statDate()), delta.purchaseDomain(), delta.responseTag().name(), delta.count()})
+                .toList());
+    }
+
+    public List<DomainTagCount> findDomainTagCounts(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(FIND_DOMAIN_TAG_COUNTS, (rs, rowNum) -> new DomainTagCount(
+                rs.getString("purchase_domain"),
+                GiftResponseTag.valueOf(rs.getString("response_tag")),
+                rs.getLong("response_count")), Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public List<DailyTagCount> findDailyTagCounts(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(FIND_DAILY_TAG_COUNTS, (rs, rowNum) -> new DailyTagCount(
+                rs.getDate("stat_date").toLocalDate(),
+                GiftResponseTag.valueOf(rs.getString("response_tag")),
+                rs.getLong("response_count")), Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public record ResponseRow(long id, GiftResponseTag responseTag, LocalDate statDate, boolean giftDeleted,
+                              String purchaseUrl) {
+    }
+
+    public record RollupDelta(LocalDate statDate, String purchaseDomain, GiftResponseTag responseTag, long count) {
+    }
+
+    public record DomainTagCount(String purchaseDomain, GiftResponseTag responseTag, long count) {
+    }
+
+    public record DailyTagCount(LocalDate statDate, GiftResponseTag responseTag, long count) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.picktory.domain.analytics.service;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.config.auth.AuthenticationService;
+import com.picktory.domain.analytics.dto.DailyTagStatsResponse;
+import com.picktory.domain.analytics.dto.PurchaseDomainTagStatsResponse;
+import com.picktory.domain.analytics.repository.ResponseTagRollupRepository;
+import com.picktory.domain.analytics.repository.ResponseTagRollupRepository.DailyTagCount;
+import com.picktory.domain.analytics.repository.ResponseTagRollupRepository.DomainTagCount;
+import com.picktory.domain.gift.enums.GiftResponseTag;
+import com.picktory.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 답변 태그 집계 조회 (관리자 전용)
+ * 원본 답변 테이블은 읽지 않고 ResponseTagRollupJob이 누적한 집계 테이블만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResponseTagAnalyticsService {
+
+    private static final long MAX_PERIOD_DAYS = 366;
+    private static final Set<GiftResponseTag> POSITIVE_TAGS = Set.of(GiftResponseTag.GREAT, GiftResponseTag.GOOD);
+
+    private final AuthenticationService authenticationService;
+    private final ResponseTagRollupRepository responseTagRollupRepository;
+
+    @Value("${picktory.admin.user-ids:}")
+    private Set<Long> adminUserIds;
+
+    /**
+     * 구매처 도메인별 반응 (긍정 비율 높은 순, 같으면 답변 많은 순)
+     *
+     * @param minResponses 이보다 답변이 적은 도메인은 비율이 의미 없으므로 제외
+     */
+    @Transactional(readOnly = true)
+    public List<PurchaseDomainTagStatsResponse> getPurchaseDomainStats(LocalDate from, LocalDate to,
+                                                                       int minResponses, int limit) {
+        requireAdmin();
+        validatePeriod(from, to);
+
+        Map<String, List<DomainTagCount>> countsByDomain = responseTagRollupRepository.findDomainTagCounts(from, to).stream()
+                .collect(Collectors.groupingBy(DomainTagCount::purchaseDomain));
+
+        return countsByDomain.entrySet().stream()
+                .map(entry -> {
+                    Map<GiftResponseTag, Long> tagCounts = emptyTagCounts();
+                    entry.getValue().forEach(count -> tagCounts.merge(count.responseTag(), count.count(), Long::sum));
+                    long total = sum(tagCounts);
+                    long positive = POSITIVE_TAGS.stream().mapToLong(tagCounts::get).sum();
+                    return PurchaseDomainTagStatsResponse.builder()
+                            .purchaseDomain(entry.getKey())
+                            .totalCount(total)
+                            .positiveRate(total == 0 ? 0.0 : (double) positive / total)
+                            .tagCounts(tagCounts)
+                            .build();
+                })
+                .filter(stats -> stats.getTotalCount() >= minResponses)
+                .sorted(Comparator.comparingDouble(PurchaseDomainTagStatsResponse::getPositiveRate).reversed()
+                        .thenComparing(Comparator.comparingLong(PurchaseDomainTagStatsResponse::getTotalCount).reversed()))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 일자별 태그 분포
+     */
+    @Transactional(readOnly = true)
+    public List<DailyTagStatsResponse> getDailyStats(LocalDate from, LocalDate to) {
+        requireAdmin();
+        validatePeriod(from, to);
+
+        Map<LocalDate, Map<GiftResponseTag, Long>> countsByDate = new TreeMap<>();
+        for (DailyTagCount count : responseTagRollupRepository.findDailyTagCounts(from, to)) {
+            countsByDate.computeIfAbsent(count.statDate(), date -> emptyTagCounts())
+                    .merge(count.responseTag(), count.count(), Long::sum);
+        }
+
+        return countsByDate.entrySet().stream()
+                .map(entry -> DailyTagStatsResponse.builder()
+                        .date(entry.getKey())
+                        .totalCount(sum(entry.getValue()))
+                        .tagCounts(entry.getValue())
+                        .build())
+                .toList();
+    }
+
+    private void requireAdmin() {
+        User currentUser = authenticationService.getAuthenticatedUser();
+        if (adminUserIds == null || !adminUserIds.contains(currentUser.getId())) {
+            throw new BaseException(BaseResponseStatus.FORBIDDEN);
+        }
+    }
+
+    private void validatePeriod(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_PERIOD_DAYS) {
+            throw new BaseException(BaseResponseStatus.VALIDATION_ERROR);
+        }
+    }
+
+    private Map<GiftResponseTag, Long> emptyTagCounts() {
+        Map<GiftResponseTag, Long> tagCounts = new EnumMap<>(GiftResponseTag.class);
+        for (GiftResponseTag tag : GiftResponseTag.values()) {
+            tagCounts.put(tag, 0L);
+        }
+        return tagCounts;
+    }
+
+    private long sum(Map<GiftResponseTag, Long> tagCounts) {
+        return tagCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
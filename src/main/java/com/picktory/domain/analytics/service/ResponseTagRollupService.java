@@ -0,0 +1,143 @@
+package com.picktory.domain.analytics.service;
+
+import com.picktory.domain.analytics.repository.ResponseTagRollupRepository;
+import com.picktory.domain.analytics.repository.ResponseTagRollupRepository.ResponseRow;
+import com.picktory.domain.analytics.repository.ResponseTagRollupRepository.RollupDelta;
+import com.picktory.domain.gift.enums.GiftResponseTag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 답변 태그 증분 집계
+ * 워터마크 이후 새로 들어온 답변만 ID 순으로 읽어 (일자, 구매처 도메인, 태그)별 건수를 누적한다.
+ * 집계 누적과 워터마크 이동이 한 트랜잭션이므로 같은 답변이 두 번 더해지거나 빠지지 않는다.
+ * 답변을 지우는 작업(보따리 보관, 탈퇴 회원 삭제)은 지우기 전에 rollupBeforeDelete로 아직 집계되지 않은 답변을 먼저 더한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResponseTagRollupService {
+
+    public static final String WATERMARK = "response_tag_rollup";
+
+    public static final String NO_DOMAIN = "(none)";
+    public static final String INVALID_DOMAIN = "(invalid)";
+    public static final String DELETED_GIFT = "(deleted)";
+
+    private static final int MAX_DOMAIN_LENGTH = 255;
+    private static final List<String> HOST_PREFIXES = List.of("www.", "m.", "mobile.");
+
+    private final ResponseTagRollupRepository responseTagRollupRepository;
+
+    /**
+     * 워터마크 이후, beforeId 미만 답변을 batchSize개까지 집계
+     *
+     * @param beforeId 이 ID 이상인 답변은 아직 커밋되지 않은 이전 ID가 있을 수 있어 다음 주기로 미룬다
+     * @return 반영한 답변 수 (0이면 더 집계할 답변이 없음)
+     */
+    @Transactional
+    public int rollupBatch(long beforeId, int batchSize) {
+        long lastId = responseTagRollupRepository.findWatermarkForUpdate(WATERMARK);
+        List<ResponseRow> responses = responseTagRollupRepository.findResponses(lastId, beforeId, batchSize);
+        if (responses.isEmpty()) {
+            return 0;
+        }
+
+        int rollupRows = addCounts(responses);
+        responseTagRollupRepository.updateWatermark(WATERMARK, responses.get(responses.size() - 1).id());
+
+        log.debug("답변 태그 집계 - 답변 {}개, 집계 행 {}개", responses.size(), rollupRows);
+        return responses.size();
+    }
+
+    /**
+     * 보따리들의 답변을 지우기 전에 아직 집계되지 않은(워터마크 이후) 답변을 집계에 더한다.
+     * 구매처를 읽을 수 있도록 선물을 지우기 전에, 답변을 지우는 트랜잭션 안에서 호출해야 한다.
+     * 워터마크 행을 잠가 증분 집계와 겹치지 않게 하고, 워터마크는 옮기지 않는다. (지워진 답변은 증분 집계가 읽지 않는다)
+     *
+     * @return 집계에 더한 답변 수
+     */
+    @Transactional
+    public int rollupBeforeDelete(Collection<Long> bundleIds) {
+        if (bundleIds.isEmpty()) {
+            return 0;
+        }
+        long lastId = responseTagRollupRepository.findWatermarkForUpdate(WATERMARK);
+        List<ResponseRow> responses = responseTagRollupRepository.findResponsesByBundleIdIn(bundleIds, lastId);
+        addCounts(responses);
+        return responses.size();
+    }
+
+    /**
+     * @return 누적한 집계 행 수
+     */
+    private int addCounts(List<ResponseRow> responses) {
+        Map<RollupKey, Long> counts = new LinkedHashMap<>();
+        for (ResponseRow response : responses) {
+            // 생성 시각이 없는 행은 일자를 알 수 없어 집계하지 않는다
+            if (response.statDate() == null) {
+                continue;
+            }
+            String purchaseDomain = response.giftDeleted() ? DELETED_GIFT : normalizeDomain(response.purchaseUrl());
+            counts.merge(new RollupKey(response.statDate(), purchaseDomain, response.responseTag()), 1L, Long::sum);
+        }
+
+        if (!counts.isEmpty()) {
+            responseTagRollupRepository.addAll(counts.entrySet().stream()
+                    .map(entry -> new RollupDelta(entry.getKey().statDate(), entry.getKey().purchaseDomain(),
+                            entry.getKey().responseTag(), entry.getValue()))
+                    .toList());
+        }
+        return counts.size();
+    }
+
+    /**
+     * 구매 링크를 호스트 단위로 정규화 (소문자, www. / m. / mobile. 제거)
+     * 사용자가 붙여넣은 링크는 공백 / 한글이 섞여 URI로 파싱되지 않는 경우가 많아 호스트 부분만 직접 잘라낸다.
+     */
+    private String normalizeDomain(String purchaseUrl) {
+        if (purchaseUrl == null || purchaseUrl.isBlank()) {
+            return NO_DOMAIN;
+        }
+        String host = purchaseUrl.strip();
+        int schemeEnd = host.indexOf("://");
+        if (schemeEnd >= 0) {
+            host = host.substring(schemeEnd + 3);
+        }
+        host = cutAt(host, "/?#");
+        host = host.substring(host.lastIndexOf('@') + 1);
+        host = cutAt(host, ":").toLowerCase(Locale.ROOT);
+        if (host.isBlank() || !host.contains(".") || host.chars().anyMatch(Character::isWhitespace)) {
+            return INVALID_DOMAIN;
+        }
+
+        for (String prefix : HOST_PREFIXES) {
+            if (host.startsWith(prefix)) {
+                host = host.substring(prefix.length());
+                break;
+            }
+        }
+        return host.length() > MAX_DOMAIN_LENGTH ? host.substring(0, MAX_DOMAIN_LENGTH) : host;
+    }
+
+    private String cutAt(String value, String delimiters) {
+        for (int i = 0; i < value.length(); i++) {
+            if (delimiters.indexOf(value.charAt(i)) >= 0) {
+                return value.substring(0, i);
+            }
+        }
+        return value;
+    }
+
+    private record RollupKey(LocalDate statDate, String purchaseDomain, GiftResponseTag responseTag) {
+    }
+}
@@ -3,8 +3,11 @@ package com.picktory.domain.auth.controller;
 import com.picktory.common.BaseResponseStatus;
 import com.picktory.common.exception.BaseException;
 import com.picktory.common.BaseResponse;
+import com.picktory.config.auth.AuthenticationService;
+import com.picktory.domain.auth.dto.StreamTokenDto;
 import com.picktory.domain.user.dto.UserLoginRequest;
 import com.picktory.domain.user.dto.UserLoginResponse;
+import com.picktory.domain.user.entity.User;
 import com.picktory.domain.auth.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthenticationService authenticationService;
 
     /**
      * 카카오 소셜 로그인 API
@@ -65,4 +69,17 @@ public class AuthController {
                     .body(new BaseResponse<>(BaseResponseStatus.SERVER_ERROR));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 보따리 상태 스트림 토큰 발급 API
+     * EventSource는 Authorization 헤더를 보낼 수 없으므로 GET /api/v1/bundles/stream?token=... 으로 연결한다.
+     *
+     * @return 스트림 연결 전용 토큰 (1분 유효)
+     */
+    @PostMapping("/auth/stream-token")
+    public ResponseEntity<BaseResponse<StreamTokenDto>> issueStreamToken() {
+        User currentUser = authenticationService.getAuthenticatedUser();
+        StreamTokenDto response = authService.issueStreamToken(currentUser.getId());
+        return ResponseEntity.ok(BaseResponse.success(response, "스트림 토큰 발급 성공"));
+    }
+}
@@ -0,0 +1,17 @@
+package com.picktory.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * SSE 스트림 연결 전용 단기 토큰
+ * EventSource는 Authorization 헤더를 보낼 수 없어 쿼리 파라미터(token)로 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class StreamTokenDto {
+    private String token;
+    private Date expiresIn;
+}
@@ -1,5 +1,6 @@
 package com.picktory.domain.auth.jwt;
 
+import com.picktory.domain.auth.dto.StreamTokenDto;
 import com.picktory.domain.auth.dto.TokenDto;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -23,6 +24,9 @@ public class JwtTokenProvider {
 
     private static final long ACCESS_TOKEN_VALIDITY = 24 * 60 * 60 * 1000L; // 24시간
     private static final long REFRESH_TOKEN_VALIDITY = 7 * 24 * 60 * 60 * 1000L; // 7일
+    private static final long STREAM_TOKEN_VALIDITY = 60 * 1000L; // 1분 (연결 시점에만 검증하므로 짧게)
+    private static final String SCOPE_CLAIM = "scope";
+    private static final String STREAM_SCOPE = "bundle-stream";
     private static final String BEARER_PREFIX = "Bearer ";
     private static final String ROLE_USER = "ROLE_USER";
 
@@ -54,6 +58,33 @@ public class JwtTokenProvider {
         return TokenDto.of(BEARER_PREFIX, accessToken, refreshToken, accessTokenExpiresIn);
     }
 
+    /**
+     * 보따리 상태 스트림(SSE) 연결에만 쓰는 토큰 - 쿼리 파라미터로 노출되므로 유효기간을 짧게 두고 scope로 용도를 제한한다.
+     */
+    public StreamTokenDto generateStreamToken(Long userId) {
+        Date now = new Date();
+        Date expiresIn = new Date(now.getTime() + STREAM_TOKEN_VALIDITY);
+
+        String streamToken = Jwts.builder()
+                .setSubject(userId.toString())
+                .claim(SCOPE_CLAIM, STREAM_SCOPE)
+                .setIssuedAt(now)
+                .setExpiration(expiresIn)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        return new StreamTokenDto(streamToken, expiresIn);
+    }
+
+    public boolean isStreamToken(String token) {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return STREAM_SCOPE.equals(claims.get(SCOPE_CLAIM, String.class));
+    }
+
     public String getUserId(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(key)
@@ -28,6 +28,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    // EventSource는 헤더를 보낼 수 없어 이 경로에서만 쿼리 파라미터의 스트림 토큰을 받는다
+    private static final String BUNDLE_STREAM_PATH = "/api/v1/bundles/stream";
+    private static final String STREAM_TOKEN_PARAM = "token";
+
     // 필터링하지 않을 공개 경로 목록
     private static final List<String> PUBLIC_PATHS = Arrays.asList(
             "/",
@@ -56,11 +60,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String token = parseJwt(request);
+        boolean fromQuery = false;
+        if (token == null && isBundleStream(request)) {
+            token = request.getParameter(STREAM_TOKEN_PARAM);
+            fromQuery = token != null;
+        }
         log.debug("JWT Token present: {}", token != null);
 
         if (token != null) {
             try {
-                if (jwtTokenProvider.validateToken(token)) {
+                // 스트림 토큰은 쿼리로만, 일반 토큰은 헤더로만 받는다 (그 외에는 인증하지 않아 401)
+                if (jwtTokenProvider.validateToken(token) && jwtTokenProvider.isStreamToken(token) == fromQuery) {
                     Authentication auth = jwtTokenProvider.getAuthentication(token);
                     SecurityContextHolder.getContext().setAuthentication(auth);
                     log.debug("Valid token processed for user: {}", auth.getName());
@@ -75,6 +85,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean isBundleStream(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) && BUNDLE_STREAM_PATH.equals(request.getServletPath());
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(headerAuth) && headerAuth.startsWith(BEARER_PREFIX)) {
@@ -2,7 +2,9 @@ package com.picktory.domain.auth.service;
 
 import com.picktory.common.exception.BaseException;
 import com.picktory.common.BaseResponseStatus;
+import com.picktory.config.datasource.RecentWriteTracker;
 import com.picktory.domain.auth.jwt.JwtTokenProvider;
+import com.picktory.domain.auth.dto.StreamTokenDto;
 import com.picktory.domain.auth.dto.TokenDto;
 import com.picktory.domain.auth.oauth.client.KakaoClient;
 import com.picktory.domain.auth.oauth.dto.KakaoUserInfo;
@@ -31,6 +33,7 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
     private final RefreshTokenService refreshTokenService;
+    private final RecentWriteTracker recentWriteTracker;
 
     /**
      * 카카오 소셜 로그인을 처리합니다.
@@ -53,6 +56,7 @@ public class AuthService {
 
             // 3. 사용자 정보 조회 또는 생성
             User user = findOrCreateUser(kakaoUserInfo);
+            recentWriteTracker.recordWrite(user.getId());
 
             // 4. JWT 토큰 발급
             TokenDto tokenDto = jwtTokenProvider.generateToken(user.getId());
@@ -123,6 +127,16 @@ public class AuthService {
         }
     }
 
+    /**
+     * 보따리 상태 스트림(SSE) 연결용 단기 토큰을 발급합니다.
+     *
+     * @param userId 로그인한 사용자 ID
+     * @return 스트림 토큰 (1분 유효)
+     */
+    public StreamTokenDto issueStreamToken(Long userId) {
+        return jwtTokenProvider.generateStreamToken(userId);
+    }
+
     /**
      * 카카오 사용자 정보를 기반으로 사용자를 조회하거나 생성합니다.
      *
@@ -0,0 +1,22 @@
+package com.picktory.domain.bundle.cache;
+
+import java.util.function.Supplier;
+
+/**
+ * 보낸 사람 쪽 보따리 조회 화면(간이 조회 / 임시 저장 선물 / 개별 선물) 캐시
+ * 권한 검사는 호출하는 쪽에서 캐시 조회 전에 끝내야 한다.
+ * 구현: local(Caffeine, 인스턴스별), none(캐시 안 함). 공유 저장소 구현은 같은 인터페이스로 추가한다.
+ */
+public interface BundleViewCache {
+
+    /**
+     * 캐시된 화면 반환, 없으면 loader로 만들어 저장
+     * 같은 키를 동시에 조회하면 한 요청만 loader를 실행하고 나머지는 그 결과를 기다린다.
+     */
+    <T> T get(BundleViewKey key, Supplier<T> loader);
+
+    /**
+     * 보따리의 모든 화면 제거 (수정 / 삭제 / 배달 / 답변 완료)
+     */
+    void evict(Long bundleId);
+}
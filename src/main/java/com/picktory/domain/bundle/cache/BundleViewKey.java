@@ -0,0 +1,28 @@
+package com.picktory.domain.bundle.cache;
+
+import com.picktory.domain.bundle.entity.Bundle;
+
+/**
+ * 보따리 조회 화면 캐시 키
+ * 보따리 버전이 키에 포함되므로, 보따리가 바뀌면(버전 증가) 이전 화면은 다시 조회되지 않는다.
+ */
+public record BundleViewKey(Long bundleId, Long version, View view, Long giftId) {
+
+    public enum View {
+        SUMMARY,     // 보따리 간이 조회
+        DRAFT_GIFTS, // 임시 저장 선물 목록
+        GIFT_DETAIL  // 개별 선물
+    }
+
+    public static BundleViewKey summary(Bundle bundle) {
+        return new BundleViewKey(bundle.getId(), bundle.getVersion(), View.SUMMARY, null);
+    }
+
+    public static BundleViewKey draftGifts(Bundle bundle) {
+        return new BundleViewKey(bundle.getId(), bundle.getVersion(), View.DRAFT_GIFTS, null);
+    }
+
+    public static BundleViewKey giftDetail(Bundle bundle, Long giftId) {
+        return new BundleViewKey(bundle.getId(), bundle.getVersion(), View.GIFT_DETAIL, giftId);
+    }
+}
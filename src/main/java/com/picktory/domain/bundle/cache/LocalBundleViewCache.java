@@ -0,0 +1,107 @@
+package com.picktory.domain.bundle.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 인스턴스 메모리 캐시 (Caffeine)
+ * 보따리 단위로 최신 버전의 화면들만 묶어 두므로, 보따리 수 기준으로 크기를 제한하고 제거도 한 번에 한다.
+ * 화면은 요청 스레드(호출한 쪽 트랜잭션)에서 만들고, 같은 화면을 기다리는 요청은 진행 중인 결과를 함께 받는다.
+ */
+@Component
+@ConditionalOnProperty(name = "picktory.bundle.view-cache.type", havingValue = "local", matchIfMissing = true)
+public class LocalBundleViewCache implements BundleViewCache {
+
+    private final Cache<Long, BundleViews> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter waits;
+
+    public LocalBundleViewCache(@Value("${picktory.bundle.view-cache.max-bundles:5000}") long maxBundles,
+                                @Value("${picktory.bundle.view-cache.expire-after-access:10m}") Duration expireAfterAccess,
+                                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxBundles)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.waits = requests(meterRegistry, "wait");
+        Gauge.builder("picktory.bundle.view-cache.size", cache, Cache::estimatedSize)
+                .description("화면이 캐시된 보따리 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(BundleViewKey key, Supplier<T> loader) {
+        BundleViews views = cache.asMap().compute(key.bundleId(), (bundleId, current) ->
+                current == null || current.version() < key.version() ? new BundleViews(key.version()) : current);
+        if (!views.version().equals(key.version())) {
+            // 이미 더 새 버전이 캐시되어 있으면 (지연된 replica 조회 등) 캐시하지 않는다
+            misses.increment();
+            return loader.get();
+        }
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> existing = views.entries().putIfAbsent(key, loading);
+        if (existing != null) {
+            (existing.isDone() ? hits : waits).increment();
+            return (T) join(existing);
+        }
+
+        misses.increment();
+        try {
+            T value = loader.get();
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            // 실패는 캐시하지 않음 (기다리던 요청은 같은 예외를 받는다)
+            views.entries().remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void evict(Long bundleId) {
+        cache.invalidate(bundleId);
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("picktory.bundle.view-cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record BundleViews(Long version, Map<BundleViewKey, CompletableFuture<Object>> entries) {
+
+        BundleViews(Long version) {
+            this(version, new ConcurrentHashMap<>());
+        }
+    }
+}
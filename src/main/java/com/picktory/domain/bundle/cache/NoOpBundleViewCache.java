@@ -0,0 +1,23 @@
+package com.picktory.domain.bundle.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 캐시 비활성화 (picktory.bundle.view-cache.type=none)
+ */
+@Component
+@ConditionalOnProperty(name = "picktory.bundle.view-cache.type", havingValue = "none")
+public class NoOpBundleViewCache implements BundleViewCache {
+
+    @Override
+    public <T> T get(BundleViewKey key, Supplier<T> loader) {
+        return loader.get();
+    }
+
+    @Override
+    public void evict(Long bundleId) {
+    }
+}
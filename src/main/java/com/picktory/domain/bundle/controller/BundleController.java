@@ -1,8 +1,11 @@
 package com.picktory.domain.bundle.controller;
 
 import com.picktory.common.BaseResponse;
+import com.picktory.common.image.ImageUrlMode;
 
 import com.picktory.config.auth.AuthenticationService;
+import com.picktory.config.ratelimit.RateLimitPolicy;
+import com.picktory.config.ratelimit.RateLimited;
 import com.picktory.domain.bundle.dto.*;
 
 import com.picktory.domain.bundle.dto.BundleDeliveryRequest;
@@ -10,30 +13,42 @@ import com.picktory.domain.bundle.dto.BundleRequest;
 import com.picktory.domain.bundle.dto.BundleResponse;
 import com.picktory.domain.bundle.dto.BundleUpdateRequest;
 
+import com.picktory.domain.bundle.service.BundleDraftService;
 import com.picktory.domain.bundle.service.BundleService;
+import com.picktory.domain.bundle.service.BundleStatusStreamService;
 import com.picktory.domain.gift.dto.DraftGiftsResponse;
 import com.picktory.domain.gift.dto.GiftDetailResponse;
 import com.picktory.domain.user.entity.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/bundles")
 @RequiredArgsConstructor
 public class BundleController {
 
+    private static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final BundleService bundleService;
+    private final BundleDraftService bundleDraftService;
+    private final BundleStatusStreamService bundleStatusStreamService;
     private final AuthenticationService authenticationService;
 
     /**
      * 보따리 최초 생성 API
      */
     @PostMapping
+    @RateLimited(RateLimitPolicy.BUNDLE_CREATE)
     public ResponseEntity<BundleResponse> createBundle(@Valid @RequestBody BundleRequest request) {
         BundleResponse response = bundleService.createBundle(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -51,6 +66,18 @@ public class BundleController {
         return ResponseEntity.ok(new BaseResponse<>(response));
     }
 
+    /**
+     * 보따리 자동 저장 API (임시 저장 상태에서 변경분만 반영)
+     */
+    @PatchMapping("/{bundleId}/draft")
+    public ResponseEntity<BaseResponse<BundleDraftPatchResponse>> patchDraft(
+            @PathVariable Long bundleId,
+            @Valid @RequestBody BundleDraftPatchRequest request
+    ) {
+        BundleDraftPatchResponse response = bundleDraftService.patchDraft(bundleId, request);
+        return ResponseEntity.ok(new BaseResponse<>(response));
+    }
+
 
     /**
      * 보따리 목록 조회 API
@@ -62,14 +89,34 @@ public class BundleController {
         return ResponseEntity.ok(new BaseResponse<>(bundles));
     }
 
+    /**
+     * 내 보따리 상태 실시간 스트림 API (SSE)
+     * 배달 / 답변 완료 시 "bundle-status" 이벤트를 보낸다. (상태 확인을 위한 폴링 대신 사용)
+     * 헤더를 보낼 수 없는 EventSource는 POST /api/v1/auth/stream-token 으로 받은 토큰을 ?token= 으로 전달한다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBundleStatus() {
+        User currentUser = authenticationService.getAuthenticatedUser();
+        return bundleStatusStreamService.subscribe(currentUser.getId());
+    }
+
     /**
 
      * 보따리 메인 목록 조회 API (최신 8개)
      */
     @GetMapping("/main")
-    public ResponseEntity<BaseResponse<List<BundleMainListResponse>>> getMainBundles() {
+    public ResponseEntity<BaseResponse<List<BundleMainListResponse>>> getMainBundles(WebRequest webRequest) {
+        BundleListFreshness freshness = bundleService.getMainBundlesFreshness();
+        if (webRequest.checkNotModified(freshness.getETag(), freshness.getLastModified())) {
+            return null;
+        }
+
         List<BundleMainListResponse> bundles = bundleService.getUserMainBundles();
-        return ResponseEntity.ok(new BaseResponse<>(bundles));
+        return ResponseEntity.ok()
+                .cacheControl(PRIVATE_REVALIDATE)
+                .eTag(freshness.getETag())
+                .lastModified(freshness.getLastModified())
+                .body(new BaseResponse<>(bundles));
     }
 
     /**
@@ -84,7 +131,8 @@ public class BundleController {
             @PathVariable Long id,
             @Valid @RequestBody BundleDeliveryRequest request
     ) {
-        return ResponseEntity.ok(bundleService.updateDeliveryCharacter(id, request));
+        BundleResponse response = bundleService.updateDeliveryCharacter(id, request);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -120,17 +168,40 @@ public class BundleController {
      * 임시 저장된 보따리의 선물 목록 조회 API
      */
     @GetMapping("/{id}/gifts")
-    public ResponseEntity<DraftGiftsResponse> getDraftGifts(@PathVariable Long id) {
-        return ResponseEntity.ok(bundleService.getDraftGifts(id));
+    public ResponseEntity<DraftGiftsResponse> getDraftGifts(@PathVariable Long id, WebRequest webRequest) {
+        Optional<BundleFreshness> freshness = bundleService.getOwnedBundleFreshness(id);
+        if (isNotModified(webRequest, freshness)) {
+            return null;
+        }
+        return okWithValidators(freshness).body(bundleService.getDraftGifts(id));
     }
   
     /**
      * 보따리 조회 API (간이 조회)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<BaseResponse<BundleSummaryResponse>> getBundle(@PathVariable Long id) {
+    public ResponseEntity<BaseResponse<BundleSummaryResponse>> getBundle(@PathVariable Long id, WebRequest webRequest) {
+        Optional<BundleFreshness> freshness = bundleService.getOwnedBundleFreshness(id);
+        if (isNotModified(webRequest, freshness)) {
+            bundleService.markAsReadIfUnread(freshness.get());
+            return null;
+        }
         BundleSummaryResponse response = bundleService.getBundle(id);
-        return ResponseEntity.ok(new BaseResponse<>(response));
+        return okWithValidators(freshness).body(new BaseResponse<>(response));
+    }
+
+    /**
+     * ETag / Last-Modified 사전 검사 (일치하면 304 응답이 설정됨)
+     */
+    private boolean isNotModified(WebRequest webRequest, Optional<BundleFreshness> freshness) {
+        return freshness.isPresent()
+                && webRequest.checkNotModified(freshness.get().getETag(ImageUrlMode.current()), freshness.get().getLastModified());
+    }
+
+    private ResponseEntity.BodyBuilder okWithValidators(Optional<BundleFreshness> freshness) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(PRIVATE_REVALIDATE);
+        freshness.ifPresent(f -> builder.eTag(f.getETag(ImageUrlMode.current())).lastModified(f.getLastModified()));
+        return builder;
     }
 }
 
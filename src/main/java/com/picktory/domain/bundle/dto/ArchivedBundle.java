@@ -0,0 +1,19 @@
+package com.picktory.domain.bundle.dto;
+
+import com.picktory.domain.bundle.enums.DesignType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 보따리 목록용 요약 (archived_bundles의 payload 제외 컬럼)
+ */
+public record ArchivedBundle(
+        Long bundleId,
+        Long userId,
+        String name,
+        DesignType designType,
+        int giftCount,
+        int respondedCount,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,33 @@
+package com.picktory.domain.bundle.dto;
+
+import com.picktory.domain.bundle.enums.DeliveryCharacterType;
+import com.picktory.domain.gift.enums.GiftResponseTag;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보관된 보따리 본문 (archived_bundles.payload, gzip JSON)
+ * 이미지는 URL이 아닌 객체 키로 저장하고, 응답 시 ImageUrlSerializer가 CDN URL로 바꾼다.
+ */
+public record BundleArchivePayload(
+        String link,
+        DeliveryCharacterType deliveryCharacterType,
+        LocalDateTime publishedAt,
+        Map<GiftResponseTag, Integer> tagCounts,
+        List<ArchivedGift> gifts
+) {
+
+    public record ArchivedGift(
+            Long id,
+            String name,
+            String message,
+            String purchaseUrl,
+            GiftResponseTag responseTag,
+            String responseMessage,
+            String thumbnail,
+            List<String> images
+    ) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.picktory.domain.bundle.dto;
+
+import com.picktory.domain.bundle.enums.DraftOperationType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 임시 저장 변경분 요청 (자동 저장용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BundleDraftPatchRequest {
+
+    @NotNull(message = "sequence는 필수입니다.")
+    @Positive
+    private Long sequence; // 클라이언트가 증가시키는 자동 저장 순번 (이미 반영된 순번 이하면 무시)
+
+    private Long version; // 클라이언트가 알고 있는 보따리 버전 (불일치 시 409)
+
+    @Valid
+    @NotEmpty(message = "변경 사항이 비어있습니다.")
+    private List<Operation> operations;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Operation {
+
+        @NotNull
+        private DraftOperationType type;
+
+        private Long giftId;        // UPDATE_GIFT, REMOVE_GIFT, ADD_IMAGE, REMOVE_IMAGE
+        private String tempId;      // ADD_GIFT - 응답에서 실제 선물 ID와 매핑
+        private String giftTempId;  // ADD_IMAGE - 같은 요청에서 추가한 선물 지정
+
+        private String name;
+        private String message;
+        private String purchaseUrl;
+        private List<String> imageUrls; // ADD_GIFT, ADD_IMAGE, REMOVE_IMAGE
+    }
+}
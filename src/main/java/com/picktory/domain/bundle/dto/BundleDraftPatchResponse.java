@@ -0,0 +1,41 @@
+package com.picktory.domain.bundle.dto;
+
+import com.picktory.domain.bundle.entity.Bundle;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 임시 저장 변경분 반영 결과 (전체 보따리 대신 최소 정보만 반환)
+ */
+@Getter
+@Builder
+public class BundleDraftPatchResponse {
+    private Long bundleId;
+    private Long sequence;   // 서버에 반영된 마지막 순번
+    private Long version;    // 다음 요청에 사용할 보따리 버전
+    private boolean applied; // false면 이미 반영된 순번이라 무시됨
+    private Map<String, Long> createdGiftIds; // tempId -> 선물 ID
+
+    public static BundleDraftPatchResponse applied(Bundle bundle, Map<String, Long> createdGiftIds) {
+        return BundleDraftPatchResponse.builder()
+                .bundleId(bundle.getId())
+                .sequence(bundle.getDraftSequence())
+                .version(bundle.getVersion())
+                .applied(true)
+                .createdGiftIds(createdGiftIds)
+                .build();
+    }
+
+    public static BundleDraftPatchResponse skipped(Bundle bundle) {
+        return BundleDraftPatchResponse.builder()
+                .bundleId(bundle.getId())
+                .sequence(bundle.getDraftSequence())
+                .version(bundle.getVersion())
+                .applied(false)
+                .createdGiftIds(Collections.emptyMap())
+                .build();
+    }
+}
@@ -6,9 +6,13 @@ import com.picktory.domain.bundle.enums.DesignType;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 
 @Getter
 public class BundleDto {
+    protected static final Comparator<BundleDto> LATEST_FIRST =
+            Comparator.comparing(BundleDto::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
     protected Long id;
     protected String name;
     protected DesignType designType;
@@ -24,4 +28,16 @@ public class BundleDto {
         this.status = bundle.getStatus();
         this.isRead = bundle.getIsRead();
     }
+
+    /**
+     * 보관된 보따리 (답변 완료 + 읽음 처리된 보따리만 보관된다)
+     */
+    public BundleDto(ArchivedBundle archivedBundle) {
+        this.id = archivedBundle.bundleId();
+        this.name = archivedBundle.name();
+        this.designType = archivedBundle.designType();
+        this.updatedAt = archivedBundle.updatedAt();
+        this.status = BundleStatus.COMPLETED;
+        this.isRead = true;
+    }
 }
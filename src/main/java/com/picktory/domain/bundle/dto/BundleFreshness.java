@@ -0,0 +1,44 @@
+package com.picktory.domain.bundle.dto;
+
+import com.picktory.common.image.ImageUrlMode;
+import com.picktory.domain.bundle.enums.BundleStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 조회(ETag / Last-Modified) 사전 검사용 보따리 projection
+ */
+public interface BundleFreshness {
+
+    Long getId();
+
+    Long getUserId();
+
+    String getLink();
+
+    BundleStatus getStatus();
+
+    Boolean getIsRead();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getVersion();
+
+    default long getLastModified() {
+        return getUpdatedAt() == null ? 0L : getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    default String getETag() {
+        return getETag(ImageUrlMode.ABSOLUTE);
+    }
+
+    /**
+     * 이미지 URL 표현 방식까지 포함한 ETag
+     * 같은 버전이라도 전체 URL / 객체 키 응답은 본문이 다르므로 강한 ETag를 공유하면 안 된다.
+     */
+    default String getETag(ImageUrlMode imageUrlMode) {
+        String suffix = imageUrlMode == ImageUrlMode.RELATIVE ? "-r" : "";
+        return "\"b" + getId() + "-" + getVersion() + "-" + Long.toHexString(getLastModified()) + suffix + "\"";
+    }
+}
@@ -0,0 +1,49 @@
+package com.picktory.domain.bundle.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 조회 사전 검사용 사용자 보따리 목록 요약 (개수 + 최종 수정 시각)
+ */
+public interface BundleListFreshness {
+
+    Long getBundleCount();
+
+    LocalDateTime getLastUpdatedAt();
+
+    default long getLastModified() {
+        return getLastUpdatedAt() == null ? 0L : getLastUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    default String getETag() {
+        return "\"l" + getBundleCount() + "-" + Long.toHexString(getLastModified()) + "\"";
+    }
+
+    /**
+     * 보관된 보따리 요약을 합친다 (목록에 보관된 보따리도 함께 보이므로 삭제되면 검증값도 바뀌어야 한다)
+     * 보관은 행을 옮기기만 하므로 합계와 최종 수정 시각이 그대로여서 불필요하게 검증값이 바뀌지 않는다.
+     */
+    default BundleListFreshness withArchived(BundleListFreshness archived) {
+        LocalDateTime lastUpdatedAt = getLastUpdatedAt();
+        if (lastUpdatedAt == null
+                || archived.getLastUpdatedAt() != null && archived.getLastUpdatedAt().isAfter(lastUpdatedAt)) {
+            lastUpdatedAt = archived.getLastUpdatedAt();
+        }
+        return of(getBundleCount() + archived.getBundleCount(), lastUpdatedAt);
+    }
+
+    static BundleListFreshness of(Long bundleCount, LocalDateTime lastUpdatedAt) {
+        return new BundleListFreshness() {
+            @Override
+            public Long getBundleCount() {
+                return bundleCount;
+            }
+
+            @Override
+            public LocalDateTime getLastUpdatedAt() {
+                return lastUpdatedAt;
+            }
+        };
+    }
+}
@@ -9,14 +9,40 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Getter
 public class BundleListResponse extends BundleDto {
+    private final int giftCount;
+    private final int respondedCount;
+
     public BundleListResponse(Bundle bundle) {
         super(bundle);
+        this.giftCount = bundle.getStatistics().getGiftCount();
+        this.respondedCount = bundle.getStatistics().getRespondedCount();
+    }
+
+    public BundleListResponse(ArchivedBundle archivedBundle) {
+        super(archivedBundle);
+        this.giftCount = archivedBundle.giftCount();
+        this.respondedCount = archivedBundle.respondedCount();
     }
 
     public static List<BundleListResponse> listFrom(List<Bundle> bundles) {
         return bundles.stream().map(BundleListResponse::new).collect(Collectors.toList());
     }
+
+    /**
+     * 보따리 + 보관된 보따리 (최신 업데이트순)
+     */
+    public static List<BundleListResponse> listFrom(List<Bundle> bundles, List<ArchivedBundle> archivedBundles) {
+        if (archivedBundles.isEmpty()) {
+            return listFrom(bundles);
+        }
+        return Stream.concat(
+                        bundles.stream().map(BundleListResponse::new),
+                        archivedBundles.stream().map(BundleListResponse::new))
+                .sorted(LATEST_FIRST)
+                .collect(Collectors.toList());
+    }
 }
@@ -9,6 +9,7 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Getter
 public class BundleMainListResponse extends BundleDto {
@@ -17,10 +18,29 @@ public class BundleMainListResponse extends BundleDto {
         this.isRead = bundle.getStatus() == BundleStatus.COMPLETED && !bundle.getIsRead() ? false : true;
     }
 
+    public BundleMainListResponse(ArchivedBundle archivedBundle) {
+        super(archivedBundle);
+    }
+
     public static List<BundleMainListResponse> listFrom(List<Bundle> bundles) {
         return bundles.stream()
                 .map(BundleMainListResponse::new)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 보따리 + 보관된 보따리 중 최신 limit개
+     */
+    public static List<BundleMainListResponse> listFrom(List<Bundle> bundles, List<ArchivedBundle> archivedBundles, int limit) {
+        if (archivedBundles.isEmpty()) {
+            return listFrom(bundles);
+        }
+        return Stream.concat(
+                        bundles.stream().map(BundleMainListResponse::new),
+                        archivedBundles.stream().map(BundleMainListResponse::new))
+                .sorted(LATEST_FIRST)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
 }
 
@@ -1,6 +1,7 @@
 package com.picktory.domain.bundle.dto;
 
 import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.entity.BundleStatistics;
 import com.picktory.domain.bundle.enums.BundleStatus;
 import com.picktory.domain.bundle.enums.DeliveryCharacterType;
 import com.picktory.domain.bundle.enums.DesignType;
@@ -38,6 +39,7 @@ public class BundleRequest {
                 .designType(this.designType)
                 .status(BundleStatus.DRAFT)
                 .isRead(false)
+                .statistics(BundleStatistics.ofGiftCount(this.gifts.size()))
                 .build();
     }
 }
@@ -1,5 +1,6 @@
 package com.picktory.domain.bundle.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.picktory.domain.bundle.entity.Bundle;
 import com.picktory.domain.bundle.enums.BundleStatus;
 import com.picktory.domain.bundle.enums.DeliveryCharacterType;
@@ -16,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Getter
 @Builder
 public class BundleResponse {
@@ -31,6 +33,7 @@ public class BundleResponse {
     private LocalDateTime updatedAt;
     private LocalDateTime publishedAt;
     private Boolean isRead;
+    private Long version;
     private List<GiftResponse> gifts;
 
     public static BundleResponse fromEntity(Bundle bundle, List<Gift> gifts, List<GiftImage> images) {
@@ -46,6 +49,7 @@ public class BundleResponse {
                 .updatedAt(bundle.getUpdatedAt())
                 .publishedAt(bundle.getPublishedAt())
                 .isRead(bundle.getIsRead())
+                .version(bundle.getVersion())
                 .gifts(gifts == null ? Collections.emptyList() :
                         gifts.stream()
                                 .map(gift -> GiftResponse.fromEntity(
@@ -1,5 +1,7 @@
 package com.picktory.domain.bundle.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.picktory.common.image.ImageUrlSerializer;
 import com.picktory.domain.gift.entity.Gift;
 import com.picktory.domain.gift.entity.GiftImage;
 import com.picktory.domain.gift.enums.GiftResponseTag;
@@ -12,6 +14,7 @@ public class BundleResultGiftResponse {
     private Long id;
     private String name;
     private String purchaseUrl;
+    @JsonSerialize(using = ImageUrlSerializer.class)
     private String thumbnail; // 대표 이미지 URL
     private GiftResponseTag responseTag;
 
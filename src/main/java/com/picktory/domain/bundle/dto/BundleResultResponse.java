@@ -1,8 +1,10 @@
 package com.picktory.domain.bundle.dto;
 
+import com.picktory.domain.gift.enums.GiftResponseTag;
 import lombok.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -12,4 +14,5 @@ import java.util.List;
 public class BundleResultResponse {
     private Long id;
     private List<BundleResultGiftResponse> gifts;
+    private Map<GiftResponseTag, Integer> tagCounts; // 응답 태그별 선물 수
 }
@@ -0,0 +1,15 @@
+package com.picktory.domain.bundle.dto;
+
+import com.picktory.domain.bundle.enums.BundleStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보따리 상태 실시간 알림 (SSE "bundle-status" 이벤트 본문)
+ */
+public record BundleStatusMessage(Long bundleId, BundleStatus status, LocalDateTime occurredAt) {
+
+    public static BundleStatusMessage of(Long bundleId, BundleStatus status) {
+        return new BundleStatusMessage(bundleId, status, LocalDateTime.now());
+    }
+}
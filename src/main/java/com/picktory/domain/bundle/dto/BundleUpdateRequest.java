@@ -16,6 +16,8 @@ public class BundleUpdateRequest {
     @NotNull
     private Long bundleId;
 
+    private Long version; // 클라이언트가 조회한 보따리 버전 (불일치 시 409)
+
     @NotEmpty(message = "보따리에 포함될 선물 리스트는 최소 2개 이상이어야 합니다.")
     @Size(max = 6, message = "보따리에는 최대 6개의 선물만 포함될 수 있습니다.")
     private List<GiftUpdateRequest> gifts;
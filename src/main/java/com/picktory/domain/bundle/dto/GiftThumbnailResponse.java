@@ -1,5 +1,7 @@
 package com.picktory.domain.bundle.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.picktory.common.image.ImageUrlSerializer;
 import com.picktory.domain.gift.entity.Gift;
 import com.picktory.domain.gift.entity.GiftImage;
 import lombok.Builder;
@@ -9,6 +11,7 @@ import lombok.Getter;
 @Builder
 public class GiftThumbnailResponse {
     private Long id;
+    @JsonSerialize(using = ImageUrlSerializer.class)
     private String thumbnail;
 
     public static GiftThumbnailResponse from(Gift gift, GiftImage primaryImage) {
@@ -3,17 +3,23 @@ package com.picktory.domain.bundle.entity;
 import com.picktory.common.BaseEntity;
 import com.picktory.common.BaseResponseStatus;
 import com.picktory.common.exception.BaseException;
+import com.picktory.common.id.SnowflakeId;
 import com.picktory.domain.bundle.enums.BundleStatus;
 import com.picktory.domain.bundle.enums.DeliveryCharacterType;
 import com.picktory.domain.bundle.enums.DesignType;
+import com.picktory.domain.gift.enums.GiftResponseTag;
 import com.picktory.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 @Entity
-@Table(name = "bundles")
+@Table(name = "bundles", indexes = {
+        @Index(name = "idx_bundles_user_id_created_at", columnList = "user_id, created_at"),
+        @Index(name = "idx_bundles_user_id_updated_at", columnList = "user_id, updated_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -21,7 +27,7 @@ import java.util.UUID;
 public class Bundle extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,7 +46,7 @@ public class Bundle extends BaseEntity {
     private DeliveryCharacterType deliveryCharacterType;
 
     @Column(unique = true)
-    private String link; // 배달용 링크 (없으면 PUBLISHED 불가)
+    private String link; // 배달용 링크 (없으면 PUBLISHED 불가, 신규 18자 / 기존 UUID 36자)
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -52,6 +58,17 @@ public class Bundle extends BaseEntity {
     @Builder.Default
     private Boolean isRead = false;
 
+    @Embedded
+    @Builder.Default
+    private BundleStatistics statistics = BundleStatistics.empty();
+
+    @Version
+    private Long version; // 낙관적 락 버전 (신규 저장 시 0)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long draftSequence = 0L; // 자동 저장 마지막 반영 순번
+
 
     /**
      * 배달부 캐릭터 설정
@@ -106,6 +123,52 @@ public class Bundle extends BaseEntity {
             this.isRead = true;
         }
     }
+    /**
+     * 선물 수 통계 갱신 (생성/임시 저장 시)
+     */
+    public void updateGiftCount(int giftCount) {
+        this.statistics = this.statistics.withGiftCount(giftCount);
+    }
+
+    /**
+     * 클라이언트가 보고 수정한 버전과 현재 버전이 다르면 충돌
+     * (버전을 보내지 않는 이전 클라이언트는 flush 시점의 @Version 검사에 맡긴다)
+     */
+    public void verifyVersion(Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(this.version)) {
+            throw new BaseException(BaseResponseStatus.BUNDLE_VERSION_CONFLICT);
+        }
+    }
+
+    /**
+     * 자동 저장 순번 반영 (이미 반영된 순번 이하면 false - 재전송/순서 뒤바뀐 요청)
+     */
+    public boolean acceptDraftSequence(long sequence) {
+        if (this.status != BundleStatus.DRAFT) {
+            throw new BaseException(BaseResponseStatus.INVALID_BUNDLE_STATUS_FOR_DRAFT);
+        }
+        if (sequence <= this.draftSequence) {
+            return false;
+        }
+        this.draftSequence = sequence;
+        touch();
+        return true;
+    }
+
+    /**
+     * 선물 구성 변경 시 수정 시각 갱신 (조건부 조회 ETag에 반영)
+     */
+    public void markGiftsModified() {
+        touch();
+    }
+
+    /**
+     * 답변 통계 반영 (답변 제출 시)
+     */
+    public void recordResponses(Collection<GiftResponseTag> responseTags) {
+        this.statistics = this.statistics.withResponses(responseTags);
+    }
+
     private void validateDeliveryCharacter(DeliveryCharacterType type) {
         if (type == null) {
             throw new BaseException(BaseResponseStatus.INVALID_CHARACTER_TYPE);
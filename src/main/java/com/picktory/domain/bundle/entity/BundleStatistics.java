@@ -0,0 +1,96 @@
+package com.picktory.domain.bundle.entity;
+
+import com.picktory.domain.gift.enums.GiftResponseTag;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 보따리 선물 통계 (선물 수, 답변 수, 응답 태그 분포) 캐시 컬럼
+ * gifts 테이블을 다시 세지 않고 목록/결과 화면에서 바로 사용한다.
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BundleStatistics {
+
+    @Column(nullable = false)
+    private int giftCount;
+
+    @Column(nullable = false)
+    private int respondedCount;
+
+    @Column(nullable = false)
+    private int greatCount;
+
+    @Column(nullable = false)
+    private int goodCount;
+
+    @Column(nullable = false)
+    private int alreadyHaveCount;
+
+    @Column(nullable = false)
+    private int notSureCount;
+
+    @Column(nullable = false)
+    private int notMyStyleCount;
+
+    public static BundleStatistics empty() {
+        return new BundleStatistics();
+    }
+
+    public static BundleStatistics ofGiftCount(int giftCount) {
+        BundleStatistics statistics = new BundleStatistics();
+        statistics.giftCount = giftCount;
+        return statistics;
+    }
+
+    public static BundleStatistics of(int giftCount, int respondedCount, Map<GiftResponseTag, Integer> tagCounts) {
+        return new BundleStatistics(
+                giftCount,
+                respondedCount,
+                tagCounts.getOrDefault(GiftResponseTag.GREAT, 0),
+                tagCounts.getOrDefault(GiftResponseTag.GOOD, 0),
+                tagCounts.getOrDefault(GiftResponseTag.ALREADY_HAVE, 0),
+                tagCounts.getOrDefault(GiftResponseTag.NOT_SURE, 0),
+                tagCounts.getOrDefault(GiftResponseTag.NOT_MY_STYLE, 0)
+        );
+    }
+
+    /**
+     * 선물 수 변경 (임시 저장 시 선물 추가/삭제)
+     */
+    BundleStatistics withGiftCount(int giftCount) {
+        return new BundleStatistics(giftCount, respondedCount,
+                greatCount, goodCount, alreadyHaveCount, notSureCount, notMyStyleCount);
+    }
+
+    /**
+     * 답변 반영 (태그별 카운트 증가)
+     */
+    BundleStatistics withResponses(Collection<GiftResponseTag> responseTags) {
+        Map<GiftResponseTag, Integer> tagCounts = getTagCounts();
+        responseTags.forEach(tag -> tagCounts.merge(tag, 1, Integer::sum));
+        return of(giftCount, respondedCount + responseTags.size(), tagCounts);
+    }
+
+    public Map<GiftResponseTag, Integer> getTagCounts() {
+        Map<GiftResponseTag, Integer> tagCounts = new EnumMap<>(GiftResponseTag.class);
+        tagCounts.put(GiftResponseTag.GREAT, greatCount);
+        tagCounts.put(GiftResponseTag.GOOD, goodCount);
+        tagCounts.put(GiftResponseTag.ALREADY_HAVE, alreadyHaveCount);
+        tagCounts.put(GiftResponseTag.NOT_SURE, notSureCount);
+        tagCounts.put(GiftResponseTag.NOT_MY_STYLE, notMyStyleCount);
+        return tagCounts;
+    }
+}
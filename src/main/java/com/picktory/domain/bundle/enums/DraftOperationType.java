@@ -0,0 +1,9 @@
+package com.picktory.domain.bundle.enums;
+
+public enum DraftOperationType {
+    ADD_GIFT,
+    UPDATE_GIFT,
+    REMOVE_GIFT,
+    ADD_IMAGE,
+    REMOVE_IMAGE
+}
@@ -0,0 +1,7 @@
+package com.picktory.domain.bundle.event;
+
+/**
+ * 답변 완료(PUBLISHED -> COMPLETED) 커밋 후 이벤트
+ */
+public record BundleCompletedEvent(Long bundleId, Long userId, String link) {
+}
@@ -0,0 +1,35 @@
+package com.picktory.domain.bundle.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보따리 이벤트 핸들러 실행 기록
+ * picktory.bundle.events.handled{handler, event, result=success|failure} 타이머로 처리 시간과 실패 수를 남긴다.
+ * 핸들러 실패는 요청과 무관하므로 예외를 전파하지 않고 기록만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BundleEventMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(String handler, Object event, Runnable action) {
+        String eventType = event.getClass().getSimpleName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            result = "failure";
+            log.warn("보따리 이벤트 처리 실패 - handler: {}, event: {}", handler, event, e);
+        } finally {
+            sample.stop(meterRegistry.timer("picktory.bundle.events.handled",
+                    "handler", handler, "event", eventType, "result", result));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.picktory.domain.bundle.event;
+
+/**
+ * 보따리 배달(DRAFT -> PUBLISHED) 커밋 후 이벤트
+ */
+public record BundlePublishedEvent(Long bundleId, Long userId, String link) {
+}
@@ -0,0 +1,54 @@
+package com.picktory.domain.bundle.job;
+
+import com.picktory.domain.bundle.service.BundleArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 답변 완료 보따리 보관 배치
+ * archive-after보다 오래된 보따리를 batchSize씩 각각 별도 트랜잭션으로 옮기고, 한 번에 max-batches-per-run 배치까지만 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BundleArchiveJob {
+
+    private final BundleArchiveService bundleArchiveService;
+
+    @Value("${picktory.bundle.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${picktory.bundle.archive.archive-after:180d}")
+    private Duration archiveAfter;
+
+    @Value("${picktory.bundle.archive.batch-size:200}")
+    private int batchSize;
+
+    @Value("${picktory.bundle.archive.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(cron = "${picktory.bundle.archive.cron:0 0 5 * * *}")
+    public void archiveAll() {
+        if (!enabled) {
+            return;
+        }
+        log.info("보따리 보관 시작");
+
+        LocalDateTime before = LocalDateTime.now().minus(archiveAfter);
+        int archivedCount = 0;
+        int batchCount = 0;
+        int archived;
+        while (batchCount < maxBatchesPerRun && (archived = bundleArchiveService.archiveBatch(before, batchSize)) > 0) {
+            archivedCount += archived;
+            batchCount++;
+        }
+
+        log.info("보따리 보관 완료 - {}개 ({}개 배치)", archivedCount, batchCount);
+    }
+}
@@ -0,0 +1,54 @@
+package com.picktory.domain.bundle.job;
+
+import com.picktory.common.lock.SchedulerLock;
+import com.picktory.domain.bundle.service.BundleStatisticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 보따리 통계 캐시 컬럼 복구 배치
+ * 전체 보따리를 ID 순으로 batchSize씩 나누어 각각 별도 트랜잭션으로 재계산한다.
+ * 여러 인스턴스 중 SchedulerLock 임대를 얻은 한 곳에서만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BundleStatisticsRepairJob {
+
+    static final String LOCK_NAME = "bundle-statistics-repair";
+
+    private final BundleStatisticsService bundleStatisticsService;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${picktory.bundle.statistics.repair.batch-size:500}")
+    private int batchSize;
+
+    @Value("${picktory.bundle.statistics.repair.lock-lease:1h}")
+    private Duration lockLease;
+
+    @Scheduled(cron = "${picktory.bundle.statistics.repair.cron:0 30 4 * * *}")
+    public void repairAll() {
+        if (!schedulerLock.tryAcquire(LOCK_NAME, lockLease)) {
+            log.info("보따리 통계 복구 건너뜀 - 다른 인스턴스에서 실행 중");
+            return;
+        }
+        log.info("보따리 통계 복구 시작");
+
+        try {
+            Long lastId = 0L;
+            int batchCount = 0;
+            while ((lastId = bundleStatisticsService.repairBatch(lastId, batchSize)) != null) {
+                batchCount++;
+            }
+
+            log.info("보따리 통계 복구 완료 - {}개 배치", batchCount);
+        } finally {
+            schedulerLock.release(LOCK_NAME);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.picktory.domain.bundle.repository;
+
+import com.picktory.domain.bundle.dto.ArchivedBundle;
+import com.picktory.domain.bundle.dto.BundleListFreshness;
+import com.picktory.domain.bundle.enums.DesignType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보관된 보따리 저장소
+ * 엔티티로 매핑하지 않고 JDBC로 압축된 본문을 그대로 읽고 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BundleArchiveRepository {
+
+    private static final String INSERT =
+            "INSERT INTO archived_bundles "
+                    + "(bundle_id, user_id, name, design_type, gift_count, responded_count, updated_at, archived_at, payload) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String FIND_BY_ID =
+            "SELECT bundle_id, user_id, name, design_type, gift_count, responded_count, updated_at, payload "
+                    + "FROM archived_bundles WHERE bundle_id = ?";
+
+    private static final String FIND_ALL_BY_USER_ID =
+            "SELECT bundle_id, user_id, name, design_type, gift_count, responded_count, updated_at "
+                    + "FROM archived_bundles WHERE user_id = ? ORDER BY updated_at DESC";
+
+    private static final String FIND_TOP_BY_USER_ID = FIND_ALL_BY_USER_ID + " LIMIT ?";
+
+    private static final String FIND_LIST_FRESHNESS_BY_USER_ID =
+            "SELECT COUNT(*) AS bundle_count, MAX(updated_at) AS last_updated_at FROM archived_bundles WHERE user_id = ?";
+
+    private static final String FIND_USER_ID_BY_ID =
+            "SELECT user_id FROM archived_bundles WHERE bundle_id = ?";
+
+    private static final String FIND_WITH_PAYLOAD_BY_USER_ID =
+            "SELECT bundle_id, user_id, name, design_type, gift_count, responded_count, updated_at, payload "
+                    + "FROM archived_bundles WHERE user_id = ? ORDER BY bundle_id LIMIT ?";
+
+    private static final String DELETE_BY_ID =
+            "DELETE FROM archived_bundles WHERE bundle_id = ?";
+
+    private static final String DELETE_ALL_IN =
+            "DELETE FROM archived_bundles WHERE bundle_id IN (%s)";
+
+    private static final RowMapper<ArchivedBundle> ARCHIVED_BUNDLE_MAPPER = (rs, rowNum) -> new ArchivedBundle(
+            rs.getLong("bundle_id"),
+            rs.getLong("user_id"),
+            rs.getString("name"),
+            DesignType.valueOf(rs.getString("design_type")),
+            rs.getInt("gift_count"),
+            rs.getInt("responded_count"),
+            rs.getTimestamp("updated_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<ArchiveRow> rows) {
+        Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT, rows.stream()
+                .map(row -> new Object[]{
+                        row.bundle().bundleId(), row.bundle().userId(), row.bundle().name(),
+                        row.bundle().designType().name(), row.bundle().giftCount(), row.bundle().respondedCount(),
+                        Timestamp.valueOf(row.bundle().updatedAt()), archivedAt, row.payload()})
+                .toList());
+    }
+
+    public Optional<ArchiveRow> findById(Long bundleId) {
+        return jdbcTemplate.query(FIND_BY_ID,
+                        (rs, rowNum) -> new ArchiveRow(ARCHIVED_BUNDLE_MAPPER.mapRow(rs, rowNum), rs.getBytes("payload")),
+                        bundleId)
+                .stream()
+                .findFirst();
+    }
+
+    public List<ArchivedBundle> findAllByUserId(Long userId) {
+        return jdbcTemplate.query(FIND_ALL_BY_USER_ID, ARCHIVED_BUNDLE_MAPPER, userId);
+    }
+
+    public List<ArchivedBundle> findTopByUserId(Long userId, int limit) {
+        return jdbcTemplate.query(FIND_TOP_BY_USER_ID, ARCHIVED_BUNDLE_MAPPER, userId, limit);
+    }
+
+    /**
+     * 보관된 보따리 목록 요약 (조건부 조회 검증값에 합산)
+     */
+    public BundleListFreshness findListFreshnessByUserId(Long userId) {
+        return jdbcTemplate.queryForObject(FIND_LIST_FRESHNESS_BY_USER_ID, (rs, rowNum) -> {
+            Timestamp lastUpdatedAt = rs.getTimestamp("last_updated_at");
+            return BundleListFreshness.of(rs.getLong("bundle_count"),
+                    lastUpdatedAt == null ? null : lastUpdatedAt.toLocalDateTime());
+        }, userId);
+    }
+
+    public Optional<Long> findUserIdById(Long bundleId) {
+        return jdbcTemplate.queryForList(FIND_USER_ID_BY_ID, Long.class, bundleId).stream().findFirst();
+    }
+
+    /**
+     * 회원의 보관된 보따리를 본문과 함께 limit개씩 조회 (탈퇴 회원 데이터 삭제용)
+     */
+    public List<ArchiveRow> findAllWithPayloadByUserId(Long userId, int limit) {
+        return jdbcTemplate.query(FIND_WITH_PAYLOAD_BY_USER_ID,
+                (rs, rowNum) -> new ArchiveRow(ARCHIVED_BUNDLE_MAPPER.mapRow(rs, rowNum), rs.getBytes("payload")),
+                userId, limit);
+    }
+
+    public void deleteById(Long bundleId) {
+        jdbcTemplate.update(DELETE_BY_ID, bundleId);
+    }
+
+    public void deleteAllByIdIn(List<Long> bundleIds) {
+        if (bundleIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(bundleIds.size(), "?"));
+        jdbcTemplate.update(DELETE_ALL_IN.formatted(placeholders), bundleIds.toArray());
+    }
+
+    public record ArchiveRow(ArchivedBundle bundle, byte[] payload) {
+    }
+}
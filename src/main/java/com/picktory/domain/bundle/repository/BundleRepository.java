@@ -1,10 +1,17 @@
 package com.picktory.domain.bundle.repository;
 
+import com.picktory.domain.bundle.dto.BundleFreshness;
+import com.picktory.domain.bundle.dto.BundleListFreshness;
 import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.entity.BundleStatistics;
 import com.picktory.domain.bundle.enums.BundleStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.time.LocalDateTime;
@@ -29,4 +36,85 @@ public interface BundleRepository extends JpaRepository<Bundle, Long> {
 
 
     Optional<Bundle> findByIdAndStatus(Long id, BundleStatus status);
+
+    /**
+     * 조건부 조회 사전 검사용 (선물/이미지 로딩 전)
+     */
+    @Query("SELECT b.id AS id, b.user.id AS userId, b.link AS link, b.status AS status, b.isRead AS isRead, " +
+            "b.updatedAt AS updatedAt, b.version AS version FROM Bundle b WHERE b.id = :id")
+    Optional<BundleFreshness> findFreshnessById(@Param("id") Long id);
+
+    @Query("SELECT b.id AS id, b.user.id AS userId, b.link AS link, b.status AS status, b.isRead AS isRead, " +
+            "b.updatedAt AS updatedAt, b.version AS version FROM Bundle b WHERE b.link = :link")
+    Optional<BundleFreshness> findFreshnessByLink(@Param("link") String link);
+
+    @Query("SELECT COUNT(b.id) AS bundleCount, MAX(b.updatedAt) AS lastUpdatedAt FROM Bundle b WHERE b.user.id = :userId")
+    BundleListFreshness findListFreshnessByUserId(@Param("userId") Long userId);
+
+    /**
+     * PUBLISHED 상태인 보따리만 COMPLETED로 변경 (답변 제출 게이트)
+     * 동시에 여러 답변이 제출되어도 단 한 건만 1을 반환한다.
+     */
+    @Modifying
+    @Query("UPDATE Bundle b SET b.status = com.picktory.domain.bundle.enums.BundleStatus.COMPLETED, b.updatedAt = :now, " +
+            "b.version = b.version + 1 " +
+            "WHERE b.link = :link AND b.status = com.picktory.domain.bundle.enums.BundleStatus.PUBLISHED")
+    int completeIfPublished(@Param("link") String link, @Param("now") LocalDateTime now);
+
+    /**
+     * completeIfPublished의 PK 조회 버전 (링크에서 ID를 복원할 수 있는 경우)
+     */
+    @Modifying
+    @Query("UPDATE Bundle b SET b.status = com.picktory.domain.bundle.enums.BundleStatus.COMPLETED, b.updatedAt = :now, " +
+            "b.version = b.version + 1 " +
+            "WHERE b.id = :id AND b.link = :link AND b.status = com.picktory.domain.bundle.enums.BundleStatus.PUBLISHED")
+    int completeIfPublishedById(@Param("id") Long id, @Param("link") String link, @Param("now") LocalDateTime now);
+
+    /**
+     * 답변 확인(isRead) 일괄 반영 - 읽음 표시 버퍼 flush 용
+     */
+    @Modifying
+    @Query("UPDATE Bundle b SET b.isRead = true, b.updatedAt = :now, b.version = b.version + 1 " +
+            "WHERE b.id IN :ids AND b.status = com.picktory.domain.bundle.enums.BundleStatus.COMPLETED AND b.isRead = false")
+    int markAsReadByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * lastId 이후의 보따리를 ID 순으로 조회 (통계 복구용, 잠그지 않는다)
+     */
+    @Query("SELECT b FROM Bundle b WHERE b.id > :lastId ORDER BY b.id")
+    List<Bundle> findBatchAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 통계 캐시 컬럼 덮어쓰기 - 조회한 뒤 보따리가 바뀌지 않았을 때만 (바뀌었으면 0을 반환)
+     * 덮어쓰는 행만 잠그고, 답변 제출 등 보따리를 바꾸는 경로는 모두 버전을 올리므로
+     * 집계하는 사이 들어온 답변을 덮어쓰지 않는다.
+     * 버전만 올려 ETag / 화면 캐시를 갱신하고, 목록 정렬과 보관 기준인 updatedAt은 그대로 둔다.
+     */
+    @Modifying
+    @Query("UPDATE Bundle b SET " +
+            "b.statistics.giftCount = :#{#statistics.giftCount}, " +
+            "b.statistics.respondedCount = :#{#statistics.respondedCount}, " +
+            "b.statistics.greatCount = :#{#statistics.greatCount}, " +
+            "b.statistics.goodCount = :#{#statistics.goodCount}, " +
+            "b.statistics.alreadyHaveCount = :#{#statistics.alreadyHaveCount}, " +
+            "b.statistics.notSureCount = :#{#statistics.notSureCount}, " +
+            "b.statistics.notMyStyleCount = :#{#statistics.notMyStyleCount}, " +
+            "b.version = b.version + 1 " +
+            "WHERE b.id = :id AND b.version = :version")
+    int updateStatistics(@Param("id") Long id, @Param("statistics") BundleStatistics statistics,
+                         @Param("version") Long version);
+
+    /**
+     * 보관 대상 조회 - 읽음 처리까지 끝난 답변 완료 보따리 중 before 이전에 마지막으로 바뀐 것
+     */
+    @Query("SELECT b FROM Bundle b WHERE b.status = com.picktory.domain.bundle.enums.BundleStatus.COMPLETED " +
+            "AND b.updatedAt < :before AND b.isRead = true ORDER BY b.updatedAt")
+    List<Bundle> findArchiveCandidates(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 보따리 일괄 삭제 (DELETE 한 번, 보관 처리용 - 자식 행은 먼저 지워야 한다)
+     */
+    @Modifying
+    @Query("DELETE FROM Bundle b WHERE b.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
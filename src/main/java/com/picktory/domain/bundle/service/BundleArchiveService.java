@@ -0,0 +1,261 @@
+package com.picktory.domain.bundle.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.domain.analytics.service.ResponseTagRollupService;
+import com.picktory.domain.bundle.cache.BundleViewCache;
+import com.picktory.domain.bundle.dto.ArchivedBundle;
+import com.picktory.domain.bundle.dto.BundleArchivePayload;
+import com.picktory.domain.bundle.dto.BundleArchivePayload.ArchivedGift;
+import com.picktory.domain.bundle.dto.BundleListFreshness;
+import com.picktory.domain.bundle.dto.BundleResultGiftResponse;
+import com.picktory.domain.bundle.dto.BundleResultResponse;
+import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.repository.BundleArchiveRepository;
+import com.picktory.domain.bundle.repository.BundleArchiveRepository.ArchiveRow;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.gift.entity.Gift;
+import com.picktory.domain.gift.entity.GiftImage;
+import com.picktory.domain.gift.repository.GiftImageRepository;
+import com.picktory.domain.gift.repository.GiftRepository;
+import com.picktory.domain.response.entity.Response;
+import com.picktory.domain.response.repository.LinkPageSnapshotRepository;
+import com.picktory.domain.response.repository.ResponseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 답변 완료 보따리 보관
+ * 보따리 / 선물 / 이미지 / 답변을 보따리당 gzip JSON 한 행(archived_bundles)으로 옮기고 원본 행은 지운다.
+ * 원본 테이블이 작게 유지되어 목록 / 링크 조회가 빨라지고, 보관된 보따리는 결과 조회와 목록에서 그대로 보인다.
+ * 이미지 S3 객체는 결과 화면에서 계속 쓰므로 지우지 않는다.
+ * 탈퇴 회원의 보관된 보따리는 WithdrawnUserPurgeJob이 원본 보따리를 모두 지운 뒤 이미지와 함께 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BundleArchiveService {
+
+    private final BundleRepository bundleRepository;
+    private final GiftRepository giftRepository;
+    private final GiftImageRepository giftImageRepository;
+    private final ResponseRepository responseRepository;
+    private final LinkPageSnapshotRepository linkPageSnapshotRepository;
+    private final BundleArchiveRepository bundleArchiveRepository;
+    private final ResponseTagRollupService responseTagRollupService;
+    private final BundleViewCache bundleViewCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * before 이전에 끝난 보따리 batchSize개를 보관 테이블로 옮김 (한 트랜잭션)
+     *
+     * @return 옮긴 보따리 수 (0이면 더 이상 보관할 보따리가 없음)
+     */
+    @Transactional
+    public int archiveBatch(LocalDateTime before, int batchSize) {
+        List<Bundle> bundles = bundleRepository.findArchiveCandidates(before, PageRequest.of(0, batchSize));
+        if (bundles.isEmpty()) {
+            return 0;
+        }
+        List<Long> bundleIds = bundles.stream().map(Bundle::getId).toList();
+
+        // 1. 자식 행을 테이블당 한 번씩 읽어 보따리별로 묶는다
+        List<Gift> gifts = giftRepository.findAllByBundleIdIn(bundleIds);
+        List<Long> giftIds = gifts.stream().map(Gift::getId).toList();
+        Map<Long, List<Gift>> giftsByBundleId = gifts.stream()
+                .collect(Collectors.groupingBy(Gift::getBundleId));
+        Map<Long, List<GiftImage>> imagesByGiftId = giftIds.isEmpty() ? Map.of()
+                : giftImageRepository.findAllByGift_IdIn(giftIds).stream()
+                .collect(Collectors.groupingBy(image -> image.getGift().getId()));
+        Map<Long, Response> responsesByGiftId = responseRepository.findAllByBundleIdIn(bundleIds).stream()
+                .collect(Collectors.toMap(Response::getGiftId, Function.identity(), (first, second) -> first));
+
+        // 2. 보관 행 저장
+        bundleArchiveRepository.saveAll(bundles.stream()
+                .map(bundle -> new ArchiveRow(summaryOf(bundle), encode(payloadOf(bundle,
+                        giftsByBundleId.getOrDefault(bundle.getId(), List.of()), imagesByGiftId, responsesByGiftId))))
+                .toList());
+
+        // 3. 아직 태그 집계에 들어가지 않은 답변은 지우기 전에 집계 (구매처를 읽어야 하므로 선물보다 먼저)
+        responseTagRollupService.rollupBeforeDelete(bundleIds);
+
+        // 4. 원본 삭제 (테이블당 DELETE 한 번, 외래 키 순서: 이미지 -> 선물 -> 보따리)
+        giftRepository.deleteAllWithImagesByIdIn(giftIds);
+        responseRepository.deleteAllByBundleIdIn(bundleIds);
+        linkPageSnapshotRepository.deleteAllByBundleIdIn(bundleIds);
+        bundleRepository.deleteAllByIdIn(bundleIds);
+        bundleIds.forEach(bundleViewCache::evict);
+
+        log.info("보따리 보관 - {}개 (선물 {}개)", bundleIds.size(), giftIds.size());
+        return bundles.size();
+    }
+
+    /**
+     * 보관된 보따리 결과 조회 (BundleService.getBundleResult에서 원본이 없을 때 사용)
+     */
+    @Transactional(readOnly = true)
+    public BundleResultResponse getArchivedResult(Long bundleId, Long userId) {
+        ArchiveRow row = bundleArchiveRepository.findById(bundleId)
+                .orElseThrow(() -> new BaseException(BaseResponseStatus.BUNDLE_NOT_FOUND));
+        if (!row.bundle().userId().equals(userId)) {
+            throw new BaseException(BaseResponseStatus.FORBIDDEN);
+        }
+
+        BundleArchivePayload payload = decode(row.payload());
+        return BundleResultResponse.builder()
+                .id(bundleId)
+                .gifts(payload.gifts().stream()
+                        .map(gift -> BundleResultGiftResponse.builder()
+                                .id(gift.id())
+                                .name(gift.name())
+                                .purchaseUrl(gift.purchaseUrl())
+                                .thumbnail(gift.thumbnail())
+                                .responseTag(gift.responseTag())
+                                .build())
+                        .toList())
+                .tagCounts(payload.tagCounts())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArchivedBundle> getArchivedBundles(Long userId) {
+        return bundleArchiveRepository.findAllByUserId(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArchivedBundle> getLatestArchivedBundles(Long userId, int limit) {
+        return bundleArchiveRepository.findTopByUserId(userId, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public BundleListFreshness getArchivedListFreshness(Long userId) {
+        return bundleArchiveRepository.findListFreshnessByUserId(userId);
+    }
+
+    /**
+     * 보관된 보따리 삭제 (BundleService.deleteBundle에서 원본이 없을 때 사용)
+     */
+    @Transactional
+    public void deleteArchivedBundle(Long bundleId, Long userId) {
+        Long ownerId = bundleArchiveRepository.findUserIdById(bundleId)
+                .orElseThrow(() -> new BaseException(BaseResponseStatus.BUNDLE_NOT_FOUND));
+        if (!ownerId.equals(userId)) {
+            throw new BaseException(BaseResponseStatus.FORBIDDEN);
+        }
+        bundleArchiveRepository.deleteById(bundleId);
+    }
+
+    /**
+     * 회원의 보관된 보따리 limit개 삭제 (탈퇴 회원 데이터 삭제에서 사용)
+     * 지운 본문에 있던 이미지 위치(객체 키, 이관 전 보관분은 전체 URL)를 함께 돌려준다.
+     */
+    @Transactional
+    public PurgedArchives purgeArchivedBundles(Long userId, int limit) {
+        List<ArchiveRow> rows = bundleArchiveRepository.findAllWithPayloadByUserId(userId, limit);
+        if (rows.isEmpty()) {
+            return new PurgedArchives(List.of(), List.of());
+        }
+        List<Long> bundleIds = rows.stream().map(row -> row.bundle().bundleId()).toList();
+        List<String> images = rows.stream()
+                .flatMap(row -> decode(row.payload()).gifts().stream())
+                .flatMap(gift -> Stream.concat(Stream.ofNullable(gift.thumbnail()), gift.images().stream()))
+                .distinct()
+                .toList();
+
+        bundleArchiveRepository.deleteAllByIdIn(bundleIds);
+        return new PurgedArchives(bundleIds, images);
+    }
+
+    private ArchivedBundle summaryOf(Bundle bundle) {
+        return new ArchivedBundle(
+                bundle.getId(),
+                bundle.getUser().getId(),
+                bundle.getName(),
+                bundle.getDesignType(),
+                bundle.getStatistics().getGiftCount(),
+                bundle.getStatistics().getRespondedCount(),
+                bundle.getUpdatedAt());
+    }
+
+    private BundleArchivePayload payloadOf(Bundle bundle, List<Gift> gifts,
+                                           Map<Long, List<GiftImage>> imagesByGiftId,
+                                           Map<Long, Response> responsesByGiftId) {
+        List<ArchivedGift> archivedGifts = gifts.stream()
+                .sorted(Comparator.comparing(Gift::getId))
+                .map(gift -> {
+                    List<GiftImage> images = imagesByGiftId.getOrDefault(gift.getId(), List.of());
+                    Response response = responsesByGiftId.get(gift.getId());
+                    return new ArchivedGift(
+                            gift.getId(),
+                            gift.getName(),
+                            gift.getMessage(),
+                            gift.getPurchaseUrl(),
+                            gift.getResponseTag(),
+                            response != null ? response.getMessage() : null,
+                            thumbnailOf(images),
+                            images.stream().map(GiftImage::getImageUrl).toList());
+                })
+                .toList();
+
+        return new BundleArchivePayload(
+                bundle.getLink(),
+                bundle.getDeliveryCharacterType(),
+                bundle.getPublishedAt(),
+                bundle.getStatistics().getTagCounts(),
+                archivedGifts);
+    }
+
+    /**
+     * 대표 이미지 (없으면 첫 이미지)
+     */
+    private String thumbnailOf(List<GiftImage> images) {
+        return images.stream()
+                .filter(image -> Boolean.TRUE.equals(image.getIsPrimary()))
+                .findFirst()
+                .or(() -> images.stream().findFirst())
+                .map(GiftImage::getImageUrl)
+                .orElse(null);
+    }
+
+    private byte[] encode(BundleArchivePayload payload) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, payload);
+        } catch (IOException e) {
+            log.error("보관 본문 직렬화 실패", e);
+            throw new BaseException(BaseResponseStatus.INTERNAL_SERVER_ERROR);
+        }
+        return bytes.toByteArray();
+    }
+
+    private BundleArchivePayload decode(byte[] body) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return objectMapper.readValue(gzip, BundleArchivePayload.class);
+        } catch (IOException e) {
+            log.error("보관 본문 역직렬화 실패", e);
+            throw new BaseException(BaseResponseStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    public record PurgedArchives(List<Long> bundleIds, List<String> images) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.picktory.domain.bundle.service;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 하루 보따리 생성 개수 제한
+ * 사용자의 그날 첫 생성 때만 COUNT 쿼리로 카운터를 채우고, 이후에는 메모리 카운터만 증가시킨다.
+ * (인스턴스마다 카운터를 따로 가지므로 여러 인스턴스에서는 근사치)
+ */
+@Slf4j
+@Component
+public class BundleDailyLimiter {
+
+    private final Map<Long, DailyCount> countsByUserId = new ConcurrentHashMap<>();
+    private final BundleRepository bundleRepository;
+    private final boolean enabled;
+    private final int maxPerDay;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    public BundleDailyLimiter(BundleRepository bundleRepository,
+                              @Value("${picktory.bundle.daily-limit.enabled:false}") boolean enabled,
+                              @Value("${picktory.bundle.daily-limit.max:10}") int maxPerDay) {
+        this.bundleRepository = bundleRepository;
+        this.enabled = enabled;
+        this.maxPerDay = maxPerDay;
+    }
+
+    /**
+     * 생성 1건 예약 (트랜잭션이 롤백되면 반환)
+     */
+    public void acquire(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now(clock);
+        DailyCount dailyCount = countsByUserId.get(userId);
+        if (dailyCount == null || !dailyCount.date().equals(today)) {
+            // COUNT 쿼리는 맵 잠금 밖에서 실행하고, 동시에 적재한 경우 먼저 들어간 카운터를 사용
+            DailyCount loaded = load(userId, today);
+            dailyCount = countsByUserId.compute(userId, (id, current) ->
+                    current != null && current.date().equals(today) ? current : loaded);
+        }
+
+        if (dailyCount.count().incrementAndGet() > maxPerDay) {
+            dailyCount.count().decrementAndGet();
+            throw new BaseException(BaseResponseStatus.BUNDLE_DAILY_LIMIT_EXCEEDED);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        dailyCount.count().decrementAndGet();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 지난 날짜 카운터 정리
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now(clock);
+        countsByUserId.values().removeIf(dailyCount -> dailyCount.date().isBefore(today));
+    }
+
+    private DailyCount load(Long userId, LocalDate today) {
+        long count = bundleRepository.countByUserIdAndCreatedAtAfter(userId, today.atStartOfDay());
+        log.debug("하루 보따리 생성 수 적재: userId = {}, count = {}", userId, count);
+        return new DailyCount(today, new AtomicInteger((int) count));
+    }
+
+    private record DailyCount(LocalDate date, AtomicInteger count) {
+    }
+}
@@ -0,0 +1,233 @@
+package com.picktory.domain.bundle.service;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.common.image.ImageKeyResolver;
+import com.picktory.config.auth.AuthenticationService;
+import com.picktory.config.datasource.RecentWriteTracker;
+import com.picktory.domain.bundle.cache.BundleViewCache;
+import com.picktory.domain.bundle.dto.BundleDraftPatchRequest;
+import com.picktory.domain.bundle.dto.BundleDraftPatchResponse;
+import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.gift.entity.Gift;
+import com.picktory.domain.gift.entity.GiftImage;
+import com.picktory.domain.gift.repository.GiftImageRepository;
+import com.picktory.domain.gift.repository.GiftRepository;
+import com.picktory.domain.gift.service.GiftService;
+import com.picktory.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 임시 저장 보따리 자동 저장 (변경분 PATCH)
+ * 전체 선물 목록을 다시 보내는 PUT 대신, 선물/이미지 단위의 변경 사항만 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BundleDraftService {
+
+    private final BundleRepository bundleRepository;
+    private final GiftRepository giftRepository;
+    private final GiftImageRepository giftImageRepository;
+    private final GiftService giftService;
+    private final AuthenticationService authenticationService;
+    private final RecentWriteTracker recentWriteTracker;
+    private final ImageKeyResolver imageKeyResolver;
+    private final BundleViewCache bundleViewCache;
+
+    /**
+     * 변경분 반영
+     * 이미 반영된 순번(재전송, 순서가 뒤바뀐 요청)은 아무것도 바꾸지 않고 applied=false로 응답한다.
+     */
+    public BundleDraftPatchResponse patchDraft(Long bundleId, BundleDraftPatchRequest request) {
+        User currentUser = authenticationService.getAuthenticatedUser();
+        Bundle bundle = bundleRepository.findById(bundleId)
+                .orElseThrow(() -> new BaseException(BaseResponseStatus.BUNDLE_NOT_FOUND));
+        if (!bundle.getUser().getId().equals(currentUser.getId())) {
+            throw new BaseException(BaseResponseStatus.FORBIDDEN);
+        }
+
+        // 1. 순번 검사 (오래된 요청은 버전 검사 전에 무시해야 재전송이 409가 되지 않는다)
+        if (!bundle.acceptDraftSequence(request.getSequence())) {
+            log.info("이미 반영된 자동 저장 순번: bundleId = {}, sequence = {}, current = {}",
+                    bundleId, request.getSequence(), bundle.getDraftSequence());
+            return BundleDraftPatchResponse.skipped(bundle);
+        }
+
+        // 2. 버전 검사 후 먼저 버전을 올려 두어, 동시 수정 요청은 선물을 건드리기 전에 409로 실패시킨다
+        bundle.verifyVersion(request.getVersion());
+        bundleRepository.flush();
+
+        // 3. 변경분 적용 (변경된 선물의 이미지만 조회)
+        DraftGifts draftGifts = new DraftGifts(bundleId, giftRepository.findAllByBundleId(bundleId));
+        for (BundleDraftPatchRequest.Operation operation : request.getOperations()) {
+            draftGifts.apply(operation);
+        }
+        draftGifts.validate();
+
+        // 4. 선물 수 통계 갱신 (응답에 최종 버전을 싣기 위해 flush)
+        bundle.updateGiftCount(draftGifts.giftCount());
+        bundleRepository.flush();
+        recentWriteTracker.recordWrite(currentUser.getId());
+        bundleViewCache.evict(bundleId);
+
+        log.info("자동 저장 반영: bundleId = {}, sequence = {}, operations = {}",
+                bundleId, request.getSequence(), request.getOperations().size());
+        return BundleDraftPatchResponse.applied(bundle, draftGifts.getCreatedGiftIds());
+    }
+
+    /**
+     * 한 요청 안에서의 선물/이미지 작업 상태
+     */
+    private class DraftGifts {
+
+        private final Long bundleId;
+        private final Map<Long, Gift> giftsById = new LinkedHashMap<>();
+        private final Map<String, Gift> giftsByTempId = new HashMap<>();
+        private final Map<Long, List<GiftImage>> imagesByGiftId = new HashMap<>();
+        private final Map<String, Long> createdGiftIds = new LinkedHashMap<>();
+
+        DraftGifts(Long bundleId, List<Gift> gifts) {
+            this.bundleId = bundleId;
+            gifts.forEach(gift -> giftsById.put(gift.getId(), gift));
+        }
+
+        void apply(BundleDraftPatchRequest.Operation operation) {
+            switch (operation.getType()) {
+                case ADD_GIFT -> addGift(operation);
+                case UPDATE_GIFT -> updateGift(operation);
+                case REMOVE_GIFT -> removeGift(operation);
+                case ADD_IMAGE -> addImages(operation);
+                case REMOVE_IMAGE -> removeImages(operation);
+            }
+        }
+
+        private void addGift(BundleDraftPatchRequest.Operation operation) {
+            String tempId = operation.getTempId();
+            if (tempId == null || tempId.isBlank() || giftsByTempId.containsKey(tempId)) {
+                throw new BaseException(BaseResponseStatus.INVALID_DRAFT_OPERATION);
+            }
+            requireName(operation.getName());
+            requireImageUrls(operation.getImageUrls());
+
+            Gift gift = giftRepository.save(Gift.builder()
+                    .bundleId(bundleId)
+                    .name(operation.getName())
+                    .message(operation.getMessage())
+                    .purchaseUrl(operation.getPurchaseUrl())
+                    .isResponsed(false)
+                    .build());
+            giftsById.put(gift.getId(), gift);
+            giftsByTempId.put(tempId, gift);
+            imagesByGiftId.put(gift.getId(), new ArrayList<>());
+            createdGiftIds.put(tempId, gift.getId());
+
+            addImages(gift, operation.getImageUrls());
+        }
+
+        private void updateGift(BundleDraftPatchRequest.Operation operation) {
+            Gift gift = resolveGift(operation);
+            if (operation.getName() != null) {
+                requireName(operation.getName());
+            }
+            gift.patch(operation.getName(), operation.getMessage(), operation.getPurchaseUrl());
+        }
+
+        private void removeGift(BundleDraftPatchRequest.Operation operation) {
+            Gift gift = resolveGift(operation);
+            giftRepository.deleteAllWithImagesByIdIn(List.of(gift.getId()));
+
+            giftsById.remove(gift.getId());
+            imagesByGiftId.remove(gift.getId());
+            giftsByTempId.values().remove(gift);
+            createdGiftIds.values().remove(gift.getId());
+        }
+
+        private void addImages(BundleDraftPatchRequest.Operation operation) {
+            requireImageUrls(operation.getImageUrls());
+            addImages(resolveGift(operation), operation.getImageUrls());
+        }
+
+        private void addImages(Gift gift, List<String> imageUrls) {
+            List<GiftImage> images = imagesOf(gift);
+            for (String imageUrl : imageUrls) {
+                GiftImage image = GiftImage.createGiftImage(gift, imageKeyResolver.toKey(imageUrl), images.isEmpty());
+                images.add(giftImageRepository.save(image));
+            }
+        }
+
+        private void removeImages(BundleDraftPatchRequest.Operation operation) {
+            requireImageUrls(operation.getImageUrls());
+            Gift gift = resolveGift(operation);
+            List<GiftImage> images = imagesOf(gift);
+
+            for (String imageUrl : operation.getImageUrls()) {
+                String imageKey = imageKeyResolver.toKey(imageUrl);
+                GiftImage image = images.stream()
+                        .filter(i -> imageKeyResolver.toKey(i.getImageUrl()).equals(imageKey))
+                        .findFirst()
+                        .orElseThrow(() -> new BaseException(BaseResponseStatus.INVALID_DRAFT_OPERATION));
+                images.remove(image);
+                giftImageRepository.delete(image);
+
+                // 대표 이미지가 빠지면 남은 첫 이미지를 대표로
+                if (Boolean.TRUE.equals(image.getIsPrimary()) && !images.isEmpty()) {
+                    images.get(0).setPrimary(true);
+                }
+            }
+        }
+
+        /**
+         * 최종 상태 검증: 선물 2~6개, 변경된 선물은 이미지 1~5장 (전체 저장과 같은 GiftService 기준)
+         */
+        void validate() {
+            giftService.validateGiftCount(giftsById.size());
+            for (List<GiftImage> images : imagesByGiftId.values()) {
+                giftService.validateImageCount(images.size());
+            }
+        }
+
+        int giftCount() {
+            return giftsById.size();
+        }
+
+        Map<String, Long> getCreatedGiftIds() {
+            return createdGiftIds;
+        }
+
+        private Gift resolveGift(BundleDraftPatchRequest.Operation operation) {
+            Gift gift = operation.getGiftTempId() != null
+                    ? giftsByTempId.get(operation.getGiftTempId())
+                    : giftsById.get(operation.getGiftId());
+            if (gift == null) {
+                throw new BaseException(BaseResponseStatus.INVALID_GIFT_ID);
+            }
+            return gift;
+        }
+
+        private List<GiftImage> imagesOf(Gift gift) {
+            return imagesByGiftId.computeIfAbsent(gift.getId(),
+                    giftId -> new ArrayList<>(giftImageRepository.findAllByGift_Id(giftId)));
+        }
+
+        private void requireName(String name) {
+            if (name == null || name.isBlank()) {
+                throw new BaseException(BaseResponseStatus.GIFT_NAME_REQUIRED);
+            }
+        }
+
+        private void requireImageUrls(List<String> imageUrls) {
+            if (imageUrls == null || imageUrls.isEmpty()
+                    || imageUrls.stream().anyMatch(url -> url == null || url.isBlank())) {
+                throw new BaseException(BaseResponseStatus.GIFT_IMAGE_REQUIRED);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.picktory.domain.bundle.service;
+
+import com.picktory.domain.bundle.repository.BundleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 보따리 읽음 표시(isRead) 지연 반영 버퍼
+ * 조회 시점에는 ID만 메모리에 쌓고 (같은 보따리는 한 번만 저장),
+ * 주기적으로 UPDATE ... WHERE id IN (...) 한 번으로 반영한다.
+ */
+@Slf4j
+@Component
+public class BundleReadMarkBuffer {
+
+    private final Set<Long> pendingBundleIds = ConcurrentHashMap.newKeySet();
+    private final BundleRepository bundleRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${picktory.bundle.read-mark.batch-size:500}")
+    private int batchSize;
+
+    public BundleReadMarkBuffer(BundleRepository bundleRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.bundleRepository = bundleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder("picktory.bundle.read-marks.pending", pendingBundleIds, Set::size)
+                .description("반영 대기 중인 보따리 읽음 표시 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 읽음 표시 예약
+     */
+    public void mark(Long bundleId) {
+        pendingBundleIds.add(bundleId);
+    }
+
+    /**
+     * 반영 대기 중인 읽음 표시 수
+     */
+    public int getPendingCount() {
+        return pendingBundleIds.size();
+    }
+
+    @Scheduled(fixedDelayString = "${picktory.bundle.read-mark.flush-interval-ms:1000}")
+    public void flush() {
+        while (!pendingBundleIds.isEmpty()) {
+            List<Long> bundleIds = drain();
+            try {
+                Integer updated = transactionTemplate.execute(status ->
+                        bundleRepository.markAsReadByIdIn(bundleIds, LocalDateTime.now()));
+                log.debug("보따리 읽음 표시 반영 - 요청 {}건, 변경 {}건", bundleIds.size(), updated);
+            } catch (RuntimeException e) {
+                // 다음 flush에서 다시 시도
+                pendingBundleIds.addAll(bundleIds);
+                log.error("보따리 읽음 표시 반영 실패 - {}건", bundleIds.size(), e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 보따리 읽음 표시 반영 - {}건", pendingBundleIds.size());
+        flush();
+    }
+
+    private List<Long> drain() {
+        List<Long> bundleIds = new ArrayList<>();
+        Iterator<Long> iterator = pendingBundleIds.iterator();
+        while (iterator.hasNext() && bundleIds.size() < batchSize) {
+            bundleIds.add(iterator.next());
+            iterator.remove();
+        }
+        return bundleIds;
+    }
+}
@@ -3,7 +3,10 @@ package com.picktory.domain.bundle.service;
 import com.picktory.common.BaseResponseStatus;
 import com.picktory.common.exception.BaseException;
 import com.picktory.config.auth.AuthenticationService;
+import com.picktory.config.datasource.RecentWriteTracker;
 
+import com.picktory.domain.bundle.cache.BundleViewCache;
+import com.picktory.domain.bundle.cache.BundleViewKey;
 import com.picktory.domain.bundle.dto.*;
 import com.picktory.domain.bundle.dto.BundleDeliveryRequest;
 import com.picktory.domain.bundle.dto.BundleRequest;
@@ -11,14 +14,18 @@ import com.picktory.domain.bundle.dto.BundleResponse;
 
 import com.picktory.domain.bundle.entity.Bundle;
 import com.picktory.domain.bundle.enums.BundleStatus;
+import com.picktory.domain.bundle.event.BundlePublishedEvent;
 import com.picktory.domain.bundle.repository.BundleRepository;
 import com.picktory.domain.gift.dto.*;
 import com.picktory.domain.gift.entity.Gift;
 import com.picktory.domain.gift.entity.GiftImage;
 import com.picktory.domain.gift.service.GiftService;
+import com.picktory.domain.response.service.LinkPageSnapshotService;
 import com.picktory.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -27,7 +34,6 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 
 @Slf4j
@@ -36,9 +42,19 @@ import java.util.UUID;
 @Transactional
 public class BundleService {
 
+    private static final int MAIN_BUNDLE_COUNT = 8;
+
     private final BundleRepository bundleRepository;
     private final AuthenticationService authenticationService;
     private final GiftService giftService;
+    private final BundleReadMarkBuffer bundleReadMarkBuffer;
+    private final RecentWriteTracker recentWriteTracker;
+    private final DeliveryLinkCodec deliveryLinkCodec;
+    private final BundleDailyLimiter bundleDailyLimiter;
+    private final LinkPageSnapshotService linkPageSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BundleViewCache bundleViewCache;
+    private final BundleArchiveService bundleArchiveService;
 
     /**
      * 보따리 생성
@@ -46,32 +62,21 @@ public class BundleService {
     public BundleResponse createBundle(BundleRequest request) {
         User currentUser = authenticationService.getAuthenticatedUser();
 
-        // 프론트 테스트 위해 하루 보따리 생성 개수 테스트 비활성화
-//        // 하루 보따리 생성 개수 제한 검사
-//        long todayBundleCount = bundleRepository.countByUserIdAndCreatedAtAfter(
-//                currentUser.getId(), LocalDateTime.now().toLocalDate().atStartOfDay()
-//        );
-//        if (todayBundleCount >= 10) {
-//            throw new BaseException(BaseResponseStatus.BUNDLE_DAILY_LIMIT_EXCEEDED);
-//        }
+        // 하루 보따리 생성 개수 제한 (프론트 테스트 위해 기본 비활성화, picktory.bundle.daily-limit.enabled)
+        bundleDailyLimiter.acquire(currentUser.getId());
 
-        // 보따리 유효성 검증
+        // 1. 보따리 / 선물 / 이미지 유효성 검증 (쓰기 전에 모두 검사)
         validateBundleRequest(request);
 
-        // 1. 보따리 저장
+        // 2. 보따리, 선물, 이미지 저장 (커밋 시 테이블별 배치 INSERT)
         Bundle bundle = bundleRepository.save(request.toEntity(currentUser));
+        Map<Gift, List<GiftImage>> giftImages = giftService.createGiftsWithImages(bundle.getId(), request.getGifts());
+        recentWriteTracker.recordWrite(currentUser.getId());
 
-        // 2. 선물 저장
-        List<Gift> gifts = request.getGifts().stream()
-                .map(giftRequest -> Gift.createGift(bundle.getId(), giftRequest))
+        List<GiftImage> images = giftImages.values().stream()
+                .flatMap(List::stream)
                 .toList();
-        List<Gift> savedGifts = giftService.saveGifts(gifts);
-
-        // 3. 선물 이미지 저장
-        List<GiftImage> newImages = giftService.createGiftImagesWithPrimary(request.getGifts(), savedGifts);
-        giftService.saveGiftImages(newImages);
-
-        return BundleResponse.fromEntity(bundle, savedGifts, newImages);
+        return BundleResponse.fromEntity(bundle, new ArrayList<>(giftImages.keySet()), images);
     }
 
     /**
@@ -88,6 +93,13 @@ public class BundleService {
             throw new BaseException(BaseResponseStatus.INVALID_BUNDLE_STATUS_FOR_DRAFT);
         }
 
+        giftService.validateGiftRequests(request.getGifts());
+
+        // 0. 버전 검사 후 먼저 버전을 올려 두어, 동시 수정 요청은 선물을 건드리기 전에 409로 실패시킨다
+        bundle.verifyVersion(request.getVersion());
+        bundle.markGiftsModified();
+        bundleRepository.flush();
+
         // 1. 기존 선물 업데이트 처리 (삭제/수정/추가 + 이미지 포함)
         giftService.updateGifts(bundle.getId(), request.getGifts());
 
@@ -96,27 +108,39 @@ public class BundleService {
         List<GiftImage> savedImages = giftService.getImagesByGiftIds(
                 savedGifts.stream().map(Gift::getId).toList()
         );
+
+        // 3. 선물 수 통계 갱신 (응답에 최종 버전을 싣기 위해 flush)
+        bundle.updateGiftCount(savedGifts.size());
+        bundleRepository.flush();
+        recentWriteTracker.recordWrite(currentUser.getId());
+        bundleViewCache.evict(bundleId);
+
         return BundleResponse.fromEntity(bundle, savedGifts, savedImages);
     }
 
 
     /**
-     * 사용자의 보따리 목록 조회
+     * 사용자의 보따리 목록 조회 (보관된 보따리 포함)
      */
     @Transactional(readOnly = true)
     public List<BundleListResponse> getMyBundles(User user) {
         List<Bundle> bundles = bundleRepository.findByUserIdOrderByUpdatedAtDesc(user.getId());
-        return BundleListResponse.listFrom(bundles);
+        return BundleListResponse.listFrom(bundles, bundleArchiveService.getArchivedBundles(user.getId()));
     }
 
     /**
      * 사용자의 최신 8개 보따리 목록 조회
+     * 보관된 보따리는 오래된 것들이므로 원본이 8개보다 적을 때만 채워 넣는다.
      */
     @Transactional(readOnly = true)
     public List<BundleMainListResponse> getUserMainBundles() {
         User currentUser = authenticationService.getAuthenticatedUser();
         List<Bundle> bundles = bundleRepository.findTop8ByUser_IdOrderByUpdatedAtDesc(currentUser.getId());
-        return BundleMainListResponse.listFrom(bundles);
+        if (bundles.size() >= MAIN_BUNDLE_COUNT) {
+            return BundleMainListResponse.listFrom(bundles);
+        }
+        return BundleMainListResponse.listFrom(bundles,
+                bundleArchiveService.getLatestArchivedBundles(currentUser.getId(), MAIN_BUNDLE_COUNT), MAIN_BUNDLE_COUNT);
     }
 
     /**
@@ -126,9 +150,12 @@ public class BundleService {
         User currentUser = authenticationService.getAuthenticatedUser();
         Bundle bundle = validateAndGetBundle(bundleId, currentUser);
 
-        String link = generateDeliveryLink();
+        String link = deliveryLinkCodec.generate(bundle.getId());
         bundle.updateDeliveryCharacter(request.getDeliveryCharacterType(), link);
         Bundle savedBundle = bundleRepository.save(bundle);
+        recentWriteTracker.recordWrite(currentUser.getId());
+        bundleViewCache.evict(bundleId);
+        eventPublisher.publishEvent(new BundlePublishedEvent(bundle.getId(), currentUser.getId(), link));
 
         return BundleResponse.fromEntity(savedBundle, null, null);
     }
@@ -143,49 +170,38 @@ public class BundleService {
         if (request.getDesignType() == null) {
             throw new BaseException(BaseResponseStatus.BUNDLE_DESIGN_REQUIRED);
         }
-        if (request.getGifts() == null || request.getGifts().size() < 2) {
-            throw new BaseException(BaseResponseStatus.BUNDLE_MINIMUM_GIFTS_REQUIRED);
-        }
+        giftService.validateGiftRequests(request.getGifts());
     }
 
     /**
-     * 대표 이미지 설정 로직 (각 선물당 첫 번째 이미지를 대표 이미지로 설정)
-     */
-    private List<GiftImage> setPrimaryImage(List<? extends GiftImageRequest> giftRequests, List<Gift> savedGifts) {
-        List<GiftImage> newImages = new ArrayList<>();
-
-        // savedGifts와 giftRequests의 순서가 동일하다고 가정
-        for (int i = 0; i < savedGifts.size(); i++) {
-            Gift gift = savedGifts.get(i);
-            GiftImageRequest giftRequest = giftRequests.get(i);
-            List<String> imageUrls = giftRequest.getImageUrls();
-
-            if (imageUrls == null || imageUrls.isEmpty()) {
-                throw new BaseException(BaseResponseStatus.GIFT_IMAGE_REQUIRED);
-            }
-
-            // 각 giftRequest의 첫 번째 이미지가 대표 이미지(isPrimary=true)
-            for (int j = 0; j < imageUrls.size(); j++) {
-                boolean isPrimary = (j == 0);
-                newImages.add(GiftImage.createGiftImage(gift, imageUrls.get(j), isPrimary));
-            }
-        }
-        return newImages;
-    }
-
-    /**
-     * 보따리 삭제
+     * 보따리 삭제 (보관된 보따리 포함)
      */
     @Transactional
     public void deleteBundle(Long bundleId) {
         User currentUser = authenticationService.getAuthenticatedUser();
-        Bundle bundle = validateAndGetBundle(bundleId, currentUser);
+
+        Optional<Bundle> found = bundleRepository.findById(bundleId);
+        if (found.isEmpty()) {
+            // 목록에 함께 보이는 보관된 보따리는 보관 테이블에서 삭제
+            bundleArchiveService.deleteArchivedBundle(bundleId, currentUser.getId());
+            recentWriteTracker.recordWrite(currentUser.getId());
+            log.info("보관된 보따리 삭제 완료 - bundleId: {}, userId: {}", bundleId, currentUser.getId());
+            return;
+        }
+
+        Bundle bundle = found.get();
+        if (!bundle.getUser().getId().equals(currentUser.getId())) {
+            throw new BaseException(BaseResponseStatus.FORBIDDEN);
+        }
 
         log.info("보따리 삭제 시작 - bundleId: {}, userId: {}", bundleId, currentUser.getId());
 
         giftService.deleteAllGiftsAndImagesByBundleId(bundleId);
 
         bundleRepository.delete(bundle);
+        linkPageSnapshotService.delete(bundleId);
+        recentWriteTracker.recordWrite(currentUser.getId());
+        bundleViewCache.evict(bundleId);
 
         log.info("보따리 삭제 완료 - bundleId: {}", bundleId);
     }
@@ -194,34 +210,75 @@ public class BundleService {
     /**
      * 보따리 결과 조회
      */
+    @Transactional(readOnly = true)
     public BundleResultResponse getBundleResult(Long bundleId) {
         User currentUser = authenticationService.getAuthenticatedUser();
 
-        Bundle bundle = bundleRepository.findByIdAndStatus(bundleId, BundleStatus.COMPLETED)
-                .orElseThrow(() -> new BaseException(BaseResponseStatus.BUNDLE_NOT_FOUND));
+        Optional<Bundle> completed = bundleRepository.findByIdAndStatus(bundleId, BundleStatus.COMPLETED);
+        if (completed.isEmpty()) {
+            // 보관된 보따리는 보관 테이블에서 조회
+            return bundleArchiveService.getArchivedResult(bundleId, currentUser.getId());
+        }
 
+        Bundle bundle = completed.get();
         if (!bundle.getUser().getId().equals(currentUser.getId())) {
             throw new BaseException(BaseResponseStatus.FORBIDDEN);
         }
 
         List<BundleResultGiftResponse> giftResponses = giftService.getGiftResultResponsesByBundleId(bundleId);
 
-        return new BundleResultResponse(bundle.getId(), giftResponses);
+        return BundleResultResponse.builder()
+                .id(bundle.getId())
+                .gifts(giftResponses)
+                .tagCounts(bundle.getStatistics().getTagCounts())
+                .build();
     }
 
     /**
      * 보따리 조회 API (간이 조회)
+     * 읽음 표시는 버퍼에 쌓아 두었다가 주기적으로 일괄 반영한다.
+     * 권한 검사 후 보따리 버전 기준으로 캐시된 화면을 사용한다. (조회 / 개별 선물 / 임시 저장 선물 공통)
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public BundleSummaryResponse getBundle(Long bundleId) {
         User currentUser = authenticationService.getAuthenticatedUser();
         Bundle bundle = validateAndGetBundle(bundleId, currentUser);
 
         if (bundle.getStatus() == BundleStatus.COMPLETED && !bundle.getIsRead()) {
-            bundle.markAsRead();
+            bundleReadMarkBuffer.mark(bundle.getId());
         }
 
-        return giftService.getGiftSummary(bundle);
+        return bundleViewCache.get(BundleViewKey.summary(bundle), () -> giftService.getGiftSummary(bundle));
+    }
+
+    /**
+     * 조건부 조회 사전 검사 - 본인 보따리인 경우에만 반환 (그 외는 본 조회에서 예외 처리)
+     */
+    @Transactional(readOnly = true)
+    public Optional<BundleFreshness> getOwnedBundleFreshness(Long bundleId) {
+        User currentUser = authenticationService.getAuthenticatedUser();
+        return bundleRepository.findFreshnessById(bundleId)
+                .filter(freshness -> freshness.getUserId().equals(currentUser.getId()));
+    }
+
+    /**
+     * 조건부 조회 사전 검사 - 메인 목록 (보관된 보따리를 포함한 보따리 수 + 최종 수정 시각)
+     */
+    @Transactional(readOnly = true)
+    public BundleListFreshness getMainBundlesFreshness() {
+        User currentUser = authenticationService.getAuthenticatedUser();
+        return bundleRepository.findListFreshnessByUserId(currentUser.getId())
+                .withArchived(bundleArchiveService.getArchivedListFreshness(currentUser.getId()));
+    }
+
+    /**
+     * 304 응답 시에도 답변 확인 처리
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void markAsReadIfUnread(BundleFreshness freshness) {
+        if (freshness.getStatus() == BundleStatus.COMPLETED && !freshness.getIsRead()) {
+            bundleReadMarkBuffer.mark(freshness.getId());
+        }
     }
 
     /**
@@ -231,7 +288,8 @@ public class BundleService {
     public GiftDetailResponse getGift(Long bundleId, Long giftId) {
         User currentUser = authenticationService.getAuthenticatedUser();
         Bundle bundle = validateAndGetBundle(bundleId, currentUser);
-        return giftService.getGiftDetail(bundleId, giftId);
+        return bundleViewCache.get(BundleViewKey.giftDetail(bundle, giftId),
+                () -> giftService.getGiftDetail(bundleId, giftId));
     }
 
 
@@ -247,7 +305,7 @@ public class BundleService {
             throw new BaseException(BaseResponseStatus.INVALID_BUNDLE_STATUS);
         }
 
-        return giftService.getDraftGifts(bundleId);
+        return bundleViewCache.get(BundleViewKey.draftGifts(bundle), () -> giftService.getDraftGifts(bundle));
     }
 
     private Bundle validateAndGetBundle(Long bundleId, User currentUser) {
@@ -273,10 +331,6 @@ public class BundleService {
         gifts.forEach(gift -> logGiftDetails("최종 저장 선물", gift));
     }
 
-    private String generateDeliveryLink() {
-        return UUID.randomUUID().toString();
-    }
-
     private void logGiftDetails(String prefix, Gift gift) {
         log.debug("{} - [id: {}] name: {}, message: {}, purchaseUrl: {}",
                 prefix, gift.getId(), gift.getName(), gift.getMessage(), gift.getPurchaseUrl());
@@ -0,0 +1,90 @@
+package com.picktory.domain.bundle.service;
+
+import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.entity.BundleStatistics;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.bundle.cache.BundleViewCache;
+import com.picktory.domain.gift.dto.GiftTagCount;
+import com.picktory.domain.gift.enums.GiftResponseTag;
+import com.picktory.domain.gift.repository.GiftRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BundleStatisticsService {
+
+    private final BundleRepository bundleRepository;
+    private final GiftRepository giftRepository;
+    private final BundleViewCache bundleViewCache;
+
+    /**
+     * lastId 이후 보따리 batchSize개의 통계를 gifts 테이블 기준으로 다시 계산
+     * 배치 전체를 잠그지 않고, 어긋난 보따리만 조회 당시 버전을 조건으로 덮어써 그 행만 잠근다.
+     * 집계하는 사이 답변 등으로 버전이 바뀐 보따리는 건너뛰고 다음 실행에서 다시 확인한다.
+     *
+     * @return 마지막으로 처리한 보따리 ID (더 이상 처리할 보따리가 없으면 null)
+     */
+    @Transactional
+    public Long repairBatch(Long lastId, int batchSize) {
+        List<Bundle> bundles = bundleRepository.findBatchAfter(lastId, PageRequest.of(0, batchSize));
+        if (bundles.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, BundleStatistics> actualStatistics = countStatistics(
+                bundles.stream().map(Bundle::getId).toList()
+        );
+
+        int repairedCount = 0;
+        for (Bundle bundle : bundles) {
+            BundleStatistics actual = actualStatistics.getOrDefault(bundle.getId(), BundleStatistics.empty());
+            if (!actual.equals(bundle.getStatistics())
+                    && bundleRepository.updateStatistics(bundle.getId(), actual, bundle.getVersion()) > 0) {
+                bundleViewCache.evict(bundle.getId());
+                repairedCount++;
+            }
+        }
+
+        if (repairedCount > 0) {
+            log.info("보따리 통계 복구 - {}건 (bundleId {} ~ {})",
+                    repairedCount, bundles.get(0).getId(), bundles.get(bundles.size() - 1).getId());
+        }
+        return bundles.get(bundles.size() - 1).getId();
+    }
+
+    private Map<Long, BundleStatistics> countStatistics(List<Long> bundleIds) {
+        Map<Long, int[]> counts = new HashMap<>();
+        Map<Long, Map<GiftResponseTag, Integer>> tagCounts = new HashMap<>();
+
+        for (GiftTagCount row : giftRepository.countByBundleIdsGroupByResponseTag(bundleIds)) {
+            int count = row.getCount().intValue();
+            int[] giftAndResponded = counts.computeIfAbsent(row.getBundleId(), id -> new int[2]);
+            giftAndResponded[0] += count;
+            if (Boolean.TRUE.equals(row.getIsResponsed())) {
+                giftAndResponded[1] += count;
+            }
+            if (row.getResponseTag() != null) {
+                tagCounts.computeIfAbsent(row.getBundleId(), id -> new EnumMap<>(GiftResponseTag.class))
+                        .merge(row.getResponseTag(), count, Integer::sum);
+            }
+        }
+
+        Map<Long, BundleStatistics> statistics = new HashMap<>();
+        counts.forEach((bundleId, giftAndResponded) -> statistics.put(bundleId, BundleStatistics.of(
+                giftAndResponded[0],
+                giftAndResponded[1],
+                tagCounts.getOrDefault(bundleId, Map.of())
+        )));
+        return statistics;
+    }
+}
@@ -0,0 +1,41 @@
+package com.picktory.domain.bundle.service;
+
+import com.picktory.config.AsyncConfig;
+import com.picktory.domain.bundle.dto.BundleStatusMessage;
+import com.picktory.domain.bundle.enums.BundleStatus;
+import com.picktory.domain.bundle.event.BundleCompletedEvent;
+import com.picktory.domain.bundle.event.BundleEventMetrics;
+import com.picktory.domain.bundle.event.BundlePublishedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 배달 / 답변 완료 커밋 후 보낸 사람의 상태 스트림으로 전달
+ * 같은 상태를 두 번 받아도 클라이언트는 상태만 덮어쓰면 되므로 중복 전달에 안전하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BundleStatusStreamEventHandler {
+
+    private static final String HANDLER = "status-stream";
+
+    private final BundleStatusStreamService bundleStatusStreamService;
+    private final BundleEventMetrics bundleEventMetrics;
+
+    @Async(AsyncConfig.BUNDLE_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPublished(BundlePublishedEvent event) {
+        bundleEventMetrics.record(HANDLER, event, () -> bundleStatusStreamService.publish(event.userId(),
+                BundleStatusMessage.of(event.bundleId(), BundleStatus.PUBLISHED)));
+    }
+
+    @Async(AsyncConfig.BUNDLE_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCompleted(BundleCompletedEvent event) {
+        bundleEventMetrics.record(HANDLER, event, () -> bundleStatusStreamService.publish(event.userId(),
+                BundleStatusMessage.of(event.bundleId(), BundleStatus.COMPLETED)));
+    }
+}
@@ -0,0 +1,142 @@
+package com.picktory.domain.bundle.service;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.domain.bundle.dto.BundleStatusMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 보따리 상태 실시간 스트림 (SSE)
+ * 사용자별 연결을 메모리에 들고 있다가 배달 / 답변 완료 이벤트를 밀어준다.
+ * 연결은 서블릿 비동기 요청이라 대기 중에는 스레드를 점유하지 않는다.
+ * - 전체 연결 수 제한 (초과 시 503), 사용자별 연결 수 제한 (초과 시 가장 오래된 연결을 닫음)
+ * - 하트비트 주석으로 프록시 / 로드밸런서 유휴 타임아웃을 막고 끊긴 연결을 정리
+ * - 타임아웃이 지나면 서버가 닫고, 클라이언트(EventSource)가 다시 연결한다
+ * (인스턴스별 연결이므로 이벤트는 해당 인스턴스에 연결된 사용자에게만 전달된다)
+ */
+@Slf4j
+@Service
+public class BundleStatusStreamService {
+
+    private static final String STATUS_EVENT = "bundle-status";
+
+    private final Map<Long, List<SseEmitter>> emittersByUserId = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+    private final Duration timeout;
+
+    public BundleStatusStreamService(@Value("${picktory.bundle.stream.max-connections:5000}") int maxConnections,
+                                     @Value("${picktory.bundle.stream.max-connections-per-user:3}") int maxConnectionsPerUser,
+                                     @Value("${picktory.bundle.stream.timeout:30m}") Duration timeout,
+                                     MeterRegistry meterRegistry) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.timeout = timeout;
+        Gauge.builder("picktory.bundle.stream.connections", connectionCount, AtomicInteger::get)
+                .description("열려 있는 보따리 상태 스트림 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스트림 연결
+     */
+    public SseEmitter subscribe(Long userId) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new BaseException(BaseResponseStatus.STREAM_CONNECTION_LIMIT_EXCEEDED);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(userId, emitter));
+
+        // 목록 생성 / 추가 / 사용자별 연결 수 확인을 한 번에 처리해, 동시에 끊긴 연결이 빈 목록을 지우는 것과 겹치지 않게 한다
+        // 사용자별 연결 수 초과 시 가장 오래된 연결부터 닫는다 (앱 재실행 등으로 남은 연결)
+        List<SseEmitter> evicted = new ArrayList<>();
+        emittersByUserId.compute(userId, (id, emitters) -> {
+            List<SseEmitter> connected = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            connected.add(emitter);
+            while (connected.size() > maxConnectionsPerUser) {
+                evicted.add(connected.remove(0));
+                connectionCount.decrementAndGet();
+            }
+            return connected;
+        });
+        evicted.forEach(SseEmitter::complete);
+
+        // 응답 헤더를 바로 내려보내 연결을 확정
+        send(userId, emitter, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /**
+     * 사용자의 모든 연결에 상태 변경 전달
+     */
+    public void publish(Long userId, BundleStatusMessage message) {
+        List<SseEmitter> emitters = emittersByUserId.get(userId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(userId, emitter, SseEmitter.event()
+                    .name(STATUS_EVENT)
+                    .id(message.bundleId() + ":" + message.status())
+                    .data(message, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${picktory.bundle.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        emittersByUserId.forEach((userId, emitters) ->
+                emitters.forEach(emitter -> send(userId, emitter, SseEmitter.event().comment("ping"))));
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        log.info("보따리 상태 스트림 종료 - {}개 연결", connectionCount.get());
+        emittersByUserId.forEach((userId, emitters) -> emitters.forEach(SseEmitter::complete));
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결 (클라이언트 종료, 이미 완료된 emitter)
+            log.debug("보따리 상태 스트림 전송 실패 - userId: {}", userId);
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emittersByUserId.computeIfPresent(userId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                connectionCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.picktory.domain.bundle.service;
+
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Optional;
+
+/**
+ * 배달 링크 코드 생성/해석
+ * 형식: base62(보따리 ID, 9자리 고정) + base62 난수 9자리 = 18자
+ * - ID 부분이 유일하므로 중복 확인 쿼리 없이 충돌이 없다.
+ * - 난수 부분이 링크 추측을 막는다. (약 53비트)
+ * - 조회 시 ID를 복원해 PK로 찾고, 저장된 링크와 일치하는지 확인한다.
+ */
+@Component
+public class DeliveryLinkCodec {
+
+    public static final int LINK_LENGTH = 18;
+
+    private static final int ID_LENGTH = 9;
+    private static final char[] ALPHABET =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int BASE = ALPHABET.length;
+    private static final long MAX_ID = maxEncodableId();
+
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * 보따리 ID로 새 배달 링크 생성
+     */
+    public String generate(long bundleId) {
+        if (bundleId < 0 || bundleId > MAX_ID) {
+            throw new IllegalArgumentException("배달 링크로 인코딩할 수 없는 보따리 ID입니다: " + bundleId);
+        }
+
+        char[] link = new char[LINK_LENGTH];
+        long value = bundleId;
+        for (int i = ID_LENGTH - 1; i >= 0; i--) {
+            link[i] = ALPHABET[(int) (value % BASE)];
+            value /= BASE;
+        }
+        for (int i = ID_LENGTH; i < LINK_LENGTH; i++) {
+            link[i] = ALPHABET[random.nextInt(BASE)];
+        }
+        return new String(link);
+    }
+
+    /**
+     * 배달 링크에서 보따리 ID 복원 (이전 UUID 형식 링크는 empty)
+     */
+    public Optional<Long> decodeBundleId(String link) {
+        if (link == null || link.length() != LINK_LENGTH) {
+            return Optional.empty();
+        }
+
+        long value = 0;
+        for (int i = 0; i < LINK_LENGTH; i++) {
+            int digit = digitOf(link.charAt(i));
+            if (digit < 0) {
+                return Optional.empty();
+            }
+            if (i < ID_LENGTH) {
+                value = value * BASE + digit;
+            }
+        }
+        return Optional.of(value);
+    }
+
+    private static int digitOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 36;
+        }
+        return -1;
+    }
+
+    private static long maxEncodableId() {
+        long max = 1;
+        for (int i = 0; i < ID_LENGTH; i++) {
+            max *= BASE;
+        }
+        return max - 1;
+    }
+}
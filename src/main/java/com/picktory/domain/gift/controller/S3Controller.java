@@ -1,6 +1,8 @@
 package com.picktory.domain.gift.controller;
 
 import com.picktory.common.BaseResponse;
+import com.picktory.config.ratelimit.RateLimitPolicy;
+import com.picktory.config.ratelimit.RateLimited;
 import com.picktory.domain.gift.service.S3Service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +23,7 @@ public class S3Controller {
      * S3 이미지 MultipartFile식 업로드
      */
     @PostMapping("/upload")
+    @RateLimited(RateLimitPolicy.IMAGE_UPLOAD)
     public ResponseEntity<BaseResponse<Map<String, List<String>>>> uploadImages(@RequestParam List<MultipartFile> files) {
         List<String> s3Urls = s3Service.uploadImages(files);
         return ResponseEntity.ok(new BaseResponse<>(Map.of("uploadedUrls", s3Urls)));
@@ -1,5 +1,6 @@
 package com.picktory.domain.gift.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.picktory.domain.bundle.entity.Bundle;
 import com.picktory.domain.gift.entity.Gift;
 import com.picktory.domain.gift.entity.GiftImage;
@@ -11,13 +12,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Getter
 @Builder
 public class DraftGiftsResponse {
     private Long bundleId;
+    private Long version; // 임시 저장 요청 시 그대로 전달
     private List<GiftDetailResponse> gifts;
 
-    public static DraftGiftsResponse from(Long bundleId, List<Gift> gifts, List<GiftImage> images) {
+    public static DraftGiftsResponse from(Bundle bundle, List<Gift> gifts, List<GiftImage> images) {
         // 선물 ID별로 이미지 그룹화
         Map<Long, List<GiftImage>> giftImagesMap = images.stream()
                 .collect(Collectors.groupingBy(
@@ -52,7 +55,8 @@ public class DraftGiftsResponse {
                 .collect(Collectors.toList());
 
         return DraftGiftsResponse.builder()
-                .bundleId(bundleId)
+                .bundleId(bundle.getId())
+                .version(bundle.getVersion())
                 .gifts(giftResponses)
                 .build();
     }
@@ -1,5 +1,8 @@
 package com.picktory.domain.gift.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.picktory.common.image.ImageUrlSerializer;
 import com.picktory.domain.gift.entity.Gift;
 import com.picktory.domain.gift.entity.GiftImage;
 import lombok.Builder;
@@ -8,6 +11,7 @@ import lombok.Getter;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Getter
 @Builder
 public class GiftDetailResponse {
@@ -15,7 +19,9 @@ public class GiftDetailResponse {
     private String name;
     private String message;
     private String purchaseUrl;
+    @JsonSerialize(using = ImageUrlSerializer.class)
     private String thumbnail;    // isPrimary = true인 이미지
+    @JsonSerialize(contentUsing = ImageUrlSerializer.class)
     private List<String> imageUrls;  // isPrimary = false인 이미지들
 
     public static GiftDetailResponse fromEntity(Gift gift, List<GiftImage> images) {
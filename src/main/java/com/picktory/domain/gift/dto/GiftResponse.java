@@ -1,5 +1,8 @@
 package com.picktory.domain.gift.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.picktory.common.image.ImageUrlSerializer;
 import com.picktory.domain.gift.entity.Gift;
 import com.picktory.domain.gift.entity.GiftImage;
 import com.picktory.domain.gift.enums.GiftResponseTag;
@@ -12,6 +15,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Setter
 @Getter
 @Builder
@@ -22,6 +26,7 @@ public class GiftResponse {
     private String purchaseUrl;
     private GiftResponseTag responseTag;
     private Boolean isResponsed;
+    @JsonSerialize(contentUsing = ImageUrlSerializer.class)
     private List<String> imageUrls;
 
     public static GiftResponse fromEntity(Gift gift, List<GiftImage> images) {
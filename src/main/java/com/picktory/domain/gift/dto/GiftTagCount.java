@@ -0,0 +1,13 @@
+package com.picktory.domain.gift.dto;
+
+import com.picktory.domain.gift.enums.GiftResponseTag;
+
+/**
+ * 보따리별 선물 응답 태그 집계 결과 (통계 복구용 프로젝션)
+ */
+public interface GiftTagCount {
+    Long getBundleId();
+    GiftResponseTag getResponseTag();
+    Boolean getIsResponsed();
+    Long getCount();
+}
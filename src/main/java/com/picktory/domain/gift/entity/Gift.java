@@ -1,5 +1,6 @@
 package com.picktory.domain.gift.entity;
 
+import com.picktory.common.id.SnowflakeId;
 import com.picktory.domain.gift.dto.AbstractGiftRequest;
 import com.picktory.domain.gift.dto.GiftRequest;
 import com.picktory.domain.gift.dto.GiftUpdateRequest;
@@ -10,7 +11,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "gifts")
+@Table(name = "gifts", indexes = {
+        @Index(name = "idx_gifts_bundle_id", columnList = "bundle_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -18,7 +21,7 @@ import java.time.LocalDateTime;
 public class Gift {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -43,6 +46,9 @@ public class Gift {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Version
+    private Long version; // 낙관적 락 버전 (신규 저장 시 0)
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -80,6 +86,19 @@ public class Gift {
 
     }
 
+    // 자동 저장 - 전달된 값만 변경 (null은 유지)
+    public void patch(String name, String message, String purchaseUrl) {
+        if (name != null) {
+            this.name = name;
+        }
+        if (message != null) {
+            this.message = message;
+        }
+        if (purchaseUrl != null) {
+            this.purchaseUrl = purchaseUrl;
+        }
+    }
+
     // 응답 상태 및 태그 변경 메서드 추가
     public void updateResponse(GiftResponseTag responseTag) {
         this.responseTag = responseTag;
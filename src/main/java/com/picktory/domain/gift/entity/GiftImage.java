@@ -1,12 +1,16 @@
 package com.picktory.domain.gift.entity;
 
+import com.picktory.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "gift_images")
+@Table(name = "gift_images", indexes = {
+        @Index(name = "idx_gift_images_gift_id_is_primary", columnList = "gift_id, is_primary"),
+        @Index(name = "idx_gift_images_image_key", columnList = "image_key")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -14,7 +18,7 @@ import java.time.LocalDateTime;
 public class GiftImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,7 +27,10 @@ public class GiftImage {
 
 
     @Column(nullable = false, columnDefinition = "TEXT")
-    private String imageUrl; // S3에 저장된 이미지 URL
+    private String imageUrl; // 이전 방식: 전체 URL (image_key 이관 전 행만 사용, 이관 후와 새 행은 빈 문자열)
+
+    @Column(length = 255)
+    private String imageKey; // S3 객체 키 (응답 시 CDN URL로 변환)
 
     @Column(nullable = false)
     private Boolean isPrimary; // 대표 썸네일 여부
@@ -31,14 +38,22 @@ public class GiftImage {
     @Column(nullable = false, updatable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime uploadedAt;
 
-    public static GiftImage createGiftImage(Gift gift, String imageUrl, boolean isPrimary) {
+    public static GiftImage createGiftImage(Gift gift, String imageKey, boolean isPrimary) {
         return GiftImage.builder()
                 .gift(gift)
-                .imageUrl(imageUrl)
+                .imageKey(imageKey)
+                .imageUrl("") // 컬럼 삭제(contract) 전까지 NOT NULL
                 .isPrimary(isPrimary)
                 .uploadedAt(LocalDateTime.now())
                 .build();
     }
+    /**
+     * 저장된 이미지 위치 (객체 키, 이관 전 행은 전체 URL)
+     */
+    public String getImageUrl() {
+        return imageKey != null ? imageKey : imageUrl;
+    }
+
     public void setPrimary(boolean isPrimary) {
         this.isPrimary = isPrimary;
     }
@@ -0,0 +1,104 @@
+package com.picktory.domain.gift.job;
+
+import com.picktory.domain.gift.repository.S3ObjectDeletionRepository;
+import com.picktory.domain.gift.repository.S3ObjectDeletionRepository.PendingDeletion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * S3 객체 삭제 대기열 처리
+ * 대기 중인 키를 batchSize씩 DeleteObjects 한 번으로 지우고(최대 1000개), 실패한 키는 retry-backoff 뒤에 다시 시도한다.
+ * S3 삭제는 멱등이라 여러 인스턴스가 같은 키를 지워도 문제없다.
+ */
+@Slf4j
+@Component
+public class S3ObjectDeletionJob {
+
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final S3ObjectDeletionRepository s3ObjectDeletionRepository;
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    public S3ObjectDeletionJob(S3ObjectDeletionRepository s3ObjectDeletionRepository,
+                               S3Client s3Client,
+                               @Value("${aws.s3.bucket-name}") String bucketName,
+                               @Value("${picktory.s3-deletion.enabled:false}") boolean enabled,
+                               @Value("${picktory.s3-deletion.batch-size:500}") int batchSize,
+                               @Value("${picktory.s3-deletion.max-attempts:5}") int maxAttempts,
+                               @Value("${picktory.s3-deletion.retry-backoff:10m}") Duration retryBackoff) {
+        this.s3ObjectDeletionRepository = s3ObjectDeletionRepository;
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.enabled = enabled;
+        this.batchSize = Math.min(batchSize, MAX_KEYS_PER_REQUEST);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${picktory.s3-deletion.interval-ms:10000}")
+    public void deletePendingObjects() {
+        if (!enabled) {
+            return;
+        }
+        List<PendingDeletion> pending;
+        do {
+            pending = s3ObjectDeletionRepository.findDue(LocalDateTime.now(), maxAttempts, batchSize);
+        } while (!pending.isEmpty() && deleteBatch(pending) && pending.size() == batchSize);
+    }
+
+    /**
+     * @return 배치 전체가 삭제되었으면 true (실패가 있으면 이번 주기는 멈춘다)
+     */
+    public boolean deleteBatch(List<PendingDeletion> pending) {
+        List<ObjectIdentifier> objects = pending.stream()
+                .map(deletion -> ObjectIdentifier.builder().key(deletion.objectKey()).build())
+                .toList();
+
+        Set<String> failedKeys;
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build());
+            failedKeys = response.errors().stream().map(S3Error::key).collect(Collectors.toSet());
+            response.errors().forEach(error ->
+                    log.warn("S3 객체 삭제 실패 - key: {}, code: {}", error.key(), error.code()));
+        } catch (SdkException e) {
+            log.warn("S3 객체 일괄 삭제 요청 실패 - {}건", pending.size(), e);
+            failedKeys = pending.stream().map(PendingDeletion::objectKey).collect(Collectors.toSet());
+        }
+
+        Set<String> failed = failedKeys;
+        s3ObjectDeletionRepository.deleteAllByIdIn(pending.stream()
+                .filter(deletion -> !failed.contains(deletion.objectKey()))
+                .map(PendingDeletion::id)
+                .toList());
+        s3ObjectDeletionRepository.retryLater(pending.stream()
+                .filter(deletion -> failed.contains(deletion.objectKey()))
+                .map(PendingDeletion::id)
+                .toList(), LocalDateTime.now().plus(retryBackoff));
+
+        log.info("S3 객체 삭제 - 성공 {}건, 실패 {}건", pending.size() - failed.size(), failed.size());
+        return failed.isEmpty();
+    }
+}
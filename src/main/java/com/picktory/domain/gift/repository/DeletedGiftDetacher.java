@@ -0,0 +1,39 @@
+package com.picktory.domain.gift.repository;
+
+import com.picktory.domain.gift.entity.Gift;
+import com.picktory.domain.gift.entity.GiftImage;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 벌크 DELETE로 지워진 선물 / 이미지 엔티티만 영속성 컨텍스트에서 분리한다.
+ * (clear()와 달리 같은 트랜잭션의 다른 엔티티는 계속 관리)
+ */
+final class DeletedGiftDetacher {
+
+    private DeletedGiftDetacher() {
+    }
+
+    static void detachGiftsWithImages(EntityManager entityManager, Set<Long> giftIds) {
+        detach(entityManager, giftIds, true);
+    }
+
+    static void detachImages(EntityManager entityManager, Set<Long> giftIds) {
+        detach(entityManager, giftIds, false);
+    }
+
+    private static void detach(EntityManager entityManager, Set<Long> giftIds, boolean includeGifts) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        for (Map.Entry<Object, EntityEntry> entry : session.getPersistenceContextInternal().reentrantSafeEntityEntries()) {
+            Object entity = entry.getKey();
+            if (includeGifts && entity instanceof Gift deletedGift && giftIds.contains(deletedGift.getId())
+                    || entity instanceof GiftImage deletedImage && giftIds.contains(deletedImage.getGift().getId())) {
+                entityManager.detach(entity);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.picktory.domain.gift.repository;
+
+import java.util.List;
+
+public interface GiftImageRepositoryCustom {
+
+    /**
+     * 선물들의 이미지 일괄 삭제 (DELETE 한 번, 파생 삭제처럼 행마다 SELECT / DELETE 하지 않음)
+     * 실행 전 대기 중인 변경을 flush하고, 지워진 이미지 엔티티는 영속성 컨텍스트에서 분리한다.
+     *
+     * @return 삭제된 이미지 수
+     */
+    int deleteAllByGift_IdIn(List<Long> giftIds);
+}
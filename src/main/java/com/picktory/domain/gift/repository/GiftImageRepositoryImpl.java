@@ -0,0 +1,33 @@
+package com.picktory.domain.gift.repository;
+
+import com.picktory.domain.gift.entity.QGiftImage;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashSet;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class GiftImageRepositoryImpl implements GiftImageRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private final QGiftImage giftImage = QGiftImage.giftImage;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int deleteAllByGift_IdIn(List<Long> giftIds) {
+        if (giftIds == null || giftIds.isEmpty()) {
+            return 0;
+        }
+        // 벌크 DELETE는 영속성 컨텍스트를 거치지 않으므로 대기 중인 INSERT / UPDATE를 먼저 반영
+        entityManager.flush();
+
+        long deleted = queryFactory.delete(giftImage).where(giftImage.gift.id.in(giftIds)).execute();
+
+        DeletedGiftDetacher.detachImages(entityManager, new HashSet<>(giftIds));
+        return (int) deleted;
+    }
+}
@@ -1,14 +1,28 @@
 package com.picktory.domain.gift.repository;
 
+import com.picktory.domain.gift.dto.GiftTagCount;
 import com.picktory.domain.gift.entity.Gift;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface GiftRepository extends JpaRepository<Gift, Long> {
+public interface GiftRepository extends JpaRepository<Gift, Long>, GiftRepositoryCustom {
 
     List<Gift> findAllByBundleId(Long bundleId);
 
+    List<Gift> findAllByBundleIdIn(Collection<Long> bundleIds);
+
     Optional<Gift> findByIdAndBundleId(Long giftId, Long bundleId);
+
+    /**
+     * 보따리별 선물 수 / 답변 여부 / 응답 태그 집계 (통계 복구용)
+     */
+    @Query("SELECT g.bundleId AS bundleId, g.responseTag AS responseTag, g.isResponsed AS isResponsed, COUNT(g) AS count " +
+            "FROM Gift g WHERE g.bundleId IN :bundleIds " +
+            "GROUP BY g.bundleId, g.responseTag, g.isResponsed")
+    List<GiftTagCount> countByBundleIdsGroupByResponseTag(@Param("bundleIds") List<Long> bundleIds);
 }
@@ -0,0 +1,19 @@
+package com.picktory.domain.gift.repository;
+
+import java.util.Collection;
+
+public interface GiftRepositoryCustom {
+
+    /**
+     * 선물과 이미지를 테이블당 DELETE 한 번으로 삭제 (엔티티를 읽지 않음)
+     * 실행 전 대기 중인 변경을 flush하고, 지워진 선물 / 이미지 엔티티는 영속성 컨텍스트에서 분리한다.
+     *
+     * @return 삭제된 선물 수
+     */
+    long deleteAllWithImagesByIdIn(Collection<Long> giftIds);
+
+    /**
+     * 보따리의 선물과 이미지 일괄 삭제 (선물 ID 조회 1회 + 테이블당 DELETE 1회)
+     */
+    long deleteAllWithImagesByBundleId(Long bundleId);
+}
@@ -0,0 +1,49 @@
+package com.picktory.domain.gift.repository;
+
+import com.picktory.domain.gift.entity.QGift;
+import com.picktory.domain.gift.entity.QGiftImage;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class GiftRepositoryImpl implements GiftRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private final QGift gift = QGift.gift;
+    private final QGiftImage giftImage = QGiftImage.giftImage;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long deleteAllWithImagesByIdIn(Collection<Long> giftIds) {
+        if (giftIds == null || giftIds.isEmpty()) {
+            return 0;
+        }
+        // 1. 벌크 DELETE는 영속성 컨텍스트를 거치지 않으므로 대기 중인 INSERT / UPDATE를 먼저 반영
+        entityManager.flush();
+
+        // 2. 외래 키 순서대로 테이블당 한 번씩 삭제 (이미지 -> 선물)
+        queryFactory.delete(giftImage).where(giftImage.gift.id.in(giftIds)).execute();
+        long deleted = queryFactory.delete(gift).where(gift.id.in(giftIds)).execute();
+
+        // 3. 지워진 행의 엔티티만 분리 (같은 트랜잭션의 다른 엔티티는 계속 관리)
+        DeletedGiftDetacher.detachGiftsWithImages(entityManager, new HashSet<>(giftIds));
+        return deleted;
+    }
+
+    @Override
+    public long deleteAllWithImagesByBundleId(Long bundleId) {
+        List<Long> giftIds = queryFactory
+                .select(gift.id)
+                .from(gift)
+                .where(gift.bundleId.eq(bundleId))
+                .fetch();
+        return deleteAllWithImagesByIdIn(giftIds);
+    }
+}
@@ -0,0 +1,71 @@
+package com.picktory.domain.gift.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * S3 객체 삭제 대기열
+ * DB 행을 지우는 트랜잭션 안에서 객체 키를 기록해 두고, S3ObjectDeletionJob이 커밋된 키만 삭제한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class S3ObjectDeletionRepository {
+
+    private static final String INSERT =
+            "INSERT INTO s3_object_deletions (object_key, attempts, next_attempt_at, created_at) "
+                    + "VALUES (:objectKey, 0, :now, :now)";
+
+    private static final String FIND_DUE =
+            "SELECT id, object_key FROM s3_object_deletions "
+                    + "WHERE next_attempt_at <= :now AND attempts < :maxAttempts ORDER BY next_attempt_at LIMIT :limit";
+
+    private static final String DELETE_BY_IDS =
+            "DELETE FROM s3_object_deletions WHERE id IN (:ids)";
+
+    private static final String RETRY_LATER =
+            "UPDATE s3_object_deletions SET attempts = attempts + 1, next_attempt_at = :retryAt WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void enqueueAll(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        MapSqlParameterSource[] batch = objectKeys.stream()
+                .map(objectKey -> new MapSqlParameterSource("objectKey", objectKey).addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT, batch);
+    }
+
+    public List<PendingDeletion> findDue(LocalDateTime now, int maxAttempts, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("now", Timestamp.valueOf(now))
+                .addValue("maxAttempts", maxAttempts)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FIND_DUE, params,
+                (rs, rowNum) -> new PendingDeletion(rs.getLong("id"), rs.getString("object_key")));
+    }
+
+    public void deleteAllByIdIn(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update(DELETE_BY_IDS, new MapSqlParameterSource("ids", ids));
+        }
+    }
+
+    public void retryLater(Collection<Long> ids, LocalDateTime retryAt) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update(RETRY_LATER, new MapSqlParameterSource("ids", ids)
+                    .addValue("retryAt", Timestamp.valueOf(retryAt)));
+        }
+    }
+
+    public record PendingDeletion(long id, String objectKey) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.picktory.domain.gift.service;
+
+import com.picktory.common.image.ImageKeyResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * gift_images.image_url(전체 URL) -> image_key(객체 키) 이관 작업 (V8 확장 이후, 컬럼 삭제 전 단계)
+ * 한 번에 chunk-size 행씩 PK 순서로 읽고, image_key를 채우면서 image_url을 비우는 UPDATE 배치로 반영한다.
+ * image_url은 컬럼 삭제(db/contract) 전까지 NOT NULL이므로 NULL 대신 빈 문자열로 비운다.
+ * 청크마다 짧게 커밋되므로 테이블 잠금 없이 서비스 중에 실행할 수 있고, 이미 채워진 행은 건드리지 않는다.
+ */
+@Slf4j
+@Component
+public class GiftImageKeyMigrationJob {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final String SELECT_CHUNK =
+            "SELECT id, image_url, image_key FROM gift_images "
+                    + "WHERE id > ? AND (image_key IS NULL OR image_url <> '') ORDER BY id LIMIT ?";
+    // 이미 채워진 image_key는 유지하고 image_url만 비운다
+    private static final String UPDATE_KEY =
+            "UPDATE gift_images SET image_key = COALESCE(image_key, ?), image_url = '' WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageKeyResolver imageKeyResolver;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    private long lastId = 0L;
+    private volatile boolean finished = false;
+
+    public GiftImageKeyMigrationJob(JdbcTemplate jdbcTemplate,
+                                    ImageKeyResolver imageKeyResolver,
+                                    @Value("${picktory.image-key-migration.enabled:false}") boolean enabled,
+                                    @Value("${picktory.image-key-migration.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageKeyResolver = imageKeyResolver;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 주기마다 한 청크씩 처리 (주기가 곧 부하 조절)
+     */
+    @Scheduled(fixedDelayString = "${picktory.image-key-migration.interval-ms:1000}")
+    public void migrateNextChunk() {
+        if (!enabled || finished) {
+            return;
+        }
+        int migrated = migrateChunk();
+        if (migrated < 0) {
+            finished = true;
+            log.info("이미지 키 이관 완료 - 마지막 id: {}", lastId);
+        }
+    }
+
+    /**
+     * @return 이번 청크에서 채운 행 수, 남은 행이 없으면 -1
+     */
+    public synchronized int migrateChunk() {
+        List<ImageRow> rows = jdbcTemplate.query(SELECT_CHUNK,
+                (rs, rowNum) -> new ImageRow(rs.getLong("id"), rs.getString("image_url"), rs.getString("image_key")),
+                lastId, chunkSize);
+        if (rows.isEmpty()) {
+            return -1;
+        }
+
+        List<Object[]> updates = rows.stream()
+                .map(row -> new Object[]{row.imageKey() != null ? row.imageKey() : imageKeyResolver.toKey(row.imageUrl()), row.id()})
+                .filter(update -> update[0] != null && ((String) update[0]).length() <= MAX_KEY_LENGTH) // 긴 외부 URL은 image_url 그대로 사용
+                .toList();
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_KEY, updates);
+        }
+
+        lastId = rows.get(rows.size() - 1).id();
+        log.debug("이미지 키 이관 - {}행 (id <= {})", updates.size(), lastId);
+        return updates.size();
+    }
+
+    private record ImageRow(long id, String imageUrl, String imageKey) {
+    }
+}
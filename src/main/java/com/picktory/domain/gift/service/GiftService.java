@@ -2,9 +2,11 @@ package com.picktory.domain.gift.service;
 
 import com.picktory.common.BaseResponseStatus;
 import com.picktory.common.exception.BaseException;
+import com.picktory.common.image.ImageKeyResolver;
 import com.picktory.domain.bundle.dto.BundleResultGiftResponse;
 import com.picktory.domain.bundle.dto.BundleSummaryResponse;
 import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.gift.dto.AbstractGiftRequest;
 import com.picktory.domain.gift.dto.DraftGiftsResponse;
 import com.picktory.domain.gift.dto.GiftDetailResponse;
 import com.picktory.domain.gift.dto.GiftImageRequest;
@@ -27,8 +29,13 @@ import java.util.stream.Collectors;
 @Transactional
 public class GiftService {
 
+    private static final int MIN_GIFTS_PER_BUNDLE = 2;
+    private static final int MAX_GIFTS_PER_BUNDLE = 6;
+    private static final int MAX_IMAGES_PER_GIFT = 5;
+
     private final GiftRepository giftRepository;
     private final GiftImageRepository giftImageRepository;
+    private final ImageKeyResolver imageKeyResolver;
 
 
     public List<Gift> getGiftsByBundleId(Long bundleId) {
@@ -40,16 +47,13 @@ public class GiftService {
         Map<Long, Gift> existingGiftMap = existingGifts.stream()
                 .collect(Collectors.toMap(Gift::getId, gift -> gift));
 
-        // 기존 이미지 삭제
-        deleteImagesByGiftIds(existingGifts.stream().map(Gift::getId).toList());
-
         // 요청 ID만 추출
         List<Long> requestIds = requests.stream()
                 .map(GiftUpdateRequest::getId)
                 .filter(Objects::nonNull)
                 .toList();
 
-        // 삭제 대상
+        // 삭제 대상 (이미지와 함께 일괄 삭제)
         List<Gift> toDelete = existingGifts.stream()
                 .filter(g -> !requestIds.contains(g.getId()))
                 .toList();
@@ -59,6 +63,9 @@ public class GiftService {
                 .filter(g -> !toDelete.contains(g))
                 .toList();
 
+        // 남은 선물의 기존 이미지 일괄 삭제 (요청 이미지로 다시 만든다)
+        deleteImagesByGiftIds(remainingGifts.stream().map(Gift::getId).toList());
+
         List<Gift> updated = new ArrayList<>();
         List<Gift> newGifts = new ArrayList<>();
         List<GiftImage> newImages = new ArrayList<>();
@@ -99,13 +106,7 @@ public class GiftService {
     }
 
     public void deleteAllGiftsAndImagesByBundleId(Long bundleId) {
-        List<Gift> gifts = giftRepository.findAllByBundleId(bundleId);
-        List<Long> giftIds = gifts.stream().map(Gift::getId).toList();
-
-        if (!giftIds.isEmpty()) {
-            giftImageRepository.deleteAllByGift_IdIn(giftIds);
-            giftRepository.deleteAll(gifts);
-        }
+        giftRepository.deleteAllWithImagesByBundleId(bundleId);
     }
     public List<BundleResultGiftResponse> getGiftResultResponsesByBundleId(Long bundleId) {
         List<Gift> gifts = getGiftsByBundleId(bundleId);
@@ -127,23 +128,68 @@ public class GiftService {
     }
 
 
-    public List<GiftImage> createGiftImagesWithPrimary(List<? extends GiftImageRequest> giftRequests, List<Gift> savedGifts) {
-        List<GiftImage> images = new ArrayList<>();
-        for (int i = 0; i < savedGifts.size(); i++) {
-            Gift gift = savedGifts.get(i);
-            GiftImageRequest giftRequest = giftRequests.get(i);
-            List<String> imageUrls = giftRequest.getImageUrls();
+    /**
+     * 선물 요청 검증 (저장 전에 한 번에 검사)
+     * 선물 2~6개, 선물마다 이름 필수, 이미지 1~5장
+     */
+    public void validateGiftRequests(List<? extends AbstractGiftRequest> requests) {
+        validateGiftCount(requests == null ? 0 : requests.size());
 
-            if (imageUrls == null || imageUrls.isEmpty()) {
+        for (AbstractGiftRequest request : requests) {
+            if (request.getName() == null || request.getName().isBlank()) {
+                throw new BaseException(BaseResponseStatus.GIFT_NAME_REQUIRED);
+            }
+            List<String> imageUrls = request.getImageUrls();
+            validateImageCount(imageUrls == null ? 0 : imageUrls.size());
+            if (imageUrls.stream().anyMatch(url -> url == null || url.isBlank())) {
                 throw new BaseException(BaseResponseStatus.GIFT_IMAGE_REQUIRED);
             }
+        }
+    }
 
-            for (int j = 0; j < imageUrls.size(); j++) {
-                boolean isPrimary = (j == 0);
-                images.add(GiftImage.createGiftImage(gift, imageUrls.get(j), isPrimary));
-            }
+    /**
+     * 보따리의 선물 수 검증 (2~6개) - 전체 저장과 자동 저장(BundleDraftService)이 같은 기준을 쓴다
+     */
+    public void validateGiftCount(int giftCount) {
+        if (giftCount < MIN_GIFTS_PER_BUNDLE) {
+            throw new BaseException(BaseResponseStatus.BUNDLE_MINIMUM_GIFTS_REQUIRED);
+        }
+        if (giftCount > MAX_GIFTS_PER_BUNDLE) {
+            throw new BaseException(BaseResponseStatus.BUNDLE_MAXIMUM_GIFTS_EXCEEDED);
         }
-        return images;
+    }
+
+    /**
+     * 선물 하나의 이미지 수 검증 (1~5장)
+     */
+    public void validateImageCount(int imageCount) {
+        if (imageCount == 0) {
+            throw new BaseException(BaseResponseStatus.GIFT_IMAGE_REQUIRED);
+        }
+        if (imageCount > MAX_IMAGES_PER_GIFT) {
+            throw new BaseException(BaseResponseStatus.GIFT_IMAGE_COUNT);
+        }
+    }
+
+    /**
+     * 선물과 이미지를 일괄 생성 (검증된 요청 기준)
+     * 요청마다 선물과 이미지를 직접 짝지어 만들고, 선물/이미지를 각각 saveAll로 저장한다.
+     * ID가 INSERT 전에 정해지므로 flush 시 테이블당 배치 INSERT 한 번으로 처리된다.
+     *
+     * @return 선물별 이미지 (요청 순서 유지)
+     */
+    public Map<Gift, List<GiftImage>> createGiftsWithImages(Long bundleId, List<? extends AbstractGiftRequest> requests) {
+        Map<Gift, List<GiftImage>> giftImages = new LinkedHashMap<>();
+        for (AbstractGiftRequest request : requests) {
+            Gift gift = Gift.createGift(bundleId, request);
+            giftImages.put(gift, createImages(gift, request.getImageUrls()));
+        }
+
+        giftRepository.saveAll(giftImages.keySet());
+        giftImageRepository.saveAll(giftImages.values().stream()
+                .flatMap(List::stream)
+                .toList());
+        return giftImages;
     }
 
 
@@ -163,12 +209,12 @@ public class GiftService {
         return GiftDetailResponse.fromEntity(gift, images);
     }
 
-    public DraftGiftsResponse getDraftGifts(Long bundleId) {
-        List<Gift> gifts = giftRepository.findAllByBundleId(bundleId);
+    public DraftGiftsResponse getDraftGifts(Bundle bundle) {
+        List<Gift> gifts = giftRepository.findAllByBundleId(bundle.getId());
         List<GiftImage> images = giftImageRepository.findAllByGift_IdIn(
                 gifts.stream().map(Gift::getId).toList()
         );
-        return DraftGiftsResponse.from(bundleId, gifts, images);
+        return DraftGiftsResponse.from(bundle, gifts, images);
     }
 
 
@@ -178,11 +224,13 @@ public class GiftService {
     }
 
     public void deleteGifts(List<Gift> gifts) {
-        giftRepository.deleteAll(gifts);
+        giftRepository.deleteAllWithImagesByIdIn(gifts.stream().map(Gift::getId).toList());
     }
 
     public void deleteImagesByGiftIds(List<Long> giftIds) {
-        giftImageRepository.deleteAllByGift_IdIn(giftIds);
+        if (!giftIds.isEmpty()) {
+            giftImageRepository.deleteAllByGift_IdIn(giftIds);
+        }
     }
 
     public Gift getGiftByIdAndBundleId(Long giftId, Long bundleId) {
@@ -225,7 +273,7 @@ public class GiftService {
 
         List<GiftImage> images = new ArrayList<>();
         for (int i = 0; i < urls.size(); i++) {
-            images.add(GiftImage.createGiftImage(gift, urls.get(i), i == 0));
+            images.add(GiftImage.createGiftImage(gift, imageKeyResolver.toKey(urls.get(i)), i == 0));
         }
         return images;
     }
@@ -0,0 +1,15 @@
+package com.picktory.domain.notification.dto;
+
+import com.picktory.domain.notification.entity.NotificationOutbox;
+import com.picktory.domain.notification.enums.NotificationType;
+
+/**
+ * 발송 대상 알림 (트랜잭션 밖에서 발송하므로 엔티티 대신 값으로 전달)
+ */
+public record OutboxNotification(Long id, NotificationType type, Long userId, Long bundleId, int attempts) {
+
+    public static OutboxNotification from(NotificationOutbox outbox) {
+        return new OutboxNotification(outbox.getId(), outbox.getType(), outbox.getUserId(), outbox.getBundleId(),
+                outbox.getAttempts());
+    }
+}
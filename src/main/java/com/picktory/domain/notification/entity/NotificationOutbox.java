@@ -0,0 +1,100 @@
+package com.picktory.domain.notification.entity;
+
+import com.picktory.common.id.SnowflakeId;
+import com.picktory.domain.notification.enums.NotificationStatus;
+import com.picktory.domain.notification.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스
+ * 상태 변경과 같은 트랜잭션에서 PENDING으로 기록하고, 릴레이가 가져갈 때 시도 횟수를 올리며 다음 시도 시각을 임대 만료 시각으로 미룬다.
+ * (발송 도중 서버가 죽어도 임대가 끝나면 다시 발송)
+ */
+@Entity
+@Table(name = "notification_outbox", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_outbox_bundle_id_type", columnNames = {"bundle_id", "type"})
+}, indexes = {
+        @Index(name = "idx_notification_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_notification_outbox_status_sent_at", columnList = "status, sent_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId; // 알림 받을 사용자
+
+    @Column(nullable = false)
+    private Long bundleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private NotificationStatus status = NotificationStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    public static NotificationOutbox create(NotificationType type, Long userId, Long bundleId, LocalDateTime now) {
+        return NotificationOutbox.builder()
+                .type(type)
+                .userId(userId)
+                .bundleId(bundleId)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    /**
+     * 발송 시도 시작 (임대 만료 시각까지 다른 릴레이가 가져가지 않음)
+     */
+    public void lease(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = NotificationStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 발송 실패 - 최대 시도 횟수 전이면 retryAt에 다시 시도
+     */
+    public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = NotificationStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = retryAt;
+    }
+}
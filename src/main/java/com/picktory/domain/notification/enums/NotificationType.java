@@ -0,0 +1,5 @@
+package com.picktory.domain.notification.enums;
+
+public enum NotificationType {
+    BUNDLE_ANSWERED // 보낸 보따리에 답변이 도착함
+}
@@ -0,0 +1,89 @@
+package com.picktory.domain.notification.job;
+
+import com.picktory.domain.notification.dto.OutboxNotification;
+import com.picktory.domain.notification.sender.NotificationSender;
+import com.picktory.domain.notification.service.NotificationOutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 릴레이
+ * 발송할 알림을 batchSize씩 가져와 발송 채널로 보내고, 결과를 한 번에 반영한다.
+ * 쌓인 알림이 없을 때까지 이어서 처리한다.
+ */
+@Slf4j
+@Component
+public class NotificationRelayJob {
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationSender notificationSender;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration retention;
+
+    public NotificationRelayJob(NotificationOutboxService notificationOutboxService,
+                                NotificationSender notificationSender,
+                                MeterRegistry meterRegistry,
+                                @Value("${picktory.notification.relay.enabled:true}") boolean enabled,
+                                @Value("${picktory.notification.relay.batch-size:100}") int batchSize,
+                                @Value("${picktory.notification.outbox.retention:7d}") Duration retention) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.notificationSender = notificationSender;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${picktory.notification.relay.interval-ms:1000}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        List<OutboxNotification> claimed;
+        do {
+            claimed = notificationOutboxService.claimDue(batchSize);
+            send(claimed);
+        } while (claimed.size() == batchSize);
+    }
+
+    @Scheduled(cron = "${picktory.notification.outbox.cleanup-cron:0 40 4 * * *}")
+    public void purgeSent() {
+        int deleted = notificationOutboxService.deleteSentBefore(LocalDateTime.now().minus(retention));
+        log.info("발송 완료 알림 정리 - {}건", deleted);
+    }
+
+    private void send(List<OutboxNotification> notifications) {
+        List<Long> sentIds = new ArrayList<>();
+        for (OutboxNotification notification : notifications) {
+            try {
+                notificationSender.send(notification);
+                sentIds.add(notification.id());
+            } catch (RuntimeException e) {
+                boolean gaveUp = notificationOutboxService.markFailed(notification.id(), e.getMessage());
+                count(notification, gaveUp ? "failed" : "retry");
+                log.warn("알림 발송 실패 - id: {}, attempts: {}", notification.id(), notification.attempts(), e);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            notificationOutboxService.markSent(sentIds);
+            notifications.stream()
+                    .filter(notification -> sentIds.contains(notification.id()))
+                    .forEach(notification -> count(notification, "sent"));
+        }
+    }
+
+    private void count(OutboxNotification notification, String result) {
+        meterRegistry.counter("picktory.notification.relay",
+                "type", notification.type().name(), "result", result).increment();
+    }
+}
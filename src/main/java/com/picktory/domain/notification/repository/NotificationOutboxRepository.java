@@ -0,0 +1,29 @@
+package com.picktory.domain.notification.repository;
+
+import com.picktory.domain.notification.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 발송할 알림을 행 잠금과 함께 조회
+     * 다른 인스턴스가 잠근 행은 기다리지 않고 건너뛴다. (SKIP LOCKED, MySQL 8)
+     */
+    @Query(value = "SELECT * FROM notification_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 보관 기간이 지난 발송 완료 알림 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox n " +
+            "WHERE n.status = com.picktory.domain.notification.enums.NotificationStatus.SENT AND n.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
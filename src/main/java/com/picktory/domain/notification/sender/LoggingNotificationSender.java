@@ -0,0 +1,22 @@
+package com.picktory.domain.notification.sender;
+
+import com.picktory.domain.notification.dto.OutboxNotification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그로만 남기는 발송 채널 (로컬 / 외부 채널 연동 전)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "picktory.notification.sender", havingValue = "log", matchIfMissing = true)
+public class LoggingNotificationSender implements NotificationSender {
+
+    @Override
+    public void send(OutboxNotification notification) {
+        log.info("알림 발송 - id: {}, type: {}, userId: {}, bundleId: {}, attempts: {}",
+                notification.id(), notification.type(), notification.userId(), notification.bundleId(),
+                notification.attempts());
+    }
+}
@@ -0,0 +1,13 @@
+package com.picktory.domain.notification.sender;
+
+import com.picktory.domain.notification.dto.OutboxNotification;
+
+/**
+ * 알림 발송 채널 (카카오 메시지 등)
+ * 실패 시 예외를 던지면 릴레이가 재시도한다. 같은 알림이 두 번 이상 전달될 수 있으므로
+ * 채널이 지원하면 {@link OutboxNotification#id()}를 중복 제거 키로 사용한다.
+ */
+public interface NotificationSender {
+
+    void send(OutboxNotification notification);
+}
@@ -0,0 +1,93 @@
+package com.picktory.domain.notification.service;
+
+import com.picktory.domain.notification.dto.OutboxNotification;
+import com.picktory.domain.notification.entity.NotificationOutbox;
+import com.picktory.domain.notification.enums.NotificationStatus;
+import com.picktory.domain.notification.enums.NotificationType;
+import com.picktory.domain.notification.repository.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 기록 / 발송 상태 관리
+ * 발송(외부 호출)은 트랜잭션 밖에서 하고, 가져오기와 결과 반영만 각각 짧은 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final int maxAttempts;
+
+    public NotificationOutboxService(NotificationOutboxRepository notificationOutboxRepository,
+                                     @Value("${picktory.notification.relay.lease:60s}") Duration lease,
+                                     @Value("${picktory.notification.relay.retry-backoff:10s}") Duration retryBackoff,
+                                     @Value("${picktory.notification.relay.max-retry-backoff:30m}") Duration maxRetryBackoff,
+                                     @Value("${picktory.notification.relay.max-attempts:6}") int maxAttempts) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 알림 기록 (호출한 쪽 트랜잭션에 참여 - 상태 변경이 롤백되면 알림도 남지 않는다)
+     */
+    public void enqueue(NotificationType type, Long userId, Long bundleId) {
+        notificationOutboxRepository.save(NotificationOutbox.create(type, userId, bundleId, LocalDateTime.now()));
+    }
+
+    /**
+     * 발송할 알림 가져오기 (임대 시간 동안 다른 인스턴스가 가져가지 않음)
+     */
+    public List<OutboxNotification> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> due = notificationOutboxRepository.findDueForUpdate(now, batchSize);
+        due.forEach(outbox -> outbox.lease(now.plus(lease)));
+        return due.stream().map(OutboxNotification::from).toList();
+    }
+
+    public void markSent(Collection<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        notificationOutboxRepository.findAllById(ids).forEach(outbox -> outbox.markSent(now));
+    }
+
+    /**
+     * 발송 실패 반영 (지수 백오프)
+     * @return 더 이상 재시도하지 않으면 true
+     */
+    public boolean markFailed(Long id, String error) {
+        return notificationOutboxRepository.findById(id)
+                .map(outbox -> {
+                    outbox.markFailed(error, LocalDateTime.now().plus(backoff(outbox.getAttempts())), maxAttempts);
+                    if (outbox.getStatus() == NotificationStatus.FAILED) {
+                        log.warn("알림 발송 포기 - id: {}, attempts: {}, error: {}", id, outbox.getAttempts(), error);
+                        return true;
+                    }
+                    return false;
+                })
+                .orElse(true);
+    }
+
+    public int deleteSentBefore(LocalDateTime cutoff) {
+        return notificationOutboxRepository.deleteSentBefore(cutoff);
+    }
+
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration backoff = retryBackoff.multipliedBy(1L << exponent);
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+}
@@ -1,28 +1,78 @@
 package com.picktory.domain.response.controller;
 
 import com.picktory.common.BaseResponse;
+import com.picktory.common.image.ImageUrlMode;
+import com.picktory.config.ratelimit.RateLimitPolicy;
+import com.picktory.config.ratelimit.RateLimited;
+import com.picktory.domain.bundle.dto.BundleFreshness;
 import com.picktory.domain.response.dto.ResponseBundleDto;
 import com.picktory.domain.response.dto.SaveGiftResponsesRequest;
 import com.picktory.domain.response.dto.SaveGiftResponsesResponse;
+import com.picktory.domain.response.service.LinkPageSnapshotService;
 import com.picktory.domain.response.service.ResponseService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1")
 public class ResponseController {
     private final ResponseService responseService;
+    private final LinkPageSnapshotService linkPageSnapshotService;
+
+    @Value("${picktory.cache.link-page.max-age:30s}")
+    private Duration linkPageMaxAge;
 
+    /**
+     * 배달 링크 페이지는 공개 리소스이므로 CloudFront에서 짧게 캐시한다.
+     * 변경이 없으면 선물/이미지 로딩 없이 304를 반환하고,
+     * 변경이 있으면 현재 버전으로 미리 렌더링된 JSON 스냅샷을 그대로 내려준다.
+     */
     @GetMapping("/responses/bundles/{link}")
-    public ResponseEntity<BaseResponse<ResponseBundleDto>> getBundleByLink(@PathVariable String link) {
-        ResponseBundleDto response = responseService.getBundleByLink(link);
-        return ResponseEntity.ok(new BaseResponse<>(response));
+    @RateLimited(RateLimitPolicy.LINK_VIEW)
+    public ResponseEntity<?> getBundleByLink(@PathVariable String link, WebRequest webRequest) {
+        Optional<BundleFreshness> freshness = responseService.getBundleFreshnessByLink(link);
+        if (freshness.isEmpty()) {
+            // 없는 링크 / 배달 전 보따리는 여기서 예외 응답
+            ResponseBundleDto response = responseService.getBundleByLink(link);
+            return ResponseEntity.ok(new BaseResponse<>(response));
+        }
+
+        BundleFreshness current = freshness.get();
+        ImageUrlMode imageUrlMode = ImageUrlMode.current();
+        String eTag = current.getETag(imageUrlMode);
+        if (webRequest.checkNotModified(eTag, current.getLastModified())) {
+            return null;
+        }
+
+        // 스냅샷은 전체 URL 기준이므로 상대 경로 요청은 직접 직렬화
+        if (imageUrlMode == ImageUrlMode.RELATIVE) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.maxAge(linkPageMaxAge).cachePublic())
+                    .eTag(eTag)
+                    .lastModified(current.getLastModified())
+                    .body(new BaseResponse<>(responseService.getBundleByLink(link)));
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(linkPageMaxAge).cachePublic())
+                .eTag(eTag)
+                .lastModified(current.getLastModified())
+                .body(linkPageSnapshotService.getLinkPage(current));
     }
 
     @PostMapping("/responses/bundles/{link}/answers")
+    @RateLimited(RateLimitPolicy.LINK_ANSWER)
     public ResponseEntity<BaseResponse<SaveGiftResponsesResponse>> saveGiftResponses(
             @PathVariable String link,
             @RequestBody SaveGiftResponsesRequest request) {
@@ -1,5 +1,8 @@
 package com.picktory.domain.response.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.picktory.common.image.ImageUrlSerializer;
 import com.picktory.domain.bundle.entity.Bundle;
 import com.picktory.domain.gift.entity.Gift;
 import com.picktory.domain.gift.entity.GiftImage;
@@ -8,11 +11,13 @@ import lombok.Getter;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Getter
 @Builder
 public class ResponseBundleDto {
     private BundleInfo bundle;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     public static class BundleInfo {
@@ -24,13 +29,16 @@ public class ResponseBundleDto {
         private int total_gifts;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     public static class GiftInfo {
         private Long id;
         private String message;
+        @JsonSerialize(contentUsing = ImageUrlSerializer.class)
         private List<String> imageUrls;
         private String name;
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String thumbnail;
         private String responseTag;
     }
@@ -0,0 +1,7 @@
+package com.picktory.domain.response.dto;
+
+/**
+ * 스냅샷 렌더링용 링크 페이지 응답과 렌더링 시점의 보따리 버전
+ */
+public record VersionedResponseBundle(Long bundleId, Long version, ResponseBundleDto response) {
+}
@@ -1,19 +1,24 @@
 package com.picktory.domain.response.entity;
 
 import com.picktory.common.BaseEntity;
+import com.picktory.common.id.SnowflakeId;
 import com.picktory.domain.gift.enums.GiftResponseTag;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "responses")
+@Table(name = "responses", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_responses_gift_id", columnNames = "gift_id")
+}, indexes = {
+        @Index(name = "idx_responses_bundle_id_gift_id_created_at", columnList = "bundle_id, gift_id, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Response extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(name = "gift_id", nullable = false)
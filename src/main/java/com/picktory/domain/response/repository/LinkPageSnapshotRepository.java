@@ -0,0 +1,66 @@
+package com.picktory.domain.response.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 배달 링크 페이지 JSON 스냅샷 저장소
+ * 엔티티로 매핑하지 않고 JDBC로 바이트를 그대로 읽고 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LinkPageSnapshotRepository {
+
+    private static final String FIND_BODY =
+            "SELECT body FROM bundle_link_snapshots WHERE bundle_id = ? AND bundle_version = ?";
+
+    // 늦게 끝난 이전 버전 렌더링이 최신 스냅샷을 덮어쓰지 않도록 버전이 같거나 클 때만 교체
+    // (할당은 왼쪽부터 적용되므로 bundle_version은 마지막에 바꾼다)
+    // VALUES()는 MySQL 8.0.20부터 deprecated 경고만 나고 8.x에서 동작하며, 테스트용 H2 MySQL 모드도 지원한다.
+    // 행 별칭(INSERT ... AS new)은 MySQL 8.0.19 이상 전용이고 H2가 해석하지 못해 쓰지 않는다.
+    private static final String UPSERT =
+            "INSERT INTO bundle_link_snapshots (bundle_id, bundle_version, body, rendered_at) VALUES (?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE " +
+                    "body = CASE WHEN VALUES(bundle_version) >= bundle_version THEN VALUES(body) ELSE body END, " +
+                    "rendered_at = CASE WHEN VALUES(bundle_version) >= bundle_version THEN VALUES(rendered_at) ELSE rendered_at END, " +
+                    "bundle_version = GREATEST(bundle_version, VALUES(bundle_version))";
+
+    private static final String DELETE =
+            "DELETE FROM bundle_link_snapshots WHERE bundle_id = ?";
+
+    private static final String DELETE_ALL_IN =
+            "DELETE FROM bundle_link_snapshots WHERE bundle_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<byte[]> findBody(Long bundleId, Long bundleVersion) {
+        List<byte[]> bodies = jdbcTemplate.query(FIND_BODY, (rs, rowNum) -> rs.getBytes(1), bundleId, bundleVersion);
+        return bodies.stream().findFirst();
+    }
+
+    public void save(Long bundleId, Long bundleVersion, byte[] body) {
+        jdbcTemplate.update(UPSERT, bundleId, bundleVersion, body, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public void deleteByBundleId(Long bundleId) {
+        jdbcTemplate.update(DELETE, bundleId);
+    }
+
+    /**
+     * 여러 보따리의 스냅샷을 DELETE 한 번으로 삭제
+     */
+    public void deleteAllByBundleIdIn(List<Long> bundleIds) {
+        if (bundleIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(bundleIds.size(), "?"));
+        jdbcTemplate.update(DELETE_ALL_IN.formatted(placeholders), bundleIds.toArray());
+    }
+}
@@ -2,10 +2,23 @@ package com.picktory.domain.response.repository;
 
 import com.picktory.domain.response.entity.Response;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ResponseRepository extends JpaRepository<Response, Long>, ResponseRepositoryCustom {
     boolean existsByGiftId(Long giftId);
     boolean existsByGiftIdIn(List<Long> giftIds);
-}
\ No newline at end of file
+
+    List<Response> findAllByBundleIdIn(Collection<Long> bundleIds);
+
+    /**
+     * 보따리들의 답변 일괄 삭제 (DELETE 한 번, 보관 처리용)
+     */
+    @Modifying
+    @Query("DELETE FROM Response r WHERE r.bundleId IN :bundleIds")
+    int deleteAllByBundleIdIn(@Param("bundleIds") Collection<Long> bundleIds);
+}
@@ -0,0 +1,38 @@
+package com.picktory.domain.response.service;
+
+import com.picktory.config.AsyncConfig;
+import com.picktory.domain.bundle.event.BundleCompletedEvent;
+import com.picktory.domain.bundle.event.BundleEventMetrics;
+import com.picktory.domain.bundle.event.BundlePublishedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 배달 / 답변 완료 커밋 후 링크 페이지 스냅샷 미리 렌더링
+ * 스냅샷은 현재 버전으로 렌더링되고 오래된 버전으로 덮어쓰지 않으므로, 중복 / 순서가 뒤바뀐 이벤트에도 안전하다.
+ * 실패하거나 버려져도 다음 조회 때 다시 렌더링된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LinkPageSnapshotEventHandler {
+
+    private static final String HANDLER = "link-page-snapshot";
+
+    private final LinkPageSnapshotService linkPageSnapshotService;
+    private final BundleEventMetrics bundleEventMetrics;
+
+    @Async(AsyncConfig.BUNDLE_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPublished(BundlePublishedEvent event) {
+        bundleEventMetrics.record(HANDLER, event, () -> linkPageSnapshotService.refresh(event.bundleId()));
+    }
+
+    @Async(AsyncConfig.BUNDLE_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCompleted(BundleCompletedEvent event) {
+        bundleEventMetrics.record(HANDLER, event, () -> linkPageSnapshotService.refresh(event.bundleId()));
+    }
+}
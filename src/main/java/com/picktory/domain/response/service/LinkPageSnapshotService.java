@@ -0,0 +1,72 @@
+package com.picktory.domain.response.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picktory.common.BaseResponse;
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.common.image.ImageUrlMode;
+import com.picktory.common.image.ImageUrlSerializer;
+import com.picktory.domain.bundle.dto.BundleFreshness;
+import com.picktory.domain.response.dto.VersionedResponseBundle;
+import com.picktory.domain.response.repository.LinkPageSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 배달 링크 페이지 응답 스냅샷
+ * 배달(PUBLISHED) 이후 선물/이미지는 바뀌지 않으므로, 직렬화된 BaseResponse JSON을 보따리 버전과 함께 저장해 두고
+ * 조회 시 JPA / Jackson을 거치지 않고 바이트를 그대로 내려준다.
+ * 버전이 달라지면(답변 완료, 읽음 표시 등) 다음 조회 때 한 번 다시 렌더링한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LinkPageSnapshotService {
+
+    private final ResponseService responseService;
+    private final LinkPageSnapshotRepository linkPageSnapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 현재 버전의 스냅샷 조회 (없으면 렌더링 후 저장)
+     */
+    public byte[] getLinkPage(BundleFreshness freshness) {
+        return linkPageSnapshotRepository.findBody(freshness.getId(), freshness.getVersion())
+                .orElseGet(() -> render(freshness.getId()));
+    }
+
+    /**
+     * 배달 / 답변 완료 커밋 직후 미리 렌더링 ({@link LinkPageSnapshotEventHandler})
+     * 방금 커밋된 버전을 읽어야 하므로 replica 대신 primary에서 조회한다.
+     */
+    @Transactional
+    public void refresh(Long bundleId) {
+        render(bundleId);
+    }
+
+    public void delete(Long bundleId) {
+        linkPageSnapshotRepository.deleteByBundleId(bundleId);
+    }
+
+    private byte[] render(Long bundleId) {
+        VersionedResponseBundle page = responseService.getVersionedBundleById(bundleId);
+        byte[] body = serialize(page);
+        linkPageSnapshotRepository.save(page.bundleId(), page.version(), body);
+        log.debug("링크 페이지 스냅샷 렌더링 - bundleId: {}, version: {}, {} bytes", bundleId, page.version(), body.length);
+        return body;
+    }
+
+    private byte[] serialize(VersionedResponseBundle page) {
+        try {
+            // 스냅샷은 요청 헤더와 무관하게 항상 전체 URL로 렌더링
+            return objectMapper.writer()
+                    .withAttribute(ImageUrlSerializer.MODE_ATTRIBUTE, ImageUrlMode.ABSOLUTE)
+                    .writeValueAsBytes(new BaseResponse<>(page.response()));
+        } catch (JsonProcessingException e) {
+            throw new BaseException(BaseResponseStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -2,24 +2,39 @@ package com.picktory.domain.response.service;
 
 import com.picktory.common.BaseResponseStatus;
 import com.picktory.common.exception.BaseException;
+import com.picktory.config.datasource.RecentWriteTracker;
+import com.picktory.domain.bundle.cache.BundleViewCache;
+import com.picktory.domain.bundle.dto.BundleFreshness;
 import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.event.BundleCompletedEvent;
 import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.bundle.service.DeliveryLinkCodec;
 import com.picktory.domain.gift.entity.Gift;
 import com.picktory.domain.gift.entity.GiftImage;
 import com.picktory.domain.gift.enums.GiftResponseTag;
 import com.picktory.domain.gift.repository.GiftImageRepository;
 import com.picktory.domain.gift.repository.GiftRepository;
 import com.picktory.domain.bundle.enums.BundleStatus;
+import com.picktory.domain.notification.enums.NotificationType;
+import com.picktory.domain.notification.service.NotificationOutboxService;
 import com.picktory.domain.response.dto.ResponseBundleDto;
 import com.picktory.domain.response.dto.SaveGiftResponsesRequest;
 import com.picktory.domain.response.dto.SaveGiftResponsesResponse;
+import com.picktory.domain.response.dto.VersionedResponseBundle;
 import com.picktory.domain.response.entity.Response;
 import com.picktory.domain.response.repository.ResponseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -31,12 +46,31 @@ public class ResponseService {
     private final GiftRepository giftRepository;
     private final GiftImageRepository giftImageRepository;
     private final ResponseRepository responseRepository;
+    private final RecentWriteTracker recentWriteTracker;
+    private final DeliveryLinkCodec deliveryLinkCodec;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationOutboxService notificationOutboxService;
+    private final BundleViewCache bundleViewCache;
 
     @Transactional(readOnly = true)
     public ResponseBundleDto getBundleByLink(String link) {
         Bundle bundle = findBundleByLink(link);
         validateBundleStatus(bundle);
+        return toResponseBundleDto(bundle);
+    }
 
+    /**
+     * 링크 페이지 스냅샷 렌더링용 조회 (응답과 같은 시점의 버전을 함께 반환)
+     */
+    @Transactional(readOnly = true)
+    public VersionedResponseBundle getVersionedBundleById(Long bundleId) {
+        Bundle bundle = bundleRepository.findById(bundleId)
+                .orElseThrow(() -> new BaseException(BaseResponseStatus.INVALID_LINK));
+        validateBundleStatus(bundle);
+        return new VersionedResponseBundle(bundle.getId(), bundle.getVersion(), toResponseBundleDto(bundle));
+    }
+
+    private ResponseBundleDto toResponseBundleDto(Bundle bundle) {
         List<Gift> gifts = findGiftsByBundleId(bundle.getId());
         List<GiftImage> images = findGiftImages(gifts);
         List<Response> responses = findResponses(bundle.getId(), gifts);
@@ -46,101 +80,120 @@ public class ResponseService {
         return ResponseBundleDto.fromEntity(bundle, gifts, images);
     }
 
+    /**
+     * 조건부 조회 사전 검사 - 배달된 보따리만 반환
+     */
+    @Transactional(readOnly = true)
+    public Optional<BundleFreshness> getBundleFreshnessByLink(String link) {
+        return deliveryLinkCodec.decodeBundleId(link)
+                .map(bundleId -> bundleRepository.findFreshnessById(bundleId)
+                        .filter(freshness -> link.equals(freshness.getLink())))
+                .orElseGet(() -> bundleRepository.findFreshnessByLink(link))
+                .filter(freshness -> freshness.getStatus() != BundleStatus.DRAFT);
+    }
+
     @Transactional
     public SaveGiftResponsesResponse saveGiftResponses(String link, SaveGiftResponsesRequest request) {
-        // 1. 번들 검증 및 조회
-        Bundle bundle = validateAndGetBundle(link);
-
-        // 2. 선물 목록 검증 및 조회
-        List<Gift> gifts = validateAndGetGifts(bundle.getId(), request.getGifts());
+        // 1. 요청 검증 (DB 접근 전)
+        Map<Long, GiftResponseTag> responseTags = parseResponseTags(request.getGifts());
 
-        // 3. 기존 응답 없음 검증
-        validateNoExistingResponses(gifts);
+        // 2. PUBLISHED -> COMPLETED 조건부 업데이트로 단 한 건의 제출만 통과
+        completeBundleOrThrow(link);
 
-        // 4. 모든 선물에 대한 응답 여부 검증
-        validateAllGiftsResponded(gifts, request.getGifts());
-
-        // 5. 응답 저장
-        saveResponses(bundle.getId(), request.getGifts());
-
-        // 6. 번들 상태를 완료로 변경
-        bundle.complete();
-        bundleRepository.save(bundle);
-
-        return SaveGiftResponsesResponse.of(request.getGifts().size(), gifts.size());
-    }
-
-    private Bundle validateAndGetBundle(String link) {
+        // 3. 선물 목록 검증 (실패 시 롤백되어 상태 변경도 취소됨)
         Bundle bundle = findBundleByLink(link);
+        List<Gift> gifts = giftRepository.findAllByBundleId(bundle.getId());
+        validateAllGiftsResponded(gifts, responseTags);
+
+        // 4. 응답 저장 및 통계 반영
+        saveResponses(bundle.getId(), gifts, responseTags);
+        bundle.recordResponses(responseTags.values());
+        recentWriteTracker.recordWrite(bundle.getUser().getId());
+        bundleViewCache.evict(bundle.getId());
+        notificationOutboxService.enqueue(NotificationType.BUNDLE_ANSWERED, bundle.getUser().getId(), bundle.getId());
+        eventPublisher.publishEvent(new BundleCompletedEvent(bundle.getId(), bundle.getUser().getId(), link));
+
+        return SaveGiftResponsesResponse.of(responseTags.size(), gifts.size());
+    }
 
-        if (bundle.getStatus() == BundleStatus.COMPLETED) {
-            throw new BaseException(BaseResponseStatus.ALREADY_ANSWERED);
+    private Map<Long, GiftResponseTag> parseResponseTags(List<SaveGiftResponsesRequest.GiftResponse> giftResponses) {
+        if (giftResponses == null || giftResponses.isEmpty()) {
+            throw new BaseException(BaseResponseStatus.INCOMPLETE_RESPONSES);
         }
 
-        return bundle;
+        Map<Long, GiftResponseTag> responseTags = new LinkedHashMap<>();
+        for (SaveGiftResponsesRequest.GiftResponse giftResponse : giftResponses) {
+            if (giftResponse.getGiftId() == null) {
+                throw new BaseException(BaseResponseStatus.INVALID_GIFT_ID);
+            }
+            GiftResponseTag responseTag = validateAndParseResponseTag(giftResponse.getResponseTag());
+            if (responseTags.putIfAbsent(giftResponse.getGiftId(), responseTag) != null) {
+                throw new BaseException(BaseResponseStatus.INVALID_GIFT_ID);
+            }
+        }
+        return responseTags;
     }
 
-    private List<Gift> validateAndGetGifts(Long bundleId, List<SaveGiftResponsesRequest.GiftResponse> giftResponses) {
-        Set<Long> requestGiftIds = giftResponses.stream()
-                .map(SaveGiftResponsesRequest.GiftResponse::getGiftId)
-                .collect(Collectors.toSet());
+    private void completeBundleOrThrow(String link) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = deliveryLinkCodec.decodeBundleId(link)
+                .map(bundleId -> bundleRepository.completeIfPublishedById(bundleId, link, now))
+                .orElseGet(() -> bundleRepository.completeIfPublished(link, now));
+        if (updated == 1) {
+            return;
+        }
 
-        List<Gift> gifts = giftRepository.findAllByBundleId(bundleId);
+        Bundle bundle = findBundleByLink(link);
+        if (bundle.getStatus() == BundleStatus.DRAFT) {
+            throw new BaseException(BaseResponseStatus.INVALID_BUNDLE_STATUS_FOR_COMPLETE);
+        }
+        throw new BaseException(BaseResponseStatus.ALREADY_ANSWERED);
+    }
 
+    private void validateAllGiftsResponded(List<Gift> gifts, Map<Long, GiftResponseTag> responseTags) {
         Set<Long> existingGiftIds = gifts.stream()
                 .map(Gift::getId)
                 .collect(Collectors.toSet());
 
-        if (!existingGiftIds.containsAll(requestGiftIds)) {
+        if (!existingGiftIds.containsAll(responseTags.keySet())) {
             throw new BaseException(BaseResponseStatus.INVALID_GIFT_ID);
         }
-
-        return gifts;
-    }
-
-    private void validateNoExistingResponses(List<Gift> gifts) {
-        List<Long> giftIds = gifts.stream()
-                .map(Gift::getId)
-                .collect(Collectors.toList());
-
-        if (responseRepository.existsByGiftIdIn(giftIds)) {
-            throw new BaseException(BaseResponseStatus.ALREADY_ANSWERED);
-        }
-    }
-
-    private void validateAllGiftsResponded(List<Gift> gifts, List<SaveGiftResponsesRequest.GiftResponse> responses) {
-        if (gifts.size() != responses.size()) {
+        if (existingGiftIds.size() != responseTags.size()) {
             throw new BaseException(BaseResponseStatus.INCOMPLETE_RESPONSES);
         }
     }
 
-    private void saveResponses(Long bundleId, List<SaveGiftResponsesRequest.GiftResponse> giftResponses) {
-        List<Response> responses = giftResponses.stream()
-                .map(giftResponse -> {
-                    GiftResponseTag giftResponseTagTag = validateAndParseResponseTag(giftResponse.getResponseTag());
-
-                    // Gift 엔티티의 responseTag도 업데이트하도록 수정
-                    Gift gift = giftRepository.findById(giftResponse.getGiftId())
-                            .orElseThrow(() -> new BaseException(BaseResponseStatus.INVALID_GIFT_ID));
-
-                    log.debug("Updating giftId: {} with responseTag: {}", gift.getId(), giftResponseTagTag);
+    private void saveResponses(Long bundleId, List<Gift> gifts, Map<Long, GiftResponseTag> responseTags) {
+        List<Response> responses = gifts.stream()
+                .map(gift -> {
+                    GiftResponseTag responseTag = responseTags.get(gift.getId());
+                    log.debug("Updating giftId: {} with responseTag: {}", gift.getId(), responseTag);
 
-                    gift.updateResponse(giftResponseTagTag);
-                    giftRepository.save(gift);
+                    // Gift 엔티티의 responseTag도 함께 업데이트 (변경 감지)
+                    gift.updateResponse(responseTag);
 
                     return Response.builder()
                             .giftId(gift.getId())
                             .bundleId(bundleId)
-                            .responseTag(giftResponseTagTag)
+                            .responseTag(responseTag)
                             .build();
                 })
                 .collect(Collectors.toList());
 
-        responseRepository.saveAll(responses);
+        try {
+            responseRepository.saveAllAndFlush(responses);
+        } catch (DataIntegrityViolationException e) {
+            // responses.gift_id 유니크 제약 위반: 다른 요청이 먼저 답변을 저장함
+            log.warn("Duplicate gift responses for bundleId: {}", bundleId);
+            throw new BaseException(BaseResponseStatus.ALREADY_ANSWERED);
+        }
     }
 
 
     private GiftResponseTag validateAndParseResponseTag(String responseTag) {
+        if (responseTag == null) {
+            throw new BaseException(BaseResponseStatus.INVALID_RESPONSE_TYPE);
+        }
         try {
             return GiftResponseTag.valueOf(responseTag);
         } catch (IllegalArgumentException e) {
@@ -148,8 +201,14 @@ public class ResponseService {
         }
     }
 
+    /**
+     * 신규 링크는 ID를 복원해 PK로 조회하고, 이전 UUID 링크는 link 인덱스로 조회
+     */
     private Bundle findBundleByLink(String link) {
-        return bundleRepository.findByLink(link)
+        return deliveryLinkCodec.decodeBundleId(link)
+                .map(bundleId -> bundleRepository.findById(bundleId)
+                        .filter(bundle -> link.equals(bundle.getLink())))
+                .orElseGet(() -> bundleRepository.findByLink(link))
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.INVALID_LINK));
     }
 
@@ -0,0 +1,206 @@
+package com.picktory.domain.user.job;
+
+import com.picktory.common.image.ImageKeyResolver;
+import com.picktory.common.lock.SchedulerLock;
+import com.picktory.domain.analytics.service.ResponseTagRollupService;
+import com.picktory.domain.bundle.cache.BundleViewCache;
+import com.picktory.domain.bundle.service.BundleArchiveService;
+import com.picktory.domain.bundle.service.BundleArchiveService.PurgedArchives;
+import com.picktory.domain.gift.repository.S3ObjectDeletionRepository;
+import com.picktory.domain.user.repository.WithdrawnUserPurgeRepository;
+import com.picktory.domain.user.repository.WithdrawnUserPurgeRepository.ImageRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 탈퇴 회원 데이터 일괄 삭제
+ * 탈퇴 후 grace-period가 지난 회원의 보따리를 chunk-size개씩 골라, 청크마다 짧은 트랜잭션 하나로
+ * 이미지 / 답변 / 선물 / 링크 스냅샷 / 알림 / 보따리를 테이블별 DELETE 한 번씩으로 지운다.
+ * 원본 보따리를 모두 지우면 보관된 보따리(archived_bundles)도 같은 방식으로 chunk-size개씩 지운다.
+ * 아직 태그 집계에 들어가지 않은 답변은 지우기 전에 같은 트랜잭션에서 집계에 더한다.
+ * 지운 이미지의 S3 객체 키는 같은 트랜잭션에서 삭제 대기열에 넣는다. (실제 삭제는 S3ObjectDeletionJob)
+ * 진행 상태는 남은 보따리 자체이므로 중간에 멈춰도 다음 주기에 이어서 지운다.
+ * 청크 사이에는 pause만큼 쉬고, 한 주기에 max-chunks-per-run 청크까지만 처리해 primary 부하를 제한한다.
+ * 쉬는 동안 스케줄러 스레드를 점유하므로 스케줄러 풀(spring.task.scheduling.pool.size)을 여러 개로 둔다.
+ * 여러 인스턴스 중 SchedulerLock 임대를 얻은 한 곳에서만 실행한다.
+ */
+@Slf4j
+@Component
+public class WithdrawnUserPurgeJob {
+
+    static final String LOCK_NAME = "withdrawn-user-purge";
+
+    private final WithdrawnUserPurgeRepository withdrawnUserPurgeRepository;
+    private final S3ObjectDeletionRepository s3ObjectDeletionRepository;
+    private final ImageKeyResolver imageKeyResolver;
+    private final BundleArchiveService bundleArchiveService;
+    private final ResponseTagRollupService responseTagRollupService;
+    private final BundleViewCache bundleViewCache;
+    private final SchedulerLock schedulerLock;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration gracePeriod;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration pause;
+    private final Duration lockLease;
+
+    public WithdrawnUserPurgeJob(WithdrawnUserPurgeRepository withdrawnUserPurgeRepository,
+                                 S3ObjectDeletionRepository s3ObjectDeletionRepository,
+                                 ImageKeyResolver imageKeyResolver,
+                                 BundleArchiveService bundleArchiveService,
+                                 ResponseTagRollupService responseTagRollupService,
+                                 BundleViewCache bundleViewCache,
+                                 SchedulerLock schedulerLock,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${picktory.user.purge.enabled:false}") boolean enabled,
+                                 @Value("${picktory.user.purge.grace-period:1d}") Duration gracePeriod,
+                                 @Value("${picktory.user.purge.chunk-size:100}") int chunkSize,
+                                 @Value("${picktory.user.purge.max-chunks-per-run:50}") int maxChunksPerRun,
+                                 @Value("${picktory.user.purge.pause:200ms}") Duration pause,
+                                 @Value("${picktory.user.purge.lock-lease:10m}") Duration lockLease) {
+        this.withdrawnUserPurgeRepository = withdrawnUserPurgeRepository;
+        this.s3ObjectDeletionRepository = s3ObjectDeletionRepository;
+        this.imageKeyResolver = imageKeyResolver;
+        this.bundleArchiveService = bundleArchiveService;
+        this.responseTagRollupService = responseTagRollupService;
+        this.bundleViewCache = bundleViewCache;
+        this.schedulerLock = schedulerLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.gracePeriod = gracePeriod;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pause = pause;
+        this.lockLease = lockLease;
+    }
+
+    @Scheduled(fixedDelayString = "${picktory.user.purge.interval-ms:60000}")
+    public void purgeWithdrawnUsers() {
+        if (!enabled) {
+            return;
+        }
+        if (!schedulerLock.tryAcquire(LOCK_NAME, lockLease)) {
+            log.debug("탈퇴 회원 데이터 삭제 건너뜀 - 다른 인스턴스에서 실행 중");
+            return;
+        }
+        try {
+            purgeTargets();
+        } finally {
+            schedulerLock.release(LOCK_NAME);
+        }
+    }
+
+    private void purgeTargets() {
+        List<Long> userIds = transactionTemplate.execute(status ->
+                withdrawnUserPurgeRepository.findPurgeTargets(LocalDateTime.now().minus(gracePeriod), maxChunksPerRun));
+
+        int chunks = 0;
+        for (Long userId : Objects.requireNonNull(userIds)) {
+            int deleted;
+            do {
+                if (chunks++ >= maxChunksPerRun || Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                deleted = purgeChunk(userId);
+                if (deleted > 0) {
+                    sleep(pause);
+                }
+            } while (deleted > 0);
+        }
+    }
+
+    /**
+     * 회원의 보따리 한 청크 삭제
+     *
+     * @return 이번 청크에서 지운 보따리 수, 남은 보따리가 없어 삭제 완료로 기록했으면 0
+     */
+    public synchronized int purgeChunk(Long userId) {
+        PurgedChunk chunk = transactionTemplate.execute(status -> deleteChunk(userId));
+        if (chunk == null || chunk.bundleIds().isEmpty()) {
+            log.info("탈퇴 회원 데이터 삭제 완료 - userId: {}", userId);
+            return 0;
+        }
+
+        // JDBC로 지웠으므로 화면 캐시는 커밋 후 직접 비운다
+        chunk.bundleIds().forEach(bundleViewCache::evict);
+
+        log.info("탈퇴 회원 데이터 삭제 - userId: {}, 보따리 {}개, 선물 {}개, 이미지 {}개",
+                userId, chunk.bundleIds().size(), chunk.giftIds().size(), chunk.imageIds().size());
+        return chunk.bundleIds().size();
+    }
+
+    private PurgedChunk deleteChunk(Long userId) {
+        List<Long> bundleIds = withdrawnUserPurgeRepository.findBundleIds(userId, chunkSize);
+        if (bundleIds.isEmpty()) {
+            return deleteArchivedChunk(userId);
+        }
+        responseTagRollupService.rollupBeforeDelete(bundleIds);
+
+        List<Long> giftIds = withdrawnUserPurgeRepository.findGiftIds(bundleIds);
+        List<ImageRow> images = giftIds.isEmpty() ? List.of() : withdrawnUserPurgeRepository.findImages(giftIds);
+        if (!images.isEmpty()) {
+            enqueueObjectDeletions(images.stream()
+                    .map(image -> image.imageKey() != null ? image.imageKey() : image.imageUrl())
+                    .toList());
+            withdrawnUserPurgeRepository.deleteImagesByGiftIds(giftIds);
+        }
+        withdrawnUserPurgeRepository.deleteBundlesWithChildren(bundleIds);
+
+        return new PurgedChunk(bundleIds, giftIds, images.stream().map(ImageRow::id).toList());
+    }
+
+    /**
+     * 원본 보따리를 다 지운 뒤 보관된 보따리 한 청크 삭제, 이것도 없으면 삭제 완료로 기록
+     */
+    private PurgedChunk deleteArchivedChunk(Long userId) {
+        PurgedArchives archives = bundleArchiveService.purgeArchivedBundles(userId, chunkSize);
+        if (archives.bundleIds().isEmpty()) {
+            withdrawnUserPurgeRepository.markPurged(userId, LocalDateTime.now());
+            return new PurgedChunk(List.of(), List.of(), List.of());
+        }
+        enqueueObjectDeletions(archives.images());
+        return new PurgedChunk(archives.bundleIds(), List.of(), List.of());
+    }
+
+    private void enqueueObjectDeletions(List<String> imageLocations) {
+        s3ObjectDeletionRepository.enqueueAll(imageLocations.stream()
+                .map(this::toObjectKey)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+    }
+
+    /**
+     * 우리 버킷의 객체 키만 삭제 대상 (외부 URL은 제외)
+     *
+     * @param imageLocation 객체 키, 또는 이관 전 행의 전체 URL
+     */
+    private String toObjectKey(String imageLocation) {
+        String key = imageKeyResolver.toKey(imageLocation);
+        if (key == null || key.isBlank() || key.contains("://")) {
+            return null;
+        }
+        return key;
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record PurgedChunk(List<Long> bundleIds, List<Long> giftIds, List<Long> imageIds) {
+    }
+}
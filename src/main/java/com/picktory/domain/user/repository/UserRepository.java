@@ -1,16 +1,21 @@
 package com.picktory.domain.user.repository;
 
 import com.picktory.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-    // 삭제되지 않은 사용자 ID로 조회
+    // 삭제되지 않은 사용자 ID로 조회 (인증된 요청마다 호출 - 쿼리 캐시 + 2차 캐시)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByIdAndIsDeletedFalse(Long id);
     
     // 카카오 아이디로 사용자 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByKakaoId(Long kakaoId);
-}
\ No newline at end of file
+}
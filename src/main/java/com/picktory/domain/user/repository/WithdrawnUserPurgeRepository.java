@@ -0,0 +1,94 @@
+package com.picktory.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 탈퇴 회원 데이터 일괄 삭제 쿼리
+ * 엔티티를 읽지 않고 테이블마다 IN 조건 DELETE 한 번으로 지운다. (외래 키 순서: 이미지 -> 선물 -> 보따리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class WithdrawnUserPurgeRepository {
+
+    private static final String FIND_PURGE_TARGETS =
+            "SELECT id FROM user WHERE is_deleted = TRUE AND purged_at IS NULL AND deleted_at < :withdrawnBefore "
+                    + "ORDER BY deleted_at LIMIT :limit";
+    private static final String FIND_BUNDLE_IDS =
+            "SELECT id FROM bundles WHERE user_id = :userId ORDER BY id LIMIT :limit";
+    private static final String FIND_GIFT_IDS =
+            "SELECT id FROM gifts WHERE bundle_id IN (:bundleIds)";
+    private static final String FIND_IMAGES =
+            "SELECT id, image_key, image_url FROM gift_images WHERE gift_id IN (:giftIds)";
+
+    private static final String DELETE_IMAGES =
+            "DELETE FROM gift_images WHERE gift_id IN (:giftIds)";
+    private static final String DELETE_RESPONSES =
+            "DELETE FROM responses WHERE bundle_id IN (:bundleIds)";
+    private static final String DELETE_GIFTS =
+            "DELETE FROM gifts WHERE bundle_id IN (:bundleIds)";
+    private static final String DELETE_SNAPSHOTS =
+            "DELETE FROM bundle_link_snapshots WHERE bundle_id IN (:bundleIds)";
+    private static final String DELETE_NOTIFICATIONS =
+            "DELETE FROM notification_outbox WHERE bundle_id IN (:bundleIds)";
+    private static final String DELETE_BUNDLES =
+            "DELETE FROM bundles WHERE id IN (:bundleIds)";
+
+    private static final String MARK_PURGED =
+            "UPDATE user SET purged_at = :purgedAt WHERE id = :userId AND purged_at IS NULL";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Long> findPurgeTargets(LocalDateTime withdrawnBefore, int limit) {
+        return jdbcTemplate.queryForList(FIND_PURGE_TARGETS, new MapSqlParameterSource()
+                .addValue("withdrawnBefore", Timestamp.valueOf(withdrawnBefore))
+                .addValue("limit", limit), Long.class);
+    }
+
+    public List<Long> findBundleIds(Long userId, int limit) {
+        return jdbcTemplate.queryForList(FIND_BUNDLE_IDS, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("limit", limit), Long.class);
+    }
+
+    public List<Long> findGiftIds(Collection<Long> bundleIds) {
+        return jdbcTemplate.queryForList(FIND_GIFT_IDS, new MapSqlParameterSource("bundleIds", bundleIds), Long.class);
+    }
+
+    public List<ImageRow> findImages(Collection<Long> giftIds) {
+        return jdbcTemplate.query(FIND_IMAGES, new MapSqlParameterSource("giftIds", giftIds),
+                (rs, rowNum) -> new ImageRow(rs.getLong("id"), rs.getString("image_key"), rs.getString("image_url")));
+    }
+
+    public void deleteImagesByGiftIds(Collection<Long> giftIds) {
+        jdbcTemplate.update(DELETE_IMAGES, new MapSqlParameterSource("giftIds", giftIds));
+    }
+
+    /**
+     * 보따리에 딸린 답변, 선물, 링크 스냅샷, 알림을 지운 뒤 보따리를 지운다. (이미지는 먼저 지워 두어야 한다)
+     */
+    public void deleteBundlesWithChildren(Collection<Long> bundleIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("bundleIds", bundleIds);
+        jdbcTemplate.update(DELETE_RESPONSES, params);
+        jdbcTemplate.update(DELETE_GIFTS, params);
+        jdbcTemplate.update(DELETE_SNAPSHOTS, params);
+        jdbcTemplate.update(DELETE_NOTIFICATIONS, params);
+        jdbcTemplate.update(DELETE_BUNDLES, params);
+    }
+
+    public void markPurged(Long userId, LocalDateTime purgedAt) {
+        jdbcTemplate.update(MARK_PURGED, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("purgedAt", Timestamp.valueOf(purgedAt)));
+    }
+
+    public record ImageRow(long id, String imageKey, String imageUrl) {
+    }
+}
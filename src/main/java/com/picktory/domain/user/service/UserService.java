@@ -42,6 +42,7 @@ public class UserService {
     /**
      * 사용자 계정을 탈퇴 처리합니다.
      * 카카오 계정 연결 해제 및 리프레시 토큰 삭제를 포함합니다.
+     * 보따리 / 선물 / 이미지는 WithdrawnUserPurgeJob이 나중에 나눠서 삭제합니다.
      *
      * @throws BaseException 처리 중 오류 발생 시
      */
@@ -0,0 +1,7 @@
+-- gift_images.image_url 축소(contract) 단계 - 아직 Flyway 경로(db/migration)에 포함하지 않는다.
+-- 적용 조건
+--   1) GiftImageKeyMigrationJob이 "이관 완료"를 기록하고, 아래 조회 결과가 0건일 것
+--      SELECT COUNT(*) FROM gift_images WHERE image_key IS NULL OR image_url <> '';
+--   2) GiftImage.imageUrl 매핑과 image_url을 읽는 코드(탈퇴 회원 삭제, 이관 작업)를 제거한 릴리스일 것
+-- 위 릴리스에서 이 파일을 다음 버전 번호로 db/migration에 옮겨 적용한다. (MySQL 8.0.29+에서 INSTANT)
+ALTER TABLE gift_images DROP COLUMN image_url;
@@ -0,0 +1,16 @@
+-- 탈퇴 회원 데이터 일괄 삭제 (WithdrawnUserPurgeJob, 보따리가 모두 지워지면 purged_at 기록)
+ALTER TABLE user ADD COLUMN purged_at DATETIME(6);
+CREATE INDEX idx_user_is_deleted_purged_at_deleted_at ON user (is_deleted, purged_at, deleted_at);
+
+-- S3 객체 삭제 대기열 (DB 행 삭제와 같은 트랜잭션에서 기록, S3ObjectDeletionJob이 묶어서 삭제)
+CREATE TABLE s3_object_deletions
+(
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    object_key      VARCHAR(255) NOT NULL,
+    attempts        INT          DEFAULT 0 NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_s3_object_deletions_next_attempt_at ON s3_object_deletions (next_attempt_at);
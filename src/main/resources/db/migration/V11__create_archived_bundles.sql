@@ -0,0 +1,20 @@
+-- 오래된 답변 완료 보따리 보관 (BundleArchiveService가 보따리 / 선물 / 이미지 / 답변을 압축 JSON 한 행으로 옮김)
+CREATE TABLE archived_bundles
+(
+    bundle_id       BIGINT       NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    name            VARCHAR(100) NOT NULL,
+    design_type     VARCHAR(255) NOT NULL,
+    gift_count      INT          NOT NULL,
+    responded_count INT          NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    archived_at     DATETIME(6)  NOT NULL,
+    payload         MEDIUMBLOB   NOT NULL,
+    PRIMARY KEY (bundle_id)
+);
+
+-- BundleArchiveRepository.findAllByUserId (보따리 목록에 합쳐 보여줌)
+CREATE INDEX idx_archived_bundles_user_id_updated_at ON archived_bundles (user_id, updated_at);
+
+-- BundleRepository.findArchiveCandidates
+CREATE INDEX idx_bundles_status_updated_at ON bundles (status, updated_at);
@@ -0,0 +1,22 @@
+-- 답변 태그 집계 (ResponseTagRollupJob이 새 답변을 ID 워터마크 이후부터 읽어 누적)
+-- 일자 / 정규화된 구매처 도메인 / 태그별 답변 수
+CREATE TABLE response_tag_rollups
+(
+    stat_date       DATE         NOT NULL,
+    purchase_domain VARCHAR(255) NOT NULL,
+    response_tag    VARCHAR(30)  NOT NULL,
+    response_count  BIGINT       NOT NULL,
+    PRIMARY KEY (stat_date, purchase_domain, response_tag)
+);
+
+-- 집계 작업별 마지막으로 반영한 원본 행 ID
+CREATE TABLE analytics_watermarks
+(
+    name       VARCHAR(50) NOT NULL,
+    last_id    BIGINT      NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO analytics_watermarks (name, last_id, updated_at)
+VALUES ('response_tag_rollup', 0, CURRENT_TIMESTAMP);
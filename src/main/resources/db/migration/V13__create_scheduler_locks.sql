@@ -0,0 +1,9 @@
+-- 여러 인스턴스 중 한 곳에서만 실행해야 하는 배치의 실행 권한 (SchedulerLock)
+-- locked_until이 지나면 잠근 인스턴스가 죽었어도 다른 인스턴스가 가져갈 수 있다.
+CREATE TABLE scheduler_locks
+(
+    name         VARCHAR(64)  NOT NULL,
+    locked_until DATETIME(6)  NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL,
+    PRIMARY KEY (name)
+);
@@ -0,0 +1,80 @@
+-- 기준 스키마 (JPA 엔티티 매핑 기준)
+
+CREATE TABLE user
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    kakao_id   BIGINT       NOT NULL,
+    nickname   VARCHAR(255),
+    is_deleted BOOLEAN      NOT NULL,
+    deleted_at DATETIME(6),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_kakao_id UNIQUE (kakao_id)
+);
+
+CREATE TABLE refresh_token
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    token       VARCHAR(255) NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    expiry_date DATETIME(6)  NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_token UNIQUE (token)
+);
+
+CREATE TABLE bundles
+(
+    id                      BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id                 BIGINT       NOT NULL,
+    name                    VARCHAR(100) NOT NULL,
+    design_type             VARCHAR(255) NOT NULL,
+    delivery_character_type VARCHAR(255),
+    link                    VARCHAR(255),
+    status                  VARCHAR(255) NOT NULL,
+    published_at            DATETIME(6),
+    is_read                 BOOLEAN,
+    created_at              DATETIME(6),
+    updated_at              DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_bundles_link UNIQUE (link),
+    CONSTRAINT fk_bundles_user_id FOREIGN KEY (user_id) REFERENCES user (id)
+);
+
+CREATE TABLE gifts
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    bundle_id    BIGINT       NOT NULL,
+    name         VARCHAR(100) NOT NULL,
+    message      TEXT,
+    purchase_url TEXT,
+    response_tag VARCHAR(255),
+    is_responsed BOOLEAN      NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE gift_images
+(
+    id          BIGINT    NOT NULL AUTO_INCREMENT,
+    gift_id     BIGINT    NOT NULL,
+    image_url   TEXT      NOT NULL,
+    is_primary  BOOLEAN   NOT NULL,
+    uploaded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_gift_images_gift_id FOREIGN KEY (gift_id) REFERENCES gifts (id)
+);
+
+CREATE TABLE responses
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    gift_id      BIGINT       NOT NULL,
+    bundle_id    BIGINT       NOT NULL,
+    response_tag VARCHAR(255) NOT NULL,
+    message      TEXT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id)
+);
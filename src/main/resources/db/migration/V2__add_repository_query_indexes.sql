@@ -0,0 +1,29 @@
+-- 레포지토리 조회 패턴별 인덱스
+
+-- BundleRepository.countByUserIdAndCreatedAtAfter
+CREATE INDEX idx_bundles_user_id_created_at ON bundles (user_id, created_at);
+
+-- BundleRepository.findByUserIdOrderByUpdatedAtDesc, findTop8ByUser_IdOrderByUpdatedAtDesc
+CREATE INDEX idx_bundles_user_id_updated_at ON bundles (user_id, updated_at);
+
+-- GiftRepository.findAllByBundleId
+CREATE INDEX idx_gifts_bundle_id ON gifts (bundle_id);
+
+-- GiftImageRepository.findAllByGift_Id(In), findByGift_IdAndIsPrimaryTrue
+CREATE INDEX idx_gift_images_gift_id_is_primary ON gift_images (gift_id, is_primary);
+
+-- ResponseRepositoryImpl.findAllByBundleIdAndGiftIds (bundle_id, gift_id 조건 + created_at 정렬)
+CREATE INDEX idx_responses_bundle_id_gift_id_created_at ON responses (bundle_id, gift_id, created_at);
+
+-- RefreshTokenRepository.findByUserId, existsByUserId, deleteByUserId
+CREATE INDEX idx_refresh_token_user_id ON refresh_token (user_id);
+
+-- 선물당 답변은 하나만 허용 (ResponseService.saveGiftResponses)
+-- 제약이 없던 시절 중복 제출로 생긴 행이 있으면 제약 추가가 실패하므로 먼저 정리한다.
+-- gifts.response_tag는 마지막 제출로 덮어써졌으므로 선물마다 가장 최근 행(가장 큰 id)만 남긴다.
+-- (MySQL은 DELETE 대상 테이블을 서브쿼리에서 직접 읽을 수 없어, GROUP BY 파생 테이블로 먼저 구체화한다)
+DELETE FROM responses
+WHERE id NOT IN (SELECT keep.id
+                 FROM (SELECT MAX(id) AS id FROM responses GROUP BY gift_id) keep);
+
+ALTER TABLE responses ADD CONSTRAINT uk_responses_gift_id UNIQUE (gift_id);
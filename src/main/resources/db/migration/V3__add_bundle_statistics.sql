@@ -0,0 +1,8 @@
+-- 보따리 선물 통계 캐시 컬럼 (기존 데이터는 BundleStatisticsRepairJob이 채움)
+ALTER TABLE bundles ADD COLUMN gift_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE bundles ADD COLUMN responded_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE bundles ADD COLUMN great_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE bundles ADD COLUMN good_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE bundles ADD COLUMN already_have_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE bundles ADD COLUMN not_sure_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE bundles ADD COLUMN not_my_style_count INT DEFAULT 0 NOT NULL;
@@ -0,0 +1,3 @@
+-- 낙관적 락 버전 컬럼 (임시 저장 동시 수정 충돌 감지 / ETag)
+ALTER TABLE bundles ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE gifts ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,3 @@
+-- 배달 링크 컬럼은 VARCHAR(255) 그대로 둔다 (신규 base62 코드 18자, 기존 UUID 36자 모두 들어간다)
+-- 컬럼 축소(MODIFY COLUMN ... VARCHAR(36))는 MySQL에서 online DDL이 되지 않아 테이블 복사 동안 bundles 쓰기를 막으므로 하지 않는다.
+-- 이미 적용된 버전 번호라 파일은 남겨 두고, 이전 내용을 적용한 DB는 flyway repair로 체크섬을 맞춘다.
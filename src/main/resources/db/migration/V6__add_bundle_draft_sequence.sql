@@ -0,0 +1,2 @@
+-- 자동 저장(변경분 PATCH) 마지막 반영 순번
+ALTER TABLE bundles ADD COLUMN draft_sequence BIGINT DEFAULT 0 NOT NULL;
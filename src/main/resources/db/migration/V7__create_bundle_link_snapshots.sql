@@ -0,0 +1,9 @@
+-- 배달 링크 페이지 응답 JSON 스냅샷 (보따리 버전이 같을 때만 사용)
+CREATE TABLE bundle_link_snapshots
+(
+    bundle_id      BIGINT      NOT NULL,
+    bundle_version BIGINT      NOT NULL,
+    body           MEDIUMBLOB  NOT NULL,
+    rendered_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (bundle_id)
+);
@@ -0,0 +1,9 @@
+-- 이미지 전체 URL(TEXT) 대신 S3 객체 키 저장 - 확장(expand) 단계
+-- 1) 확장: image_key 추가 (테이블 재작성 없이 INSTANT로 추가, image_url은 그대로 NOT NULL 유지)
+-- 2) 이관: GiftImageKeyMigrationJob이 기존 행의 image_key를 채우고 image_url을 비움 (새 행은 처음부터 비워 저장)
+-- 3) 축소(contract): 이관이 끝난 뒤 image_url 매핑을 지우는 릴리스에서 컬럼 삭제 (db/contract 참고)
+-- /*!... */ 안의 절은 MySQL에서만 실행된다 (테스트용 H2는 주석으로 무시)
+ALTER TABLE gift_images ADD COLUMN image_key VARCHAR(255) /*!80013 , ALGORITHM=INSTANT */;
+
+-- 객체 키는 앞부분(gifts/users/{userId}/{uuid})만으로 충분히 구분되므로 접두사 인덱스로 크기를 줄인다
+CREATE INDEX idx_gift_images_image_key ON gift_images (image_key/*!50000 (100)*/) /*!50600 ALGORITHM=INPLACE LOCK=NONE */;
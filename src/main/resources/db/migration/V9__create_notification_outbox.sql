@@ -0,0 +1,19 @@
+-- 알림 트랜잭셔널 아웃박스 (상태 변경과 같은 트랜잭션에서 기록, 릴레이가 발송)
+CREATE TABLE notification_outbox
+(
+    id              BIGINT       NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    bundle_id       BIGINT       NOT NULL,
+    type            VARCHAR(30)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          DEFAULT 0 NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_notification_outbox_bundle_id_type UNIQUE (bundle_id, type)
+);
+
+CREATE INDEX idx_notification_outbox_status_next_attempt_at ON notification_outbox (status, next_attempt_at);
+CREATE INDEX idx_notification_outbox_status_sent_at ON notification_outbox (status, sent_at);
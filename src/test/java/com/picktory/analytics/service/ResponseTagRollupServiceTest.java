@@ -0,0 +1,213 @@
+package com.picktory.analytics.service;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.config.auth.AuthenticationService;
+import com.picktory.domain.analytics.dto.DailyTagStatsResponse;
+import com.picktory.domain.analytics.dto.PurchaseDomainTagStatsResponse;
+import com.picktory.domain.analytics.repository.ResponseTagRollupRepository;
+import com.picktory.domain.analytics.service.ResponseTagAnalyticsService;
+import com.picktory.domain.analytics.service.ResponseTagRollupService;
+import com.picktory.domain.gift.enums.GiftResponseTag;
+import com.picktory.domain.user.entity.User;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Flyway 마이그레이션을 적용한 H2(MySQL 모드)에서 답변 태그 증분 집계와 관리자 조회를 검증한다.
+ */
+class ResponseTagRollupServiceTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2025, 3, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 3, 2);
+    private static final long ADMIN_ID = 1L;
+
+    private JdbcTemplate jdbcTemplate;
+    private AuthenticationService authenticationService;
+    private ResponseTagRollupService rollupService;
+    private ResponseTagAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:response-tag-rollup-" + System.nanoTime()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        ResponseTagRollupRepository repository = new ResponseTagRollupRepository(jdbcTemplate);
+        rollupService = new ResponseTagRollupService(repository);
+        authenticationService = mock(AuthenticationService.class);
+        analyticsService = new ResponseTagAnalyticsService(authenticationService, repository);
+        ReflectionTestUtils.setField(analyticsService, "adminUserIds", Set.of(ADMIN_ID));
+
+        insertGift(100, "https://www.coupang.com/vp/products/1");
+        insertGift(101, "https://m.coupang.com/vm/products/2?itemId=3");
+        insertGift(102, "coupang.com/vp/products/4");
+        insertGift(103, "https://smartstore.naver.com/shop/products/5");
+        insertGift(104, null);
+        insertGift(105, "그냥 메모");
+
+        insertResponse(10, 100, GiftResponseTag.GREAT, DAY1);
+        insertResponse(11, 101, GiftResponseTag.GOOD, DAY1);
+        insertResponse(12, 102, GiftResponseTag.NOT_MY_STYLE, DAY2);
+        insertResponse(13, 103, GiftResponseTag.ALREADY_HAVE, DAY1);
+        insertResponse(14, 104, GiftResponseTag.GREAT, DAY2);
+        insertResponse(15, 105, GiftResponseTag.NOT_SURE, DAY2);
+    }
+
+    @Test
+    @DisplayName("✅ 새 답변을 일자 / 정규화된 구매처 도메인 / 태그별로 누적하고 워터마크를 마지막 ID로 옮긴다")
+    void 증분_집계_테스트() {
+        assertThat(rollupService.rollupBatch(Long.MAX_VALUE, 100)).isEqualTo(6);
+
+        assertThat(rollupCount(DAY1, "coupang.com", GiftResponseTag.GREAT)).isEqualTo(1);
+        assertThat(rollupCount(DAY1, "coupang.com", GiftResponseTag.GOOD)).isEqualTo(1);
+        assertThat(rollupCount(DAY2, "coupang.com", GiftResponseTag.NOT_MY_STYLE)).isEqualTo(1);
+        assertThat(rollupCount(DAY1, "smartstore.naver.com", GiftResponseTag.ALREADY_HAVE)).isEqualTo(1);
+        assertThat(rollupCount(DAY2, ResponseTagRollupService.NO_DOMAIN, GiftResponseTag.GREAT)).isEqualTo(1);
+        assertThat(rollupCount(DAY2, ResponseTagRollupService.INVALID_DOMAIN, GiftResponseTag.NOT_SURE)).isEqualTo(1);
+        assertThat(watermark()).isEqualTo(15L);
+
+        // 이미 반영한 답변은 다시 더하지 않고, 새 답변만 누적한다
+        assertThat(rollupService.rollupBatch(Long.MAX_VALUE, 100)).isZero();
+        insertGift(106, "https://www.coupang.com/vp/products/6");
+        insertResponse(16, 106, GiftResponseTag.GREAT, DAY1);
+
+        assertThat(rollupService.rollupBatch(Long.MAX_VALUE, 100)).isEqualTo(1);
+        assertThat(rollupCount(DAY1, "coupang.com", GiftResponseTag.GREAT)).isEqualTo(2);
+        assertThat(watermark()).isEqualTo(16L);
+    }
+
+    @Test
+    @DisplayName("✅ 배치 크기와 ID 상한을 넘는 답변은 다음 배치로 미룬다")
+    void 배치_상한_테스트() {
+        assertThat(rollupService.rollupBatch(14L, 2)).isEqualTo(2);
+        assertThat(watermark()).isEqualTo(11L);
+
+        assertThat(rollupService.rollupBatch(14L, 2)).isEqualTo(2);
+        assertThat(watermark()).isEqualTo(13L);
+
+        assertThat(rollupService.rollupBatch(14L, 2)).isZero();
+        assertThat(watermark()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("✅ 선물이 지워진 답변은 구매처 없음과 구분해 따로 집계한다")
+    void 삭제된_선물_집계_테스트() {
+        insertResponse(16, 999, GiftResponseTag.GOOD, DAY1);
+
+        assertThat(rollupService.rollupBatch(Long.MAX_VALUE, 100)).isEqualTo(7);
+
+        assertThat(rollupCount(DAY1, ResponseTagRollupService.DELETED_GIFT, GiftResponseTag.GOOD)).isEqualTo(1);
+        assertThat(rollupCount(DAY2, ResponseTagRollupService.NO_DOMAIN, GiftResponseTag.GREAT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 답변을 지우기 전 집계는 워터마크 이후 답변만 한 번 더하고, 워터마크는 그대로 둔다")
+    void 삭제_전_집계_테스트() {
+        insertResponse(16, 100, 2, GiftResponseTag.GREAT, DAY1);
+        rollupService.rollupBatch(14L, 100);
+        assertThat(watermark()).isEqualTo(13L);
+
+        // 보따리 1의 아직 집계되지 않은 답변(14, 15)만 더한다
+        assertThat(rollupService.rollupBeforeDelete(List.of(1L))).isEqualTo(2);
+        assertThat(rollupCount(DAY2, ResponseTagRollupService.NO_DOMAIN, GiftResponseTag.GREAT)).isEqualTo(1);
+        assertThat(rollupCount(DAY2, ResponseTagRollupService.INVALID_DOMAIN, GiftResponseTag.NOT_SURE)).isEqualTo(1);
+        assertThat(rollupCount(DAY1, "coupang.com", GiftResponseTag.GREAT)).isEqualTo(1);
+        assertThat(watermark()).isEqualTo(13L);
+
+        // 지운 답변은 증분 집계가 다시 읽지 않으므로 남은 답변만 이어서 더해진다
+        jdbcTemplate.update("DELETE FROM responses WHERE bundle_id = 1");
+        assertThat(rollupService.rollupBatch(Long.MAX_VALUE, 100)).isEqualTo(1);
+        assertThat(rollupCount(DAY1, "coupang.com", GiftResponseTag.GREAT)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(response_count) FROM response_tag_rollups", Long.class))
+                .isEqualTo(7L);
+        assertThat(watermark()).isEqualTo(16L);
+    }
+
+    @Test
+    @DisplayName("✅ 관리자는 구매처별 반응을 긍정 비율 순으로, 일자별 태그 분포를 날짜 순으로 조회한다")
+    void 관리자_조회_테스트() {
+        rollupService.rollupBatch(Long.MAX_VALUE, 100);
+        loginAs(ADMIN_ID);
+
+        List<PurchaseDomainTagStatsResponse> domains = analyticsService.getPurchaseDomainStats(DAY1, DAY2, 1, 10);
+
+        assertThat(domains).extracting(PurchaseDomainTagStatsResponse::getPurchaseDomain)
+                .startsWith(ResponseTagRollupService.NO_DOMAIN, "coupang.com");
+        PurchaseDomainTagStatsResponse coupang = domains.get(1);
+        assertThat(coupang.getTotalCount()).isEqualTo(3);
+        assertThat(coupang.getPositiveRate()).isEqualTo(2.0 / 3);
+        assertThat(coupang.getTagCounts()).containsEntry(GiftResponseTag.NOT_MY_STYLE, 1L)
+                .containsEntry(GiftResponseTag.NOT_SURE, 0L);
+        assertThat(analyticsService.getPurchaseDomainStats(DAY1, DAY2, 2, 10))
+                .extracting(PurchaseDomainTagStatsResponse::getPurchaseDomain)
+                .containsExactly("coupang.com");
+
+        List<DailyTagStatsResponse> daily = analyticsService.getDailyStats(DAY1, DAY2);
+
+        assertThat(daily).extracting(DailyTagStatsResponse::getDate).containsExactly(DAY1, DAY2);
+        assertThat(daily).extracting(DailyTagStatsResponse::getTotalCount).containsExactly(3L, 3L);
+    }
+
+    @Test
+    @DisplayName("❌ 관리자가 아니면 집계를 조회할 수 없다")
+    void 관리자_권한_테스트() {
+        loginAs(2L);
+
+        assertThatThrownBy(() -> analyticsService.getDailyStats(DAY1, DAY2))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.FORBIDDEN);
+    }
+
+    private void loginAs(long userId) {
+        User user = User.builder().kakaoId(userId).nickname("admin").build();
+        ReflectionTestUtils.setField(user, "id", userId);
+        when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+    }
+
+    private void insertGift(long id, String purchaseUrl) {
+        jdbcTemplate.update("INSERT INTO gifts (id, bundle_id, name, purchase_url, is_responsed, created_at) "
+                + "VALUES (?, 1, '선물', ?, TRUE, CURRENT_TIMESTAMP)", id, purchaseUrl);
+    }
+
+    private void insertResponse(long id, long giftId, GiftResponseTag tag, LocalDate date) {
+        insertResponse(id, giftId, 1, tag, date);
+    }
+
+    private void insertResponse(long id, long giftId, long bundleId, GiftResponseTag tag, LocalDate date) {
+        jdbcTemplate.update("INSERT INTO responses (id, gift_id, bundle_id, response_tag, created_at) VALUES (?, ?, ?, ?, ?)",
+                id, giftId, bundleId, tag.name(), Timestamp.valueOf(date.atTime(12, 0)));
+    }
+
+    private long rollupCount(LocalDate date, String domain, GiftResponseTag tag) {
+        return jdbcTemplate.queryForObject("SELECT response_count FROM response_tag_rollups "
+                + "WHERE stat_date = ? AND purchase_domain = ? AND response_tag = ?", Long.class, Date.valueOf(date), domain, tag.name());
+    }
+
+    private long watermark() {
+        return jdbcTemplate.queryForObject("SELECT last_id FROM analytics_watermarks WHERE name = ?",
+                Long.class, ResponseTagRollupService.WATERMARK);
+    }
+}
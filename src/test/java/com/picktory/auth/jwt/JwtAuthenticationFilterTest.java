@@ -0,0 +1,97 @@
+package com.picktory.auth.jwt;
+
+import com.picktory.domain.auth.jwt.JwtTokenProvider;
+import com.picktory.domain.auth.jwt.filter.JwtAuthenticationFilter;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String STREAM_PATH = "/api/v1/bundles/stream";
+    private static final Long USER_ID = 1L;
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded()));
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("✅ 스트림 경로는 쿼리 파라미터의 스트림 토큰으로 인증된다 (EventSource)")
+    void 스트림_토큰_쿼리_인증_테스트() throws Exception {
+        MockHttpServletRequest request = request("GET", STREAM_PATH);
+        request.setParameter("token", streamToken());
+
+        assertThat(authenticate(request)).isNotNull()
+                .extracting(Authentication::getName).isEqualTo(USER_ID.toString());
+    }
+
+    @Test
+    @DisplayName("✅ 일반 액세스 토큰은 기존처럼 Authorization 헤더로 인증된다")
+    void 액세스_토큰_헤더_인증_테스트() throws Exception {
+        MockHttpServletRequest request = request("GET", STREAM_PATH);
+        request.addHeader("Authorization", "Bearer " + accessToken());
+
+        assertThat(authenticate(request)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("❌ 스트림 외의 경로에서는 쿼리 파라미터 토큰을 받지 않는다")
+    void 스트림_외_쿼리_토큰_거부_테스트() throws Exception {
+        MockHttpServletRequest request = request("GET", "/api/v1/bundles/main");
+        request.setParameter("token", streamToken());
+
+        assertThat(authenticate(request)).isNull();
+    }
+
+    @Test
+    @DisplayName("❌ 스트림 토큰은 헤더로 다른 API에 쓸 수 없다")
+    void 스트림_토큰_헤더_거부_테스트() throws Exception {
+        MockHttpServletRequest request = request("GET", "/api/v1/bundles/main");
+        request.addHeader("Authorization", "Bearer " + streamToken());
+
+        assertThat(authenticate(request)).isNull();
+    }
+
+    @Test
+    @DisplayName("❌ 일반 액세스 토큰은 쿼리 파라미터로 받지 않는다 (URL 로그 노출 방지)")
+    void 액세스_토큰_쿼리_거부_테스트() throws Exception {
+        MockHttpServletRequest request = request("GET", STREAM_PATH);
+        request.setParameter("token", accessToken());
+
+        assertThat(authenticate(request)).isNull();
+    }
+
+    private Authentication authenticate(MockHttpServletRequest request) throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    private String streamToken() {
+        return jwtTokenProvider.generateStreamToken(USER_ID).getToken();
+    }
+
+    private String accessToken() {
+        return jwtTokenProvider.generateToken(USER_ID).getAccessToken();
+    }
+}
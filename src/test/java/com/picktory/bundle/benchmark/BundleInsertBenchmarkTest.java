@@ -0,0 +1,121 @@
+package com.picktory.bundle.benchmark;
+
+import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.entity.BundleStatistics;
+import com.picktory.domain.bundle.enums.DesignType;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.gift.entity.Gift;
+import com.picktory.domain.gift.entity.GiftImage;
+import com.picktory.domain.gift.repository.GiftImageRepository;
+import com.picktory.domain.gift.repository.GiftRepository;
+import com.picktory.domain.user.entity.User;
+import com.picktory.domain.user.repository.UserRepository;
+import com.picktory.support.annotation.H2JpaTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보따리 1개(선물 6개, 이미지 18장) 저장 지연 시간 측정
+ * ./gradlew benchmark
+ */
+@Tag("benchmark")
+@H2JpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BundleInsertBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 300;
+    private static final int GIFTS_PER_BUNDLE = 6;
+    private static final int IMAGES_PER_GIFT = 3;
+    private static final int TABLES_PER_BUNDLE = 3;
+
+    @Autowired
+    private BundleRepository bundleRepository;
+
+    @Autowired
+    private GiftRepository giftRepository;
+
+    @Autowired
+    private GiftImageRepository giftImageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("보따리 저장 지연 시간 / 보따리당 SQL 실행 수")
+    void 보따리_저장_벤치마크() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        User user = userRepository.save(User.builder().kakaoId(1L).nickname("benchmark").build());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            transactionTemplate.executeWithoutResult(status -> saveBundle(user));
+        }
+
+        statistics.clear();
+        long[] latencies = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> saveBundle(user));
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(latencies);
+        double statementsPerBundle = (double) statistics.getPrepareStatementCount() / MEASURED_ROUNDS;
+        int rowsPerBundle = 1 + GIFTS_PER_BUNDLE + GIFTS_PER_BUNDLE * IMAGES_PER_GIFT;
+
+        // IDENTITY였다면 행마다 INSERT가 실행됨 (25회) - 배치 INSERT는 테이블당(보따리 / 선물 / 이미지) 1회
+        assertThat(statementsPerBundle)
+                .as("rows/bundle=%d, avg=%.3fms, p50=%.3fms, p95=%.3fms, p99=%.3fms",
+                        rowsPerBundle,
+                        Arrays.stream(latencies).average().orElse(0) / 1_000_000.0,
+                        latencies[MEASURED_ROUNDS / 2] / 1_000_000.0,
+                        latencies[(int) (MEASURED_ROUNDS * 0.95)] / 1_000_000.0,
+                        latencies[(int) (MEASURED_ROUNDS * 0.99)] / 1_000_000.0)
+                .isLessThanOrEqualTo(TABLES_PER_BUNDLE);
+    }
+
+    private void saveBundle(User user) {
+        Bundle bundle = bundleRepository.save(Bundle.builder()
+                .user(user)
+                .name("벤치마크 보따리")
+                .designType(DesignType.RED)
+                .statistics(BundleStatistics.ofGiftCount(GIFTS_PER_BUNDLE))
+                .build());
+
+        List<Gift> gifts = new ArrayList<>();
+        for (int i = 0; i < GIFTS_PER_BUNDLE; i++) {
+            gifts.add(Gift.builder().bundleId(bundle.getId()).name("선물" + i).build());
+        }
+        List<Gift> savedGifts = giftRepository.saveAll(gifts);
+
+        List<GiftImage> images = new ArrayList<>();
+        for (Gift gift : savedGifts) {
+            for (int i = 0; i < IMAGES_PER_GIFT; i++) {
+                images.add(GiftImage.createGiftImage(gift, "https://cdn.example.com/" + gift.getId() + "/" + i + ".jpg", i == 0));
+            }
+        }
+        giftImageRepository.saveAll(images);
+    }
+}
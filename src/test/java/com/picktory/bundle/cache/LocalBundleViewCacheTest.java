@@ -0,0 +1,110 @@
+package com.picktory.bundle.cache;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.domain.bundle.cache.BundleViewKey;
+import com.picktory.domain.bundle.cache.LocalBundleViewCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalBundleViewCacheTest {
+
+    private LocalBundleViewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LocalBundleViewCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("✅ 같은 버전은 캐시된 화면을 쓰고, 버전이 올라가면 다시 만든다")
+    void 버전별_캐시_테스트() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(summary(1L), () -> "v1-" + loads.incrementAndGet())).isEqualTo("v1-1");
+        assertThat(cache.get(summary(1L), () -> "v1-" + loads.incrementAndGet())).isEqualTo("v1-1");
+        assertThat(cache.get(summary(2L), () -> "v2-" + loads.incrementAndGet())).isEqualTo("v2-2");
+        // 이전 버전 조회는 캐시하지 않고 직접 만든다
+        assertThat(cache.get(summary(1L), () -> "v1-" + loads.incrementAndGet())).isEqualTo("v1-3");
+        assertThat(cache.get(summary(2L), () -> "v2-" + loads.incrementAndGet())).isEqualTo("v2-2");
+    }
+
+    @Test
+    @DisplayName("✅ 제거하면 같은 버전이라도 다시 만든다")
+    void 제거_테스트() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(summary(1L), loads::incrementAndGet);
+
+        cache.evict(10L);
+
+        assertThat(cache.get(summary(1L), loads::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("❌ 실패한 조회는 캐시하지 않는다")
+    void 실패_미캐시_테스트() {
+        BundleViewKey key = new BundleViewKey(10L, 1L, BundleViewKey.View.GIFT_DETAIL, 5L);
+
+        assertThatThrownBy(() -> cache.get(key, () -> {
+            throw new BaseException(BaseResponseStatus.GIFT_NOT_FOUND);
+        })).isInstanceOf(BaseException.class);
+
+        assertThat(cache.get(key, () -> "found")).isEqualTo("found");
+    }
+
+    @Test
+    @DisplayName("✅ 같은 화면을 동시에 조회하면 한 번만 만든다")
+    void 동시_조회_단일_로딩_테스트() throws Exception {
+        int threadCount = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        Future<Object> first = executor.submit(() -> cache.get(summary(1L), () -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            await(release);
+            return "view";
+        }));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<?>[] waiting = new Future<?>[threadCount - 1];
+        for (int i = 0; i < waiting.length; i++) {
+            waiting[i] = executor.submit(() -> cache.get(summary(1L), () -> "view-" + loads.incrementAndGet()));
+        }
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("view");
+        for (Future<?> future : waiting) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("view");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    private static BundleViewKey summary(Long version) {
+        return new BundleViewKey(10L, version, BundleViewKey.View.SUMMARY, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.picktory.bundle.controller;
+
+import com.picktory.common.image.ImageUrlMode;
+import com.picktory.common.image.ImageUrlModeInterceptor;
+import com.picktory.config.auth.AuthenticationService;
+import com.picktory.domain.bundle.controller.BundleController;
+import com.picktory.domain.bundle.dto.BundleFreshness;
+import com.picktory.domain.bundle.dto.BundleSummaryResponse;
+import com.picktory.domain.bundle.enums.BundleStatus;
+import com.picktory.domain.bundle.service.BundleDraftService;
+import com.picktory.domain.bundle.service.BundleService;
+import com.picktory.domain.bundle.service.BundleStatusStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class BundleConditionalGetTest {
+
+    @Mock
+    private BundleService bundleService;
+
+    @Mock
+    private BundleDraftService bundleDraftService;
+
+    @Mock
+    private BundleStatusStreamService bundleStatusStreamService;
+
+    @Mock
+    private AuthenticationService authenticationService;
+
+    private MockMvc mockMvc;
+
+    private final BundleFreshness freshness = new TestBundleFreshness(
+            1L, 10L, BundleStatus.COMPLETED, false, LocalDateTime.of(2025, 2, 1, 12, 0), 3L);
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new BundleController(bundleService, bundleDraftService, bundleStatusStreamService, authenticationService)).build();
+    }
+
+    @Test
+    @DisplayName("✅ ETag가 일치하면 보따리를 로딩하지 않고 304를 반환한다")
+    void ETag_일치_304_테스트() throws Exception {
+        when(bundleService.getOwnedBundleFreshness(1L)).thenReturn(Optional.of(freshness));
+
+        mockMvc.perform(get("/api/v1/bundles/1").header(HttpHeaders.IF_NONE_MATCH, freshness.getETag()))
+                .andExpect(status().isNotModified());
+
+        verify(bundleService, never()).getBundle(1L);
+        verify(bundleService).markAsReadIfUnread(freshness);
+    }
+
+    @Test
+    @DisplayName("✅ ETag가 다르면 본문과 함께 ETag / Cache-Control을 반환한다")
+    void ETag_불일치_200_테스트() throws Exception {
+        when(bundleService.getOwnedBundleFreshness(1L)).thenReturn(Optional.of(freshness));
+        when(bundleService.getBundle(1L)).thenReturn(BundleSummaryResponse.builder().id(1L).build());
+
+        mockMvc.perform(get("/api/v1/bundles/1").header(HttpHeaders.IF_NONE_MATCH, "\"b1-2-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, freshness.getETag()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+    }
+
+    @Test
+    @DisplayName("✅ 객체 키(relative) 응답은 전체 URL 응답과 다른 ETag를 쓴다")
+    void 이미지_URL_모드별_ETag_테스트() throws Exception {
+        MockMvc relativeMockMvc = MockMvcBuilders
+                .standaloneSetup(new BundleController(bundleService, bundleDraftService, bundleStatusStreamService, authenticationService))
+                .addInterceptors(new ImageUrlModeInterceptor("d1a2b3c4d5e6f7.cloudfront.net"))
+                .build();
+        when(bundleService.getOwnedBundleFreshness(1L)).thenReturn(Optional.of(freshness));
+        when(bundleService.getBundle(1L)).thenReturn(BundleSummaryResponse.builder().id(1L).build());
+
+        // 전체 URL 응답의 ETag로는 객체 키 응답을 304로 재사용할 수 없다
+        relativeMockMvc.perform(get("/api/v1/bundles/1")
+                        .header(ImageUrlMode.REQUEST_HEADER, "relative")
+                        .header(HttpHeaders.IF_NONE_MATCH, freshness.getETag()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, freshness.getETag(ImageUrlMode.RELATIVE)));
+
+        relativeMockMvc.perform(get("/api/v1/bundles/1")
+                        .header(ImageUrlMode.REQUEST_HEADER, "relative")
+                        .header(HttpHeaders.IF_NONE_MATCH, freshness.getETag(ImageUrlMode.RELATIVE)))
+                .andExpect(status().isNotModified());
+    }
+
+    private record TestBundleFreshness(Long id, Long userId, BundleStatus status, Boolean isRead,
+                                       LocalDateTime updatedAt, Long version) implements BundleFreshness {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public String getLink() {
+            return null;
+        }
+
+        @Override
+        public BundleStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public Boolean getIsRead() {
+            return isRead;
+        }
+
+        @Override
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        @Override
+        public Long getVersion() {
+            return version;
+        }
+    }
+}
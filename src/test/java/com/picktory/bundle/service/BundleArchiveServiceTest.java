@@ -0,0 +1,200 @@
+package com.picktory.bundle.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.domain.analytics.service.ResponseTagRollupService;
+import com.picktory.domain.bundle.cache.BundleViewCache;
+import com.picktory.domain.bundle.dto.BundleResultGiftResponse;
+import com.picktory.domain.bundle.dto.BundleResultResponse;
+import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.entity.BundleStatistics;
+import com.picktory.domain.bundle.enums.BundleStatus;
+import com.picktory.domain.bundle.enums.DesignType;
+import com.picktory.domain.bundle.repository.BundleArchiveRepository;
+import com.picktory.domain.bundle.repository.BundleArchiveRepository.ArchiveRow;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.bundle.service.BundleArchiveService;
+import com.picktory.domain.gift.entity.Gift;
+import com.picktory.domain.gift.entity.GiftImage;
+import com.picktory.domain.gift.enums.GiftResponseTag;
+import com.picktory.domain.gift.repository.GiftImageRepository;
+import com.picktory.domain.gift.repository.GiftRepository;
+import com.picktory.domain.response.entity.Response;
+import com.picktory.domain.response.repository.LinkPageSnapshotRepository;
+import com.picktory.domain.response.repository.ResponseRepository;
+import com.picktory.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BundleArchiveServiceTest {
+
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private BundleRepository bundleRepository;
+
+    @Mock
+    private GiftRepository giftRepository;
+
+    @Mock
+    private GiftImageRepository giftImageRepository;
+
+    @Mock
+    private ResponseRepository responseRepository;
+
+    @Mock
+    private LinkPageSnapshotRepository linkPageSnapshotRepository;
+
+    @Mock
+    private BundleArchiveRepository bundleArchiveRepository;
+
+    @Mock
+    private ResponseTagRollupService responseTagRollupService;
+
+    @Mock
+    private BundleViewCache bundleViewCache;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private BundleArchiveService bundleArchiveService;
+
+    private Bundle bundle;
+    private Gift perfume;
+    private Gift chocolate;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().kakaoId(1L).nickname("tester").build();
+        ReflectionTestUtils.setField(user, "id", 10L);
+
+        bundle = Bundle.builder()
+                .id(1L)
+                .user(user)
+                .name("보관 보따리")
+                .designType(DesignType.RED)
+                .status(BundleStatus.COMPLETED)
+                .isRead(true)
+                .statistics(BundleStatistics.ofGiftCount(2))
+                .build();
+        ReflectionTestUtils.setField(bundle, "updatedAt", BEFORE.minusDays(1));
+        perfume = Gift.builder().id(100L).bundleId(1L).name("향수").purchaseUrl("https://shop.example.com/1")
+                .responseTag(GiftResponseTag.GREAT).build();
+        chocolate = Gift.builder().id(200L).bundleId(1L).name("초콜릿").build();
+    }
+
+    @Test
+    @DisplayName("✅ 보따리와 자식 행을 압축 본문 한 행으로 옮기고 원본을 일괄 삭제한다")
+    void 보관_테스트() {
+        when(bundleRepository.findArchiveCandidates(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(bundle));
+        when(giftRepository.findAllByBundleIdIn(List.of(1L))).thenReturn(List.of(perfume, chocolate));
+        when(giftImageRepository.findAllByGift_IdIn(List.of(100L, 200L))).thenReturn(List.of(
+                GiftImage.createGiftImage(perfume, "gifts/users/10/perfume2.jpg", false),
+                GiftImage.createGiftImage(perfume, "gifts/users/10/perfume1.jpg", true),
+                GiftImage.createGiftImage(chocolate, "gifts/users/10/chocolate.jpg", true)));
+        when(responseRepository.findAllByBundleIdIn(List.of(1L))).thenReturn(List.of(Response.builder()
+                .giftId(100L).bundleId(1L).responseTag(GiftResponseTag.GREAT).message("고마워").build()));
+
+        int archived = bundleArchiveService.archiveBatch(BEFORE, 200);
+
+        assertThat(archived).isEqualTo(1);
+        ArgumentCaptor<List<ArchiveRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bundleArchiveRepository).saveAll(captor.capture());
+        ArchiveRow row = captor.getValue().get(0);
+        assertThat(row.bundle().userId()).isEqualTo(10L);
+        assertThat(row.bundle().giftCount()).isEqualTo(2);
+
+        // 답변 태그 집계는 구매처를 읽을 수 있도록 선물 / 답변을 지우기 전에 한다
+        InOrder order = inOrder(responseTagRollupService, giftRepository, responseRepository);
+        order.verify(responseTagRollupService).rollupBeforeDelete(List.of(1L));
+        order.verify(giftRepository).deleteAllWithImagesByIdIn(List.of(100L, 200L));
+        order.verify(responseRepository).deleteAllByBundleIdIn(List.of(1L));
+        verify(linkPageSnapshotRepository).deleteAllByBundleIdIn(List.of(1L));
+        verify(bundleRepository).deleteAllByIdIn(List.of(1L));
+        verify(bundleViewCache).evict(1L);
+
+        // 보관된 본문으로 결과 화면을 그대로 만들 수 있어야 한다
+        when(bundleArchiveRepository.findById(1L)).thenReturn(Optional.of(row));
+        BundleResultResponse result = bundleArchiveService.getArchivedResult(1L, 10L);
+
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getGifts()).extracting(BundleResultGiftResponse::getName).containsExactly("향수", "초콜릿");
+        assertThat(result.getGifts()).extracting(BundleResultGiftResponse::getThumbnail)
+                .containsExactly("gifts/users/10/perfume1.jpg", "gifts/users/10/chocolate.jpg");
+        assertThat(result.getGifts().get(0).getResponseTag()).isEqualTo(GiftResponseTag.GREAT);
+        assertThat(result.getTagCounts()).containsKey(GiftResponseTag.GREAT);
+    }
+
+    @Test
+    @DisplayName("✅ 보관할 보따리가 없으면 아무것도 하지 않는다")
+    void 보관_대상_없음_테스트() {
+        when(bundleRepository.findArchiveCandidates(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of());
+
+        assertThat(bundleArchiveService.archiveBatch(BEFORE, 200)).isZero();
+        verifyNoInteractions(giftRepository, bundleArchiveRepository, bundleViewCache);
+    }
+
+    @Test
+    @DisplayName("❌ 다른 사용자의 보관된 보따리 결과는 조회할 수 없다")
+    void 보관_결과_권한_테스트() {
+        when(bundleRepository.findArchiveCandidates(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(bundle));
+        bundleArchiveService.archiveBatch(BEFORE, 200);
+        ArgumentCaptor<List<ArchiveRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bundleArchiveRepository).saveAll(captor.capture());
+        when(bundleArchiveRepository.findById(1L)).thenReturn(Optional.of(captor.getValue().get(0)));
+
+        assertThatThrownBy(() -> bundleArchiveService.getArchivedResult(1L, 99L))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("✅ 보관된 보따리는 주인만 삭제할 수 있다")
+    void 보관된_보따리_삭제_테스트() {
+        when(bundleArchiveRepository.findUserIdById(1L)).thenReturn(Optional.of(10L));
+
+        assertThatThrownBy(() -> bundleArchiveService.deleteArchivedBundle(1L, 99L))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.FORBIDDEN);
+        verify(bundleArchiveRepository, never()).deleteById(1L);
+
+        bundleArchiveService.deleteArchivedBundle(1L, 10L);
+        verify(bundleArchiveRepository).deleteById(1L);
+    }
+
+    @Test
+    @DisplayName("❌ 보관 테이블에도 없는 보따리는 삭제할 수 없다")
+    void 보관된_보따리_없음_삭제_테스트() {
+        when(bundleArchiveRepository.findUserIdById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bundleArchiveService.deleteArchivedBundle(1L, 10L))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.BUNDLE_NOT_FOUND);
+    }
+}
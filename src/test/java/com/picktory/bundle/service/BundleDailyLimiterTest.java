@@ -0,0 +1,53 @@
+package com.picktory.bundle.service;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.bundle.service.BundleDailyLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BundleDailyLimiterTest {
+
+    @Mock
+    private BundleRepository bundleRepository;
+
+    @Test
+    @DisplayName("✅ 하루 첫 생성 때만 COUNT 쿼리를 실행하고 이후에는 메모리 카운터로 제한한다")
+    void 메모리_카운터_제한_테스트() {
+        BundleDailyLimiter limiter = new BundleDailyLimiter(bundleRepository, true, 3);
+        when(bundleRepository.countByUserIdAndCreatedAtAfter(eq(1L), any())).thenReturn(1L);
+
+        limiter.acquire(1L);
+        limiter.acquire(1L);
+
+        assertThatThrownBy(() -> limiter.acquire(1L))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.BUNDLE_DAILY_LIMIT_EXCEEDED);
+        verify(bundleRepository, times(1)).countByUserIdAndCreatedAtAfter(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("✅ 비활성화 상태면 조회 없이 통과한다")
+    void 비활성화_테스트() {
+        BundleDailyLimiter limiter = new BundleDailyLimiter(bundleRepository, false, 3);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(1L);
+        }
+
+        verifyNoInteractions(bundleRepository);
+    }
+}
@@ -0,0 +1,211 @@
+package com.picktory.bundle.service;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.common.image.ImageKeyResolver;
+import com.picktory.config.auth.AuthenticationService;
+import com.picktory.config.datasource.RecentWriteTracker;
+import com.picktory.domain.bundle.cache.BundleViewCache;
+import com.picktory.domain.bundle.dto.BundleDraftPatchRequest;
+import com.picktory.domain.bundle.dto.BundleDraftPatchResponse;
+import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.enums.BundleStatus;
+import com.picktory.domain.bundle.enums.DesignType;
+import com.picktory.domain.bundle.enums.DraftOperationType;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.bundle.service.BundleDraftService;
+import com.picktory.domain.gift.entity.Gift;
+import com.picktory.domain.gift.entity.GiftImage;
+import com.picktory.domain.gift.repository.GiftImageRepository;
+import com.picktory.domain.gift.repository.GiftRepository;
+import com.picktory.domain.gift.service.GiftService;
+import com.picktory.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BundleDraftServiceTest {
+
+    @Mock
+    private BundleRepository bundleRepository;
+
+    @Mock
+    private GiftRepository giftRepository;
+
+    @Mock
+    private GiftImageRepository giftImageRepository;
+
+    @Mock
+    private AuthenticationService authenticationService;
+
+    @Mock
+    private RecentWriteTracker recentWriteTracker;
+
+    @Spy
+    private ImageKeyResolver imageKeyResolver = new ImageKeyResolver("");
+
+    // 선물 / 이미지 수 검증만 사용 (저장소는 쓰지 않는다)
+    @Spy
+    private GiftService giftService = new GiftService(mock(GiftRepository.class), mock(GiftImageRepository.class),
+            new ImageKeyResolver(""));
+
+    @Mock
+    private BundleViewCache bundleViewCache;
+
+    @InjectMocks
+    private BundleDraftService bundleDraftService;
+
+    private User user;
+    private Bundle bundle;
+    private Gift perfume;
+    private Gift chocolate;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().kakaoId(1L).nickname("tester").build();
+        ReflectionTestUtils.setField(user, "id", 10L);
+
+        bundle = Bundle.builder()
+                .id(1L)
+                .user(user)
+                .name("자동 저장 보따리")
+                .designType(DesignType.RED)
+                .status(BundleStatus.DRAFT)
+                .version(3L)
+                .draftSequence(5L)
+                .build();
+        perfume = Gift.builder().id(100L).bundleId(1L).name("향수").build();
+        chocolate = Gift.builder().id(200L).bundleId(1L).name("초콜릿").build();
+
+        when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(bundleRepository.findById(1L)).thenReturn(Optional.of(bundle));
+    }
+
+    @Test
+    @DisplayName("✅ 이미 반영된 순번이면 아무것도 바꾸지 않고 applied=false를 반환한다")
+    void 오래된_순번_무시_테스트() {
+        BundleDraftPatchRequest request = request(5L, 1L, updateGift(100L, "바뀐 향수"));
+
+        BundleDraftPatchResponse response = bundleDraftService.patchDraft(1L, request);
+
+        assertThat(response.isApplied()).isFalse();
+        assertThat(response.getSequence()).isEqualTo(5L);
+        assertThat(perfume.getName()).isEqualTo("향수");
+        verifyNoInteractions(giftRepository, giftImageRepository);
+        verify(recentWriteTracker, never()).recordWrite(any());
+    }
+
+    @Test
+    @DisplayName("✅ 선물 추가와 대표 이미지 삭제를 변경분만으로 반영한다")
+    void 변경분_반영_테스트() {
+        GiftImage primary = GiftImage.createGiftImage(perfume, "perfume1.jpg", true);
+        GiftImage second = GiftImage.createGiftImage(perfume, "perfume2.jpg", false);
+        when(giftRepository.findAllByBundleId(1L)).thenReturn(List.of(perfume, chocolate));
+        when(giftImageRepository.findAllByGift_Id(100L)).thenReturn(List.of(primary, second));
+        when(giftRepository.save(any(Gift.class))).thenAnswer(invocation -> {
+            Gift gift = invocation.getArgument(0);
+            ReflectionTestUtils.setField(gift, "id", 300L);
+            return gift;
+        });
+        when(giftImageRepository.save(any(GiftImage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BundleDraftPatchRequest.Operation addGift = operation(DraftOperationType.ADD_GIFT);
+        addGift.setTempId("tmp-1");
+        addGift.setName("꽃다발");
+        addGift.setImageUrls(List.of("flower1.jpg"));
+        BundleDraftPatchRequest.Operation removeImage = operation(DraftOperationType.REMOVE_IMAGE);
+        removeImage.setGiftId(100L);
+        removeImage.setImageUrls(List.of("perfume1.jpg"));
+
+        BundleDraftPatchResponse response = bundleDraftService.patchDraft(1L, request(6L, 3L, addGift, removeImage));
+
+        assertThat(response.isApplied()).isTrue();
+        assertThat(response.getSequence()).isEqualTo(6L);
+        assertThat(response.getCreatedGiftIds()).containsEntry("tmp-1", 300L);
+        assertThat(second.getIsPrimary()).isTrue();
+        assertThat(bundle.getStatistics().getGiftCount()).isEqualTo(3);
+        verify(giftImageRepository).delete(primary);
+        verify(giftImageRepository, never()).findAllByGift_Id(200L);
+        verify(recentWriteTracker).recordWrite(10L);
+    }
+
+    @Test
+    @DisplayName("✅ 선물 삭제는 선물과 이미지를 조회 없이 테이블당 DELETE 한 번으로 지운다")
+    void 선물_삭제_테스트() {
+        Gift flower = Gift.builder().id(300L).bundleId(1L).name("꽃다발").build();
+        when(giftRepository.findAllByBundleId(1L)).thenReturn(List.of(perfume, chocolate, flower));
+
+        BundleDraftPatchRequest.Operation removeGift = operation(DraftOperationType.REMOVE_GIFT);
+        removeGift.setGiftId(300L);
+
+        BundleDraftPatchResponse response = bundleDraftService.patchDraft(1L, request(6L, null, removeGift));
+
+        assertThat(response.isApplied()).isTrue();
+        assertThat(bundle.getStatistics().getGiftCount()).isEqualTo(2);
+        verify(giftRepository).deleteAllWithImagesByIdIn(List.of(300L));
+        verify(giftRepository, never()).delete(any(Gift.class));
+        verifyNoInteractions(giftImageRepository);
+    }
+
+    @Test
+    @DisplayName("❌ 선물이 2개 미만이 되는 변경은 실패한다")
+    void 최소_선물_개수_검증_테스트() {
+        when(giftRepository.findAllByBundleId(1L)).thenReturn(List.of(perfume, chocolate));
+
+        BundleDraftPatchRequest.Operation removeGift = operation(DraftOperationType.REMOVE_GIFT);
+        removeGift.setGiftId(200L);
+
+        assertThatThrownBy(() -> bundleDraftService.patchDraft(1L, request(6L, null, removeGift)))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.BUNDLE_MINIMUM_GIFTS_REQUIRED);
+    }
+
+    @Test
+    @DisplayName("❌ 클라이언트 버전이 다르면 409로 실패한다")
+    void 버전_충돌_테스트() {
+        assertThatThrownBy(() -> bundleDraftService.patchDraft(1L, request(6L, 2L, updateGift(100L, "바뀐 향수"))))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.BUNDLE_VERSION_CONFLICT);
+        verifyNoInteractions(giftRepository);
+    }
+
+    private BundleDraftPatchRequest request(Long sequence, Long version, BundleDraftPatchRequest.Operation... operations) {
+        BundleDraftPatchRequest request = new BundleDraftPatchRequest();
+        request.setSequence(sequence);
+        request.setVersion(version);
+        request.setOperations(List.of(operations));
+        return request;
+    }
+
+    private BundleDraftPatchRequest.Operation updateGift(Long giftId, String name) {
+        BundleDraftPatchRequest.Operation operation = operation(DraftOperationType.UPDATE_GIFT);
+        operation.setGiftId(giftId);
+        operation.setName(name);
+        return operation;
+    }
+
+    private BundleDraftPatchRequest.Operation operation(DraftOperationType type) {
+        BundleDraftPatchRequest.Operation operation = new BundleDraftPatchRequest.Operation();
+        operation.setType(type);
+        return operation;
+    }
+}
@@ -0,0 +1,93 @@
+package com.picktory.bundle.service;
+
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.bundle.service.BundleReadMarkBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BundleReadMarkBufferTest {
+
+    @Mock
+    private BundleRepository bundleRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BundleReadMarkBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new BundleReadMarkBuffer(bundleRepository, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(buffer, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("✅ 같은 보따리의 읽음 표시는 한 번만 쌓인다")
+    void 읽음_표시_병합_테스트() {
+        buffer.mark(1L);
+        buffer.mark(1L);
+        buffer.mark(2L);
+
+        assertThat(buffer.getPendingCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("picktory.bundle.read-marks.pending").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("✅ flush 시 배치 크기 단위로 일괄 반영한다")
+    @SuppressWarnings("unchecked")
+    void 읽음_표시_일괄_반영_테스트() {
+        when(bundleRepository.markAsReadByIdIn(anyCollection(), any(LocalDateTime.class))).thenReturn(1);
+        buffer.mark(1L);
+        buffer.mark(2L);
+        buffer.mark(3L);
+
+        buffer.flush();
+
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(bundleRepository, times(2)).markAsReadByIdIn(captor.capture(), any(LocalDateTime.class));
+        assertThat(captor.getAllValues()).flatExtracting(ids -> ids).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(buffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("❌ 반영에 실패하면 다음 flush를 위해 다시 쌓아 둔다")
+    void 읽음_표시_반영_실패_테스트() {
+        when(bundleRepository.markAsReadByIdIn(anyCollection(), any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("db down"));
+        buffer.mark(1L);
+
+        buffer.flush();
+
+        assertThat(buffer.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 쌓인 읽음 표시가 없으면 쿼리를 실행하지 않는다")
+    void 빈_버퍼_flush_테스트() {
+        buffer.flush();
+
+        verify(bundleRepository, never()).markAsReadByIdIn(anyCollection(), any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,200 @@
+package com.picktory.bundle.service;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.config.auth.AuthenticationService;
+import com.picktory.config.datasource.RecentWriteTracker;
+import com.picktory.domain.bundle.cache.BundleViewCache;
+import com.picktory.domain.bundle.dto.ArchivedBundle;
+import com.picktory.domain.bundle.dto.BundleListFreshness;
+import com.picktory.domain.bundle.dto.BundleListResponse;
+import com.picktory.domain.bundle.dto.BundleMainListResponse;
+import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.entity.BundleStatistics;
+import com.picktory.domain.bundle.enums.BundleStatus;
+import com.picktory.domain.bundle.enums.DesignType;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.bundle.service.BundleArchiveService;
+import com.picktory.domain.bundle.service.BundleService;
+import com.picktory.domain.gift.service.GiftService;
+import com.picktory.domain.response.service.LinkPageSnapshotService;
+import com.picktory.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 원본 테이블에 없는 보관된 보따리를 목록 / 삭제에서 원본과 똑같이 다루는지 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BundleServiceArchiveFallbackTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Mock
+    private BundleRepository bundleRepository;
+
+    @Mock
+    private AuthenticationService authenticationService;
+
+    @Mock
+    private GiftService giftService;
+
+    @Mock
+    private RecentWriteTracker recentWriteTracker;
+
+    @Mock
+    private LinkPageSnapshotService linkPageSnapshotService;
+
+    @Mock
+    private BundleViewCache bundleViewCache;
+
+    @Mock
+    private BundleArchiveService bundleArchiveService;
+
+    @InjectMocks
+    private BundleService bundleService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().kakaoId(1L).nickname("tester").build();
+        ReflectionTestUtils.setField(user, "id", 10L);
+    }
+
+    @Test
+    @DisplayName("✅ 보따리 목록에 보관된 보따리를 최신 업데이트순으로 합쳐 보여준다")
+    void 보관된_보따리_목록_병합_테스트() {
+        when(bundleRepository.findByUserIdOrderByUpdatedAtDesc(10L))
+                .thenReturn(List.of(bundle(2L, NOW), bundle(3L, NOW.minusYears(2))));
+        when(bundleArchiveService.getArchivedBundles(10L))
+                .thenReturn(List.of(archivedBundle(1L, 10L, NOW.minusYears(1))));
+
+        List<BundleListResponse> bundles = bundleService.getMyBundles(user);
+
+        assertThat(bundles).extracting(BundleListResponse::getId).containsExactly(2L, 1L, 3L);
+        assertThat(bundles.get(1).getStatus()).isEqualTo(BundleStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("✅ 메인 목록은 원본이 8개보다 적을 때만 보관된 보따리로 채운다")
+    void 메인_목록_보관된_보따리_채움_테스트() {
+        when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(bundleRepository.findTop8ByUser_IdOrderByUpdatedAtDesc(10L)).thenReturn(List.of(bundle(2L, NOW)));
+        when(bundleArchiveService.getLatestArchivedBundles(10L, 8))
+                .thenReturn(List.of(archivedBundle(1L, 10L, NOW.minusYears(1))));
+
+        List<BundleMainListResponse> bundles = bundleService.getUserMainBundles();
+
+        assertThat(bundles).extracting(BundleMainListResponse::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("✅ 메인 목록 검증값(ETag)은 보관된 보따리를 포함하고, 보관된 보따리를 삭제하면 바뀐다")
+    void 메인_목록_검증값_보관_포함_테스트() {
+        when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(bundleRepository.findListFreshnessByUserId(10L)).thenReturn(BundleListFreshness.of(1L, NOW));
+        when(bundleArchiveService.getArchivedListFreshness(10L))
+                .thenReturn(BundleListFreshness.of(2L, NOW.minusYears(1)))
+                .thenReturn(BundleListFreshness.of(1L, NOW.minusYears(1)));
+
+        BundleListFreshness before = bundleService.getMainBundlesFreshness();
+        BundleListFreshness after = bundleService.getMainBundlesFreshness();
+
+        assertThat(before.getBundleCount()).isEqualTo(3L);
+        assertThat(before.getLastUpdatedAt()).isEqualTo(NOW);
+        assertThat(after.getETag()).isNotEqualTo(before.getETag());
+    }
+
+    @Test
+    @DisplayName("✅ 원본 보따리가 모두 보관되어도 보관된 보따리의 최종 수정 시각을 쓴다")
+    void 메인_목록_검증값_보관만_있음_테스트() {
+        when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(bundleRepository.findListFreshnessByUserId(10L)).thenReturn(BundleListFreshness.of(0L, null));
+        when(bundleArchiveService.getArchivedListFreshness(10L)).thenReturn(BundleListFreshness.of(2L, NOW.minusYears(1)));
+
+        BundleListFreshness freshness = bundleService.getMainBundlesFreshness();
+
+        assertThat(freshness.getBundleCount()).isEqualTo(2L);
+        assertThat(freshness.getLastUpdatedAt()).isEqualTo(NOW.minusYears(1));
+    }
+
+    @Test
+    @DisplayName("✅ 목록에 보이는 보관된 보따리도 삭제할 수 있다")
+    void 보관된_보따리_삭제_테스트() {
+        when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(bundleRepository.findById(1L)).thenReturn(Optional.empty());
+
+        bundleService.deleteBundle(1L);
+
+        verify(bundleArchiveService).deleteArchivedBundle(1L, 10L);
+        verify(recentWriteTracker).recordWrite(10L);
+        verify(giftService, never()).deleteAllGiftsAndImagesByBundleId(anyLong());
+        verify(bundleRepository, never()).delete(any(Bundle.class));
+    }
+
+    @Test
+    @DisplayName("❌ 다른 사용자의 보관된 보따리는 삭제할 수 없다")
+    void 보관된_보따리_삭제_권한_테스트() {
+        when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(bundleRepository.findById(1L)).thenReturn(Optional.empty());
+        doThrow(new BaseException(BaseResponseStatus.FORBIDDEN))
+                .when(bundleArchiveService).deleteArchivedBundle(1L, 10L);
+
+        assertThatThrownBy(() -> bundleService.deleteBundle(1L))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.FORBIDDEN);
+        verify(recentWriteTracker, never()).recordWrite(anyLong());
+    }
+
+    @Test
+    @DisplayName("❌ 원본 보따리는 여전히 주인만 삭제할 수 있고, 보관 테이블은 보지 않는다")
+    void 원본_보따리_삭제_권한_테스트() {
+        User other = User.builder().kakaoId(2L).nickname("other").build();
+        ReflectionTestUtils.setField(other, "id", 99L);
+        when(authenticationService.getAuthenticatedUser()).thenReturn(other);
+        when(bundleRepository.findById(2L)).thenReturn(Optional.of(bundle(2L, NOW)));
+
+        assertThatThrownBy(() -> bundleService.deleteBundle(2L))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.FORBIDDEN);
+        verify(bundleArchiveService, never()).deleteArchivedBundle(anyLong(), anyLong());
+    }
+
+    private Bundle bundle(Long id, LocalDateTime updatedAt) {
+        Bundle bundle = Bundle.builder()
+                .id(id)
+                .user(user)
+                .name("보따리 " + id)
+                .designType(DesignType.RED)
+                .status(BundleStatus.PUBLISHED)
+                .isRead(false)
+                .statistics(BundleStatistics.ofGiftCount(2))
+                .build();
+        ReflectionTestUtils.setField(bundle, "updatedAt", updatedAt);
+        return bundle;
+    }
+
+    private ArchivedBundle archivedBundle(Long bundleId, Long userId, LocalDateTime updatedAt) {
+        return new ArchivedBundle(bundleId, userId, "보관 보따리", DesignType.RED, 2, 2, updatedAt);
+    }
+}
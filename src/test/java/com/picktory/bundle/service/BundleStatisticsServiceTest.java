@@ -0,0 +1,138 @@
+package com.picktory.bundle.service;
+
+import com.picktory.domain.bundle.cache.BundleViewCache;
+import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.entity.BundleStatistics;
+import com.picktory.domain.bundle.enums.DesignType;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.bundle.service.BundleStatisticsService;
+import com.picktory.domain.gift.entity.Gift;
+import com.picktory.domain.gift.enums.GiftResponseTag;
+import com.picktory.domain.gift.repository.GiftRepository;
+import com.picktory.domain.user.entity.User;
+import com.picktory.domain.user.repository.UserRepository;
+import com.picktory.support.annotation.H2JpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 통계 캐시 컬럼이 gifts 테이블과 어긋난 보따리만 복구되고,
+ * 복구된 보따리는 버전만 올라가 캐시와 ETag가 갱신되고, 목록 정렬 기준인 updatedAt은 그대로인지 검증한다.
+ */
+@H2JpaTest
+class BundleStatisticsServiceTest {
+
+    @Autowired
+    private BundleRepository bundleRepository;
+
+    @Autowired
+    private GiftRepository giftRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private BundleViewCache bundleViewCache;
+    private BundleStatisticsService bundleStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        bundleViewCache = mock(BundleViewCache.class);
+        bundleStatisticsService = new BundleStatisticsService(bundleRepository, giftRepository, bundleViewCache);
+    }
+
+    @Test
+    @DisplayName("✅ 어긋난 통계만 선물 기준으로 다시 계산하고, 버전만 올리고 뷰 캐시를 비운다")
+    void 통계_복구_테스트() {
+        User user = userRepository.save(User.builder().kakaoId(System.nanoTime()).nickname("repair").build());
+
+        // 선물 3개 중 2개에 답변이 있지만 통계 컬럼은 비어 있는 보따리
+        Bundle drifted = saveBundle(user, BundleStatistics.empty());
+        saveGift(drifted, GiftResponseTag.GREAT);
+        saveGift(drifted, GiftResponseTag.GOOD);
+        saveGift(drifted, null);
+
+        // 통계 컬럼이 선물과 일치하는 보따리
+        Bundle accurate = saveBundle(user, BundleStatistics.ofGiftCount(1));
+        saveGift(accurate, null);
+
+        entityManager.flush();
+        entityManager.clear();
+        Bundle beforeRepair = bundleRepository.findById(drifted.getId()).orElseThrow();
+        Long driftedVersion = beforeRepair.getVersion();
+        LocalDateTime driftedUpdatedAt = beforeRepair.getUpdatedAt();
+        Long accurateVersion = bundleRepository.findById(accurate.getId()).orElseThrow().getVersion();
+        entityManager.clear();
+
+        Long lastId = bundleStatisticsService.repairBatch(0L, 10);
+
+        assertThat(lastId).isEqualTo(Math.max(drifted.getId(), accurate.getId()));
+        entityManager.clear();
+
+        Bundle repaired = bundleRepository.findById(drifted.getId()).orElseThrow();
+        assertThat(repaired.getStatistics()).isEqualTo(BundleStatistics.of(3, 2,
+                Map.of(GiftResponseTag.GREAT, 1, GiftResponseTag.GOOD, 1)));
+        assertThat(repaired.getVersion()).isEqualTo(driftedVersion + 1);
+        assertThat(repaired.getUpdatedAt()).isEqualTo(driftedUpdatedAt);
+
+        Bundle untouched = bundleRepository.findById(accurate.getId()).orElseThrow();
+        assertThat(untouched.getVersion()).isEqualTo(accurateVersion);
+
+        verify(bundleViewCache).evict(drifted.getId());
+        verify(bundleViewCache, times(1)).evict(anyLong());
+
+        // 더 처리할 보따리가 없으면 null
+        assertThat(bundleStatisticsService.repairBatch(lastId, 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ 조회한 뒤 버전이 바뀐 보따리는 덮어쓰지 않고 다음 실행으로 넘긴다")
+    void 버전_변경_건너뜀_테스트() {
+        User user = userRepository.save(User.builder().kakaoId(System.nanoTime()).nickname("repair").build());
+        Bundle drifted = saveBundle(user, BundleStatistics.empty());
+        saveGift(drifted, GiftResponseTag.GREAT);
+        entityManager.flush();
+        entityManager.clear();
+        Long version = bundleRepository.findById(drifted.getId()).orElseThrow().getVersion();
+        entityManager.clear();
+
+        // 집계하는 사이 다른 경로가 보따리를 바꾼 상황
+        assertThat(bundleRepository.updateStatistics(drifted.getId(), BundleStatistics.ofGiftCount(1), version + 1)).isZero();
+        assertThat(bundleRepository.updateStatistics(drifted.getId(), BundleStatistics.ofGiftCount(1), version)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(bundleRepository.findById(drifted.getId()).orElseThrow().getVersion()).isEqualTo(version + 1);
+    }
+
+    private Bundle saveBundle(User user, BundleStatistics statistics) {
+        return bundleRepository.save(Bundle.builder()
+                .user(user)
+                .name("통계 복구 보따리")
+                .designType(DesignType.RED)
+                .statistics(statistics)
+                .build());
+    }
+
+    private void saveGift(Bundle bundle, GiftResponseTag responseTag) {
+        giftRepository.save(Gift.builder()
+                .bundleId(bundle.getId())
+                .name("선물")
+                .responseTag(responseTag)
+                .isResponsed(responseTag != null)
+                .build());
+    }
+}
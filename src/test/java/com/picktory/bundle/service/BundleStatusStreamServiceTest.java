@@ -0,0 +1,115 @@
+package com.picktory.bundle.service;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.domain.bundle.dto.BundleStatusMessage;
+import com.picktory.domain.bundle.enums.BundleStatus;
+import com.picktory.domain.bundle.service.BundleStatusStreamService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BundleStatusStreamServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BundleStatusStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        streamService = new BundleStatusStreamService(3, 2, Duration.ofMinutes(30), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("❌ 전체 연결 수를 넘으면 503으로 거절한다")
+    void 전체_연결_수_제한_테스트() {
+        streamService.subscribe(1L);
+        streamService.subscribe(2L);
+        streamService.subscribe(3L);
+
+        assertThatThrownBy(() -> streamService.subscribe(4L))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.STREAM_CONNECTION_LIMIT_EXCEEDED);
+        assertThat(streamService.getConnectionCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("✅ 사용자별 연결 수를 넘으면 가장 오래된 연결을 닫는다")
+    void 사용자별_연결_수_제한_테스트() {
+        streamService.subscribe(1L);
+        streamService.subscribe(1L);
+        streamService.subscribe(1L);
+
+        assertThat(streamService.getConnectionCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("picktory.bundle.stream.connections").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("✅ 전송에 실패한 연결은 정리한다")
+    void 끊긴_연결_정리_테스트() {
+        SseEmitter emitter = streamService.subscribe(1L);
+        emitter.complete();
+
+        streamService.publish(1L, BundleStatusMessage.of(10L, BundleStatus.COMPLETED));
+
+        assertThat(streamService.getConnectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 연결과 끊김이 동시에 일어나도 연결을 잃어버리거나 사용자별 한도를 넘기지 않는다")
+    void 동시_연결_끊김_테스트() throws Exception {
+        BundleStatusStreamService service = new BundleStatusStreamService(100_000, 2, Duration.ofMinutes(30), meterRegistry);
+        BundleStatusMessage message = BundleStatusMessage.of(10L, BundleStatus.COMPLETED);
+
+        // 연결 직후 끊긴 연결이 정리되면서 목록이 비는 것과 새 연결 추가가 계속 겹치게 한다
+        runConcurrently(8, () -> {
+            for (int i = 0; i < 1_000; i++) {
+                service.subscribe(1L).complete();
+                service.publish(1L, message);
+            }
+        });
+        service.publish(1L, message);
+        assertThat(service.getConnectionCount()).isZero();
+
+        runConcurrently(8, () -> {
+            for (int i = 0; i < 100; i++) {
+                service.subscribe(2L);
+            }
+        });
+        assertThat(service.getConnectionCount()).isEqualTo(2);
+    }
+
+    private void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
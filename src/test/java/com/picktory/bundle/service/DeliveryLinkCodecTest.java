@@ -0,0 +1,55 @@
+package com.picktory.bundle.service;
+
+import com.picktory.domain.bundle.service.DeliveryLinkCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeliveryLinkCodecTest {
+
+    private final DeliveryLinkCodec codec = new DeliveryLinkCodec();
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 61L, 62L, 123_456_789L, 9_007_199_254_740_991L})
+    @DisplayName("✅ 생성한 링크는 18자 고정이며 보따리 ID로 복원된다")
+    void 링크_생성_복원_테스트(long bundleId) {
+        String link = codec.generate(bundleId);
+
+        assertThat(link).hasSize(DeliveryLinkCodec.LINK_LENGTH).matches("[0-9A-Za-z]+");
+        assertThat(codec.decodeBundleId(link)).contains(bundleId);
+    }
+
+    @Test
+    @DisplayName("✅ 같은 보따리라도 매번 다른 링크가 생성된다")
+    void 링크_난수_테스트() {
+        Set<String> links = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            links.add(codec.generate(1L));
+        }
+
+        assertThat(links).hasSize(1_000);
+    }
+
+    @Test
+    @DisplayName("✅ 이전 UUID 형식 링크는 ID로 복원하지 않는다")
+    void UUID_링크_테스트() {
+        assertThat(codec.decodeBundleId(UUID.randomUUID().toString())).isEmpty();
+        assertThat(codec.decodeBundleId(null)).isEmpty();
+        assertThat(codec.decodeBundleId("00000000a-00000000")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("❌ 인코딩 범위를 벗어난 ID는 링크를 만들 수 없다")
+    void 범위_초과_ID_테스트() {
+        assertThatThrownBy(() -> codec.generate(-1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.generate(Long.MAX_VALUE)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
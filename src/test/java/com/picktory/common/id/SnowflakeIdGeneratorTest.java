@@ -0,0 +1,126 @@
+package com.picktory.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long JS_MAX_SAFE_INTEGER = (1L << 53) - 1;
+    private static final long NOW = SnowflakeIdGenerator.EPOCH + 1_000_000L;
+
+    @Test
+    @DisplayName("✅ ID는 증가하며 JavaScript 안전 정수 범위 안에 있다")
+    void ID_증가_테스트() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, System::currentTimeMillis);
+
+        long previous = -1L;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous).isLessThanOrEqualTo(JS_MAX_SAFE_INTEGER);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 최대 시각에도 53비트를 넘지 않는다")
+    void 최대_시각_테스트() {
+        long lastMillis = SnowflakeIdGenerator.EPOCH + SnowflakeIdGenerator.MAX_ELAPSED;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator((int) SnowflakeIdGenerator.MAX_NODE_ID, () -> lastMillis);
+
+        assertThat(generator.nextId()).isLessThanOrEqualTo(JS_MAX_SAFE_INTEGER);
+    }
+
+    @Test
+    @DisplayName("✅ 여러 스레드에서 동시에 발급해도 중복이 없다")
+    void 동시_발급_테스트() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(ids).hasSize(8 * 5_000);
+    }
+
+    @Test
+    @DisplayName("✅ ms당 시퀀스를 모두 쓰면 다음 ms까지 기다린다")
+    void 시퀀스_소진_테스트() {
+        AtomicLong calls = new AtomicLong();
+        // 처음 129번 호출까지는 같은 ms, 이후 다음 ms
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0,
+                () -> calls.incrementAndGet() <= SnowflakeIdGenerator.MAX_SEQUENCE + 2 ? NOW : NOW + 1);
+
+        long previous = -1L;
+        for (int i = 0; i <= SnowflakeIdGenerator.MAX_SEQUENCE + 1; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 시계가 조금 뒤로 가면 따라잡을 때까지 기다린다")
+    void 시계_소폭_역행_테스트() {
+        long[] clock = {NOW, NOW - 2, NOW - 1, NOW, NOW + 1};
+        AtomicLong index = new AtomicLong();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0,
+                () -> clock[(int) Math.min(index.getAndIncrement(), clock.length - 1)]);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("❌ 시계가 크게 뒤로 가면 발급을 거부한다")
+    void 시계_역행_테스트() {
+        long[] clock = {NOW, NOW - SnowflakeIdGenerator.MAX_BACKWARD_DRIFT_MS - 1};
+        AtomicLong index = new AtomicLong();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, () -> clock[(int) index.getAndIncrement()]);
+
+        generator.nextId();
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("✅ 시각 기준 최소 ID는 그 시각 이후 발급된 모든 노드의 ID보다 작거나 같다")
+    void 시각_기준_최소_ID_테스트() {
+        long lowerBound = SnowflakeIdGenerator.minIdAt(NOW);
+
+        assertThat(new SnowflakeIdGenerator(0, () -> NOW).nextId()).isGreaterThanOrEqualTo(lowerBound);
+        assertThat(new SnowflakeIdGenerator(31, () -> NOW - 1).nextId()).isLessThan(lowerBound);
+        assertThat(SnowflakeIdGenerator.minIdAt(0L)).isZero();
+    }
+
+    @Test
+    @DisplayName("❌ 범위를 벗어난 노드 ID는 사용할 수 없다")
+    void 노드_ID_범위_테스트() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(32, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,29 @@
+package com.picktory.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdentifierGeneratorTest {
+
+    @Test
+    @DisplayName("✅ 지정한 노드 ID를 그대로 사용한다")
+    void 노드_ID_설정_테스트() {
+        assertThat(SnowflakeIdentifierGenerator.parseNodeId(" 7 ")).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("❌ 노드 ID를 지정하지 않으면 기본값 없이 기동을 실패시킨다")
+    void 노드_ID_미지정_테스트() {
+        assertThatThrownBy(() -> SnowflakeIdentifierGenerator.parseNodeId(null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SnowflakeIdentifierGenerator.parseNodeId(""))
+                .isInstanceOf(IllegalStateException.class);
+        // 환경 변수가 없어 치환되지 않은 placeholder
+        assertThatThrownBy(() -> SnowflakeIdentifierGenerator.parseNodeId("${PICKTORY_NODE_ID}"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("PICKTORY_NODE_ID");
+    }
+}
@@ -0,0 +1,96 @@
+package com.picktory.common.image;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
+import com.picktory.common.BaseResponse;
+import com.picktory.domain.response.dto.ResponseBundleDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageUrlSerializerTest {
+
+    private static final String BASE_URL = "https://d1a2b3c4d5e6f7.cloudfront.net/";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    ImageUrlSerializerTest() {
+        objectMapper.setDefaultAttributes(
+                ContextAttributes.getEmpty().withSharedAttribute(ImageUrlSerializer.BASE_URL_ATTRIBUTE, BASE_URL));
+    }
+
+    @Test
+    @DisplayName("✅ RELATIVE 모드는 기준 URL을 떼고, ABSOLUTE 모드는 객체 키에 기준 URL을 붙인다")
+    void URL_변환_테스트() {
+        String url = BASE_URL + "gifts/users/1/a.jpg";
+
+        assertThat(ImageUrlSerializer.render(url, BASE_URL, ImageUrlMode.RELATIVE)).isEqualTo("gifts/users/1/a.jpg");
+        assertThat(ImageUrlSerializer.render(url, BASE_URL, ImageUrlMode.ABSOLUTE)).isEqualTo(url);
+        assertThat(ImageUrlSerializer.render("gifts/users/1/a.jpg", BASE_URL, ImageUrlMode.ABSOLUTE)).isEqualTo(url);
+        assertThat(ImageUrlSerializer.render("https://other.cdn/a.jpg", BASE_URL, ImageUrlMode.RELATIVE))
+                .isEqualTo("https://other.cdn/a.jpg");
+        assertThat(ImageUrlSerializer.render(url, null, ImageUrlMode.RELATIVE)).isEqualTo(url);
+    }
+
+    @Test
+    @DisplayName("✅ 선물 6개 / 이미지 18장 링크 페이지의 전송 크기 비교 (전체 URL vs 객체 키, 원본 vs gzip)")
+    void 전송_크기_측정_테스트() throws IOException {
+        BaseResponse<ResponseBundleDto> linkPage = new BaseResponse<>(linkPage());
+
+        byte[] absolute = objectMapper.writer()
+                .withAttribute(ImageUrlSerializer.MODE_ATTRIBUTE, ImageUrlMode.ABSOLUTE)
+                .writeValueAsBytes(linkPage);
+        byte[] relative = objectMapper.writer()
+                .withAttribute(ImageUrlSerializer.MODE_ATTRIBUTE, ImageUrlMode.RELATIVE)
+                .writeValueAsBytes(linkPage);
+
+        assertThat(new String(relative)).doesNotContain(BASE_URL);
+        assertThat(relative.length).isLessThan(absolute.length - 18 * (BASE_URL.length() - 1));
+        assertThat(gzip(absolute).length).isLessThan(absolute.length / 2);
+        // 반복되는 기준 URL은 gzip이 대부분 압축하지만, 객체 키 응답이 압축 후에도 더 작다
+        assertThat(gzip(relative).length).isLessThan(gzip(absolute).length);
+    }
+
+    private ResponseBundleDto linkPage() {
+        List<ResponseBundleDto.GiftInfo> gifts = IntStream.rangeClosed(1, 6)
+                .mapToObj(i -> {
+                    List<String> imageUrls = IntStream.rangeClosed(1, 3)
+                            .mapToObj(j -> BASE_URL + "gifts/users/1/" + i + "-" + j + "-3f2a9c1e-8b7d-4e6a-9f0c-1d2e3f4a5b6c.jpg")
+                            .toList();
+                    return ResponseBundleDto.GiftInfo.builder()
+                            .id(1_000_000L + i)
+                            .name("선물 " + i)
+                            .message("생일 축하해! 마음에 들었으면 좋겠다 " + i)
+                            .imageUrls(imageUrls)
+                            .thumbnail(imageUrls.get(0))
+                            .build();
+                })
+                .toList();
+
+        return ResponseBundleDto.builder()
+                .bundle(ResponseBundleDto.BundleInfo.builder()
+                        .id(1L)
+                        .delivery_character_type("CHARACTER_1")
+                        .design_type("RED")
+                        .status("PUBLISHED")
+                        .gifts(gifts)
+                        .total_gifts(gifts.size())
+                        .build())
+                .build();
+    }
+
+    private byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,73 @@
+package com.picktory.common.lock;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 적용한 H2(MySQL 모드)에서 배치 실행 권한 임대를 검증한다.
+ */
+class SchedulerLockTest {
+
+    private static final String NAME = "job";
+
+    private JdbcTemplate jdbcTemplate;
+    private SchedulerLock instanceA;
+    private SchedulerLock instanceB;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:scheduler-lock-" + System.nanoTime()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        instanceA = new SchedulerLock(jdbcTemplate, "instance-a");
+        instanceB = new SchedulerLock(jdbcTemplate, "instance-b");
+    }
+
+    @Test
+    @DisplayName("✅ 임대 중에는 다른 인스턴스가 얻지 못하고, 반납하면 얻을 수 있다")
+    void 임대_반납_테스트() {
+        assertThat(instanceA.tryAcquire(NAME, Duration.ofMinutes(10))).isTrue();
+        assertThat(instanceB.tryAcquire(NAME, Duration.ofMinutes(10))).isFalse();
+
+        // 가진 인스턴스는 다시 요청해 연장할 수 있다
+        assertThat(instanceA.tryAcquire(NAME, Duration.ofMinutes(10))).isTrue();
+
+        // 다른 인스턴스의 반납 요청은 무시된다
+        instanceB.release(NAME);
+        assertThat(instanceB.tryAcquire(NAME, Duration.ofMinutes(10))).isFalse();
+
+        instanceA.release(NAME);
+        assertThat(instanceB.tryAcquire(NAME, Duration.ofMinutes(10))).isTrue();
+        assertThat(lockedBy()).isEqualTo("instance-b");
+    }
+
+    @Test
+    @DisplayName("✅ 임대 기간이 지나면 반납하지 못한 인스턴스 대신 다른 인스턴스가 가져간다")
+    void 임대_만료_테스트() {
+        assertThat(instanceA.tryAcquire(NAME, Duration.ofMinutes(10))).isTrue();
+        jdbcTemplate.update("UPDATE scheduler_locks SET locked_until = DATEADD('MINUTE', -1, CURRENT_TIMESTAMP) WHERE name = ?", NAME);
+
+        assertThat(instanceB.tryAcquire(NAME, Duration.ofMinutes(10))).isTrue();
+        assertThat(instanceA.tryAcquire(NAME, Duration.ofMinutes(10))).isFalse();
+        assertThat(lockedBy()).isEqualTo("instance-b");
+    }
+
+    private String lockedBy() {
+        return jdbcTemplate.queryForObject("SELECT locked_by FROM scheduler_locks WHERE name = ?", String.class, NAME);
+    }
+}
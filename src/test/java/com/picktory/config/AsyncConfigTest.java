@@ -0,0 +1,53 @@
+package com.picktory.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncConfigTest {
+
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("✅ 큐가 가득 차면 이벤트를 버리지 않고 발행한 스레드에서 실행한다")
+    void 큐_포화_시_호출_스레드_실행_테스트() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executor = new AsyncConfig().bundleEventExecutor(1, 1, 1, meterRegistry);
+        executor.initialize();
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch queuedDone = new CountDownLatch(1);
+        executor.execute(() -> await(release)); // 유일한 스레드를 점유
+        executor.execute(queuedDone::countDown); // 큐를 채움
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.get("picktory.bundle.events.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(queuedDone.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
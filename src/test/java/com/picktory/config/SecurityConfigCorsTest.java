@@ -0,0 +1,24 @@
+package com.picktory.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.cors.CorsConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigCorsTest {
+
+    @Test
+    @DisplayName("✅ 다른 출처의 브라우저도 429 응답의 Retry-After와 조건부 조회 헤더를 읽을 수 있다")
+    void 노출_헤더_테스트() {
+        SecurityConfig securityConfig = new SecurityConfig(null, null, null, null);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/responses/link/answers");
+
+        CorsConfiguration configuration = securityConfig.corsConfigurationSource().getCorsConfiguration(request);
+
+        assertThat(configuration.getExposedHeaders())
+                .contains(HttpHeaders.RETRY_AFTER, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED);
+    }
+}
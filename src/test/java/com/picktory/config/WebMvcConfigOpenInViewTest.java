@@ -0,0 +1,112 @@
+package com.picktory.config;
+
+import com.picktory.common.image.ImageUrlModeInterceptor;
+import com.picktory.config.ratelimit.RateLimitInterceptor;
+import com.picktory.domain.user.entity.User;
+import com.picktory.domain.user.repository.UserRepository;
+import com.picktory.support.annotation.H2JpaTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.springframework.web.servlet.handler.WebRequestHandlerInterceptorAdapter;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 커넥션 풀(2개)보다 많은 SSE 스트림을 연 뒤에도 다른 요청이 DB 커넥션을 얻는지,
+ * WebMvcConfig가 등록한 OSIV 인터셉터를 그대로 거쳐 검증한다.
+ */
+@H2JpaTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WebMvcConfigOpenInViewTest {
+
+    private static final int STREAMS = 5;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private MappedInterceptor openInView;
+
+    @BeforeEach
+    void setUp() {
+        TestInterceptorRegistry registry = new TestInterceptorRegistry();
+        new WebMvcConfig(mock(RateLimitInterceptor.class), mock(ImageUrlModeInterceptor.class), entityManagerFactory)
+                .addInterceptors(registry);
+        openInView = registry.openInView();
+    }
+
+    @Test
+    @DisplayName("✅ 열린 스트림이 커넥션 풀보다 많아도 다른 요청의 조회는 커넥션을 얻는다")
+    void 스트림_커넥션_미점유_테스트() throws Exception {
+        Long userId = userRepository.save(User.builder().kakaoId(System.nanoTime()).nickname("stream").build()).getId();
+
+        for (int i = 0; i < STREAMS; i++) {
+            openStream(userId);
+        }
+
+        // 스트림이 커넥션을 쥐고 있었다면 connection-timeout 뒤 커넥션을 얻지 못해 실패한다
+        assertThat(userRepository.findByIdAndIsDeletedFalse(userId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("✅ 스트림 외의 API 요청에는 OSIV가 그대로 적용된다")
+    void 스트림_외_OSIV_적용_테스트() {
+        assertThat(openInView.matches(request("/api/v1/bundles/1"))).isTrue();
+        assertThat(openInView.matches(request(WebMvcConfig.BUNDLE_STREAM_PATH))).isFalse();
+    }
+
+    /**
+     * BundleController.streamBundleStatus와 같은 순서: 인터셉터 -> 사용자 조회 -> 비동기 응답 시작 (완료되지 않은 채로 둔다)
+     */
+    private void openStream(Long userId) throws Exception {
+        MockHttpServletRequest request = request(WebMvcConfig.BUNDLE_STREAM_PATH);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Object handler = new Object();
+        boolean intercepted = openInView.matches(request);
+
+        if (intercepted) {
+            openInView.getInterceptor().preHandle(request, response, handler);
+        }
+        userRepository.findByIdAndIsDeletedFalse(userId).orElseThrow();
+        request.startAsync();
+        if (intercepted) {
+            ((WebRequestHandlerInterceptorAdapter) openInView.getInterceptor())
+                    .afterConcurrentHandlingStarted(request, response, handler);
+        }
+    }
+
+    private MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setAsyncSupported(true);
+        ServletRequestPathUtils.parseAndCache(request);
+        return request;
+    }
+
+    private static class TestInterceptorRegistry extends InterceptorRegistry {
+
+        MappedInterceptor openInView() {
+            return getInterceptors().stream()
+                    .filter(MappedInterceptor.class::isInstance)
+                    .map(MappedInterceptor.class::cast)
+                    .filter(interceptor -> interceptor.getInterceptor() instanceof WebRequestHandlerInterceptorAdapter)
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+}
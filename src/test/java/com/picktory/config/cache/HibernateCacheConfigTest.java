@@ -0,0 +1,61 @@
+package com.picktory.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.picktory.common.cache.CacheRegions;
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HibernateCacheConfigTest {
+
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.getCacheNames().forEach(cacheManager::destroyCache);
+    }
+
+    @Test
+    @DisplayName("✅ 사용자 / 쿼리 결과 영역만 짧은 만료 시간으로 만들고, 설정으로 덮어쓸 수 있다")
+    void 영역별_캐시_생성_테스트() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("picktory.hibernate-cache.regions." + CacheRegions.USER + ".max-size", "123")
+                .withProperty("picktory.hibernate-cache.regions." + CacheRegions.USER + ".ttl", "30s");
+
+        cacheManager = new HibernateCacheConfig().hibernateCacheManager(environment);
+
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder(
+                CacheRegions.USER,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+
+        CaffeineConfiguration<?, ?> user = configurationOf(CacheRegions.USER);
+        assertThat(user.getMaximumSize()).isEqualTo(OptionalLong.of(123));
+        assertThat(user.getExpireAfterWrite()).isEqualTo(OptionalLong.of(Duration.ofSeconds(30).toNanos()));
+        assertThat(configurationOf(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME).getExpireAfterWrite())
+                .isEqualTo(OptionalLong.of(Duration.ofMinutes(1).toNanos()));
+    }
+
+    @Test
+    @DisplayName("✅ 업데이트 타임스탬프 영역은 만료시키지 않는다")
+    void 타임스탬프_영역_만료_없음_테스트() {
+        cacheManager = new HibernateCacheConfig().hibernateCacheManager(new MockEnvironment());
+
+        CaffeineConfiguration<?, ?> timestamps =
+                configurationOf(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+        assertThat(timestamps.getExpireAfterWrite()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<?, ?> configurationOf(String region) {
+        return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+}
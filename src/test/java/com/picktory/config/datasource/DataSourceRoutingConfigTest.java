@@ -0,0 +1,36 @@
+package com.picktory.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * application.properties 기준으로 읽기/쓰기 분리를 켰을 때 풀 설정이 primary 풀에도 적용되는지 검증한다.
+ */
+class DataSourceRoutingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(new ConfigDataApplicationContextInitializer())
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(DataSourceRoutingConfig.class)
+            .withBean(RecentWriteTracker.class, () -> new RecentWriteTracker(Duration.ofSeconds(5)))
+            .withPropertyValues("picktory.datasource.routing.enabled=true");
+
+    @Test
+    @DisplayName("✅ 분리를 켜도 쓰기가 가는 primary 풀은 배치 INSERT 재작성을 유지한다")
+    void primary_배치_재작성_설정_테스트() {
+        contextRunner.run(context -> {
+            HikariDataSource primary = context.getBean("primaryDataSource", HikariDataSource.class);
+
+            assertThat(primary.getDataSourceProperties()).containsEntry("rewriteBatchedStatements", "true");
+        });
+    }
+}
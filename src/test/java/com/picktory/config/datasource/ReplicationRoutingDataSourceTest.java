@@ -0,0 +1,134 @@
+package com.picktory.config.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 DB를 primary / replica로 두고 라우팅 결과를 검증한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private static final String SELECT_MARKER = "SELECT name FROM datasource_marker";
+
+    private RecentWriteTracker recentWriteTracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = createMarkedDataSource("routing-primary", "primary");
+        DataSource replica = createMarkedDataSource("routing-replica", "replica");
+
+        recentWriteTracker = new RecentWriteTracker(Duration.ofSeconds(5));
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(recentWriteTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica
+        ));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("✅ 읽기 전용 트랜잭션은 replica로 라우팅된다")
+    void 읽기_전용_트랜잭션_라우팅_테스트() {
+        String marker = readOnlyTransaction.execute(status -> currentMarker());
+
+        assertThat(marker).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("✅ 쓰기 트랜잭션과 트랜잭션 밖의 조회는 primary로 라우팅된다")
+    void 쓰기_트랜잭션_라우팅_테스트() {
+        String marker = readWriteTransaction.execute(status -> currentMarker());
+
+        assertThat(marker).isEqualTo("primary");
+        assertThat(currentMarker()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("✅ 최근에 쓰기를 한 사용자는 읽기 전용 트랜잭션도 primary에서 조회한다")
+    void read_your_writes_테스트() {
+        authenticate(1L);
+        readWriteTransaction.executeWithoutResult(status -> recentWriteTracker.recordWrite(1L));
+
+        String marker = readOnlyTransaction.execute(status -> currentMarker());
+
+        assertThat(marker).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("✅ 다른 사용자의 쓰기는 라우팅에 영향을 주지 않는다")
+    void 다른_사용자_쓰기_라우팅_테스트() {
+        readWriteTransaction.executeWithoutResult(status -> recentWriteTracker.recordWrite(2L));
+        authenticate(1L);
+
+        String marker = readOnlyTransaction.execute(status -> currentMarker());
+
+        assertThat(marker).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("❌ 롤백된 쓰기는 기록되지 않는다")
+    void 롤백된_쓰기_테스트() {
+        authenticate(1L);
+        readWriteTransaction.executeWithoutResult(status -> {
+            recentWriteTracker.recordWrite(1L);
+            status.setRollbackOnly();
+        });
+
+        String marker = readOnlyTransaction.execute(status -> currentMarker());
+
+        assertThat(marker).isEqualTo("replica");
+    }
+
+    private String currentMarker() {
+        return jdbcTemplate.queryForObject(SELECT_MARKER, String.class);
+    }
+
+    private void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()));
+    }
+
+    private static DataSource createMarkedDataSource(String databaseName, String marker) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS datasource_marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM datasource_marker");
+        jdbcTemplate.update("INSERT INTO datasource_marker (name) VALUES (?)", marker);
+        return dataSource;
+    }
+}
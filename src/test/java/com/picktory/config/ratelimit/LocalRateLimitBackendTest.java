@@ -0,0 +1,99 @@
+package com.picktory.config.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimitBackendTest {
+
+    private static final RateLimitPolicy POLICY = RateLimitPolicy.LINK_ANSWER; // 5개 / 1분
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final LocalRateLimitBackend backend = new LocalRateLimitBackend(1_000, now::get);
+
+    @Test
+    @DisplayName("✅ 버킷 용량까지 허용하고, 초과하면 다음 토큰까지의 대기 시간을 반환한다")
+    void 용량_초과_거부_테스트() {
+        for (int i = 0; i < POLICY.getCapacity(); i++) {
+            assertThat(backend.tryAcquire("link:a", POLICY)).isZero();
+        }
+
+        long retryAfterMillis = backend.tryAcquire("link:a", POLICY);
+
+        assertThat(retryAfterMillis).isEqualTo(TimeUnit.SECONDS.toMillis(12));
+        assertThat(backend.tryAcquire("link:b", POLICY)).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 시간이 지나면 경과 시간만큼 토큰이 다시 채워진다")
+    void 토큰_충전_테스트() {
+        for (int i = 0; i < POLICY.getCapacity(); i++) {
+            backend.tryAcquire("link:a", POLICY);
+        }
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(13));
+
+        assertThat(backend.tryAcquire("link:a", POLICY)).isZero();
+        assertThat(backend.tryAcquire("link:a", POLICY)).isPositive();
+    }
+
+    @Test
+    @DisplayName("✅ 충전 주기 동안 쓰이지 않은 버킷만 만료되고 사용 중인 버킷은 유지한다")
+    void 유휴_버킷_정리_테스트() {
+        backend.tryAcquire("link:a", POLICY);
+        now.addAndGet(LocalRateLimitBackend.IDLE_EXPIRY.toNanos() + 1);
+        backend.tryAcquire("link:b", POLICY);
+
+        assertThat(backend.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 버킷 수는 maxKeys를 넘지 않는다")
+    void 최대_버킷_수_테스트() {
+        LocalRateLimitBackend bounded = new LocalRateLimitBackend(10, now::get);
+
+        for (int i = 0; i < 1_000; i++) {
+            bounded.tryAcquire("ip:" + i, POLICY);
+        }
+
+        assertThat(bounded.size()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("✅ 동시에 요청해도 용량보다 많이 허용하지 않는다")
+    void 동시_요청_테스트() throws InterruptedException {
+        int threadCount = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger allowed = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (backend.tryAcquire("link:a", POLICY) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(allowed.get()).isEqualTo(POLICY.getCapacity());
+    }
+}
@@ -0,0 +1,100 @@
+package com.picktory.config.ratelimit;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitInterceptorTest {
+
+    private static final String ALB_ADDRESS = "10.0.1.15";
+    private static final String CLOUDFRONT_ADDRESS = "130.176.0.1";
+
+    private RateLimitInterceptor interceptor;
+    private HandlerMethod answerHandler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        interceptor = new RateLimitInterceptor(new LocalRateLimitBackend(1_000, System::nanoTime), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(interceptor, "enabled", true);
+        ReflectionTestUtils.setField(interceptor, "trustedProxies", 2);
+        answerHandler = new HandlerMethod(new AnswerController(), AnswerController.class.getMethod("answer"));
+    }
+
+    @Test
+    @DisplayName("✅ 프록시 뒤에서는 X-Forwarded-For의 클라이언트 주소로 버킷을 나눈다")
+    void 전달된_클라이언트_IP_테스트() {
+        exhaust("link-a", "203.0.113.7");
+
+        assertThatThrownBy(() -> answer("link-a", "203.0.113.7"))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.TOO_MANY_REQUESTS);
+        // 같은 ALB를 거쳐 왔어도 다른 클라이언트는 따로 센다
+        assertThat(answer("link-a", "198.51.100.9")).isTrue();
+    }
+
+    @Test
+    @DisplayName("❌ 클라이언트가 X-Forwarded-For 앞쪽을 위조해도 다른 버킷을 얻지 못한다")
+    void 위조된_헤더_테스트() {
+        exhaust("link-a", "203.0.113.7");
+
+        MockHttpServletRequest spoofed = request("link-a", "1.2.3.4, 203.0.113.7, " + CLOUDFRONT_ADDRESS);
+
+        assertThat(interceptor.clientIp(spoofed)).isEqualTo("203.0.113.7");
+        assertThatThrownBy(() -> interceptor.preHandle(spoofed, new MockHttpServletResponse(), answerHandler))
+                .isInstanceOf(BaseException.class);
+    }
+
+    @Test
+    @DisplayName("✅ 답변 제출 한도는 링크와 클라이언트 조합마다 따로 적용된다")
+    void 링크_클라이언트_키_테스트() {
+        exhaust("link-a", "203.0.113.7");
+
+        assertThat(answer("link-b", "203.0.113.7")).isTrue();
+    }
+
+    @Test
+    @DisplayName("✅ 신뢰하는 프록시 수를 지정하지 않으면 헤더를 무시하고 접속 주소를 쓴다")
+    void 프록시_미지정_테스트() {
+        ReflectionTestUtils.setField(interceptor, "trustedProxies", 0);
+
+        assertThat(interceptor.clientIp(request("link-a", "203.0.113.7, " + CLOUDFRONT_ADDRESS))).isEqualTo(ALB_ADDRESS);
+    }
+
+    private void exhaust(String link, String clientIp) {
+        for (int i = 0; i < RateLimitPolicy.LINK_ANSWER.getCapacity(); i++) {
+            assertThat(answer(link, clientIp)).isTrue();
+        }
+    }
+
+    private boolean answer(String link, String clientIp) {
+        return interceptor.preHandle(request(link, clientIp + ", " + CLOUDFRONT_ADDRESS), new MockHttpServletResponse(), answerHandler);
+    }
+
+    private MockHttpServletRequest request(String link, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/responses/" + link + "/answers");
+        request.setRemoteAddr(ALB_ADDRESS);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("link", link));
+        return request;
+    }
+
+    static class AnswerController {
+
+        @RateLimited(RateLimitPolicy.LINK_ANSWER)
+        public void answer() {
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.picktory.gift.repository;
+
+import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.enums.DesignType;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.gift.entity.Gift;
+import com.picktory.domain.gift.entity.GiftImage;
+import com.picktory.domain.gift.repository.GiftImageRepository;
+import com.picktory.domain.gift.repository.GiftRepository;
+import com.picktory.domain.user.entity.User;
+import com.picktory.domain.user.repository.UserRepository;
+import com.picktory.support.annotation.H2JpaTest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 선물 / 이미지 일괄 삭제가 테이블당 SQL 한 번으로 실행되고,
+ * 지워진 엔티티만 영속성 컨텍스트에서 분리되는지 검증한다.
+ */
+@H2JpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class GiftBulkDeleteTest {
+
+    private static final int GIFTS_PER_BUNDLE = 3;
+    private static final int IMAGES_PER_GIFT = 2;
+
+    @Autowired
+    private BundleRepository bundleRepository;
+
+    @Autowired
+    private GiftRepository giftRepository;
+
+    @Autowired
+    private GiftImageRepository giftImageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Bundle bundle;
+    private Bundle otherBundle;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder().kakaoId(System.nanoTime()).nickname("bulk-delete").build());
+        bundle = saveBundleWithGifts(user);
+        otherBundle = saveBundleWithGifts(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("✅ 보따리 선물 삭제는 선물 ID 조회 1회 + 이미지 / 선물 DELETE 각 1회로 끝난다")
+    void 보따리_선물_일괄_삭제_테스트() {
+        statistics.clear();
+
+        long deleted = giftRepository.deleteAllWithImagesByBundleId(bundle.getId());
+
+        assertThat(deleted).isEqualTo(GIFTS_PER_BUNDLE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(giftRepository.findAllByBundleId(bundle.getId())).isEmpty();
+        assertThat(giftRepository.findAllByBundleId(otherBundle.getId())).hasSize(GIFTS_PER_BUNDLE);
+    }
+
+    @Test
+    @DisplayName("✅ 선물 ID 목록 삭제는 이미지 / 선물 DELETE 각 1회로 끝나고, 지워진 엔티티만 분리된다")
+    void 선물_ID_일괄_삭제_테스트() {
+        List<Gift> gifts = giftRepository.findAllByBundleId(bundle.getId());
+        List<GiftImage> images = giftImageRepository.findAllByGift_IdIn(gifts.stream().map(Gift::getId).toList());
+        Gift kept = gifts.get(0);
+        List<Long> deletedIds = gifts.subList(1, gifts.size()).stream().map(Gift::getId).toList();
+        statistics.clear();
+
+        long deleted = giftRepository.deleteAllWithImagesByIdIn(deletedIds);
+
+        assertThat(deleted).isEqualTo(deletedIds.size());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(entityManager.contains(kept)).isTrue();
+        gifts.subList(1, gifts.size()).forEach(gift -> assertThat(entityManager.contains(gift)).isFalse());
+        images.forEach(image -> assertThat(entityManager.contains(image))
+                .isEqualTo(image.getGift().getId().equals(kept.getId())));
+        assertThat(giftImageRepository.findAllByGift_IdIn(deletedIds)).isEmpty();
+        assertThat(giftImageRepository.findAllByGift_Id(kept.getId())).hasSize(IMAGES_PER_GIFT);
+    }
+
+    @Test
+    @DisplayName("✅ 이미지 일괄 삭제는 DELETE 한 번으로 실행된다")
+    void 이미지_일괄_삭제_테스트() {
+        List<Long> giftIds = giftRepository.findAllByBundleId(bundle.getId()).stream().map(Gift::getId).toList();
+        statistics.clear();
+
+        int deleted = giftImageRepository.deleteAllByGift_IdIn(giftIds);
+
+        assertThat(deleted).isEqualTo(GIFTS_PER_BUNDLE * IMAGES_PER_GIFT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 이미지 일괄 삭제는 대기 중인 변경을 먼저 반영하고, 지워진 이미지만 분리한다")
+    void 이미지_일괄_삭제_영속성_컨텍스트_테스트() {
+        List<Gift> gifts = giftRepository.findAllByBundleId(bundle.getId());
+        List<GiftImage> images = giftImageRepository.findAllByGift_IdIn(gifts.stream().map(Gift::getId).toList());
+        Gift kept = gifts.get(0);
+        List<Long> deletedIds = gifts.subList(1, gifts.size()).stream().map(Gift::getId).toList();
+        GiftImage pending = giftImageRepository.save(
+                GiftImage.createGiftImage(gifts.get(1), "gifts/users/1/pending.jpg", false));
+
+        int deleted = giftImageRepository.deleteAllByGift_IdIn(deletedIds);
+
+        assertThat(deleted).isEqualTo(deletedIds.size() * IMAGES_PER_GIFT + 1);
+        assertThat(entityManager.contains(pending)).isFalse();
+        images.forEach(image -> assertThat(entityManager.contains(image))
+                .isEqualTo(image.getGift().getId().equals(kept.getId())));
+        gifts.forEach(gift -> assertThat(entityManager.contains(gift)).isTrue());
+        assertThat(giftImageRepository.findAllByGift_IdIn(deletedIds)).isEmpty();
+        assertThat(giftImageRepository.findAllByGift_Id(kept.getId())).hasSize(IMAGES_PER_GIFT);
+    }
+
+    private Bundle saveBundleWithGifts(User user) {
+        Bundle saved = bundleRepository.save(Bundle.builder()
+                .user(user)
+                .name("일괄 삭제 보따리")
+                .designType(DesignType.RED)
+                .build());
+
+        List<Gift> gifts = new ArrayList<>();
+        for (int i = 0; i < GIFTS_PER_BUNDLE; i++) {
+            gifts.add(Gift.builder().bundleId(saved.getId()).name("선물" + i).build());
+        }
+        List<Gift> savedGifts = giftRepository.saveAll(gifts);
+
+        List<GiftImage> images = new ArrayList<>();
+        for (Gift gift : savedGifts) {
+            for (int i = 0; i < IMAGES_PER_GIFT; i++) {
+                images.add(GiftImage.createGiftImage(gift, "gifts/users/1/" + gift.getId() + "-" + i + ".jpg", i == 0));
+            }
+        }
+        giftImageRepository.saveAll(images);
+        return saved;
+    }
+}
@@ -0,0 +1,109 @@
+package com.picktory.gift.service;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.common.image.ImageKeyResolver;
+import com.picktory.domain.gift.dto.GiftRequest;
+import com.picktory.domain.gift.entity.Gift;
+import com.picktory.domain.gift.entity.GiftImage;
+import com.picktory.domain.gift.repository.GiftImageRepository;
+import com.picktory.domain.gift.repository.GiftRepository;
+import com.picktory.domain.gift.service.GiftService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GiftCreationTest {
+
+    @Mock
+    private GiftRepository giftRepository;
+
+    @Mock
+    private GiftImageRepository giftImageRepository;
+
+    @Spy
+    private ImageKeyResolver imageKeyResolver = new ImageKeyResolver("");
+
+    @InjectMocks
+    private GiftService giftService;
+
+    @Test
+    @DisplayName("✅ 요청마다 선물과 이미지를 짝지어 만들고, 첫 이미지를 대표 이미지로 지정한다")
+    void 선물_이미지_일괄_생성_테스트() {
+        List<GiftRequest> requests = List.of(
+                giftRequest("향수", "perfume1.jpg", "perfume2.jpg"),
+                giftRequest("초콜릿", "chocolate1.jpg")
+        );
+
+        Map<Gift, List<GiftImage>> giftImages = giftService.createGiftsWithImages(1L, requests);
+
+        assertThat(giftImages.keySet()).extracting(Gift::getName).containsExactly("향수", "초콜릿");
+        giftImages.forEach((gift, images) -> {
+            assertThat(images).allSatisfy(image -> assertThat(image.getGift()).isSameAs(gift));
+            assertThat(images).extracting(GiftImage::getIsPrimary).first().isEqualTo(true);
+            assertThat(images).extracting(GiftImage::getIsPrimary).skip(1).containsOnly(false);
+        });
+        assertThat(giftImages.values()).flatExtracting(images -> images).extracting(GiftImage::getImageUrl)
+                .containsExactly("perfume1.jpg", "perfume2.jpg", "chocolate1.jpg");
+
+        verify(giftRepository, times(1)).saveAll(anyIterable());
+        verify(giftImageRepository, times(1)).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("❌ 이미지가 없는 선물이 있으면 저장 전에 실패한다")
+    void 이미지_누락_검증_테스트() {
+        List<GiftRequest> requests = List.of(giftRequest("향수", "perfume1.jpg"), giftRequest("초콜릿"));
+
+        assertThatThrownBy(() -> giftService.validateGiftRequests(requests))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.GIFT_IMAGE_REQUIRED);
+    }
+
+    @Test
+    @DisplayName("❌ 이미지가 5장을 넘으면 실패한다")
+    void 이미지_개수_검증_테스트() {
+        List<GiftRequest> requests = List.of(
+                giftRequest("향수", "1.jpg", "2.jpg", "3.jpg", "4.jpg", "5.jpg", "6.jpg"),
+                giftRequest("초콜릿", "chocolate1.jpg")
+        );
+
+        assertThatThrownBy(() -> giftService.validateGiftRequests(requests))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.GIFT_IMAGE_COUNT);
+    }
+
+    @Test
+    @DisplayName("❌ 선물이 2개 미만이거나 6개를 넘으면 실패한다")
+    void 선물_개수_검증_테스트() {
+        assertThatThrownBy(() -> giftService.validateGiftRequests(List.of(giftRequest("향수", "1.jpg"))))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.BUNDLE_MINIMUM_GIFTS_REQUIRED);
+
+        List<GiftRequest> tooMany = IntStream.range(0, 7)
+                .mapToObj(i -> giftRequest("선물" + i, i + ".jpg"))
+                .toList();
+        assertThatThrownBy(() -> giftService.validateGiftRequests(tooMany))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", BaseResponseStatus.BUNDLE_MAXIMUM_GIFTS_EXCEEDED);
+    }
+
+    private GiftRequest giftRequest(String name, String... imageUrls) {
+        return new GiftRequest(name, null, null, List.of(imageUrls));
+    }
+}
@@ -0,0 +1,83 @@
+package com.picktory.gift.service;
+
+import com.picktory.common.image.ImageKeyResolver;
+import com.picktory.domain.gift.service.GiftImageKeyMigrationJob;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 적용한 H2(MySQL 모드)에서 이미지 키 이관을 검증한다.
+ */
+class GiftImageKeyMigrationJobTest {
+
+    private static final String CDN = "d1a2b3c4d5e6f7.cloudfront.net";
+
+    private JdbcTemplate jdbcTemplate;
+    private GiftImageKeyMigrationJob job;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:image-key-" + System.nanoTime()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO gifts (id, bundle_id, name, is_responsed, created_at) "
+                + "VALUES (1, 1, '향수', FALSE, CURRENT_TIMESTAMP)");
+        job = new GiftImageKeyMigrationJob(jdbcTemplate, new ImageKeyResolver(CDN), true, 2);
+    }
+
+    @Test
+    @DisplayName("✅ 청크 단위로 CDN URL을 객체 키로 채우고 image_url을 비우며, 이미 채워진 키는 그대로 둔다")
+    void 청크_이관_테스트() {
+        insertImage(1, "https://" + CDN + "/gifts/users/1/a.jpg", null);
+        insertImage(2, "https://other.example.com/b.jpg", null);
+        insertImage(3, "https://" + CDN + "/gifts/users/1/c.jpg", "gifts/users/1/c-new.jpg");
+        insertImage(4, "https://" + CDN + "/gifts/users/1/d.jpg", null);
+        insertImage(5, "", "gifts/users/1/e.jpg"); // 새 방식으로 저장된 행
+
+        assertThat(job.migrateChunk()).isEqualTo(2);
+        assertThat(job.migrateChunk()).isEqualTo(2);
+        assertThat(job.migrateChunk()).isEqualTo(-1);
+
+        List<String> keys = jdbcTemplate.queryForList("SELECT image_key FROM gift_images ORDER BY id", String.class);
+        assertThat(keys).containsExactly(
+                "gifts/users/1/a.jpg",
+                "https://other.example.com/b.jpg",
+                "gifts/users/1/c-new.jpg",
+                "gifts/users/1/d.jpg",
+                "gifts/users/1/e.jpg");
+        assertThat(jdbcTemplate.queryForList("SELECT image_url FROM gift_images", String.class)).containsOnly("");
+    }
+
+    @Test
+    @DisplayName("✅ 객체 키 컬럼보다 긴 외부 URL은 image_url에 그대로 남긴다")
+    void 긴_외부_URL_테스트() {
+        String longUrl = "https://other.example.com/" + "a".repeat(300) + ".jpg";
+        insertImage(1, longUrl, null);
+
+        assertThat(job.migrateChunk()).isZero();
+        assertThat(job.migrateChunk()).isEqualTo(-1);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT image_url FROM gift_images WHERE id = 1", String.class)).isEqualTo(longUrl);
+        assertThat(jdbcTemplate.queryForObject("SELECT image_key FROM gift_images WHERE id = 1", String.class)).isNull();
+    }
+
+    private void insertImage(long id, String imageUrl, String imageKey) {
+        jdbcTemplate.update("INSERT INTO gift_images (id, gift_id, image_url, image_key, is_primary) VALUES (?, 1, ?, ?, FALSE)",
+                id, imageUrl, imageKey);
+    }
+}
@@ -0,0 +1,78 @@
+package com.picktory.notification.job;
+
+import com.picktory.domain.notification.dto.OutboxNotification;
+import com.picktory.domain.notification.enums.NotificationType;
+import com.picktory.domain.notification.job.NotificationRelayJob;
+import com.picktory.domain.notification.sender.NotificationSender;
+import com.picktory.domain.notification.service.NotificationOutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRelayJobTest {
+
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+
+    @Mock
+    private NotificationSender notificationSender;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationRelayJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new NotificationRelayJob(notificationOutboxService, notificationSender, meterRegistry,
+                true, 2, Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("✅ 성공한 알림은 한 번에 발송 완료 처리하고, 실패한 알림만 재시도로 돌린다")
+    void 릴레이_결과_반영_테스트() {
+        OutboxNotification sent = notification(1L);
+        OutboxNotification failed = notification(2L);
+        when(notificationOutboxService.claimDue(2)).thenReturn(List.of(sent, failed), List.of());
+        doThrow(new IllegalStateException("timeout")).when(notificationSender).send(failed);
+
+        job.relay();
+
+        verify(notificationOutboxService, times(2)).claimDue(2);
+        verify(notificationOutboxService).markSent(List.of(1L));
+        verify(notificationOutboxService).markFailed(eq(2L), anyString());
+        assertThat(meterRegistry.get("picktory.notification.relay").tag("result", "sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("picktory.notification.relay").tag("result", "retry").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 비활성화되어 있으면 알림을 가져오지 않는다")
+    void 릴레이_비활성화_테스트() {
+        job = new NotificationRelayJob(notificationOutboxService, notificationSender, meterRegistry,
+                false, 2, Duration.ofDays(7));
+
+        job.relay();
+
+        verify(notificationOutboxService, never()).claimDue(2);
+    }
+
+    private OutboxNotification notification(Long id) {
+        return new OutboxNotification(id, NotificationType.BUNDLE_ANSWERED, 10L, 100L + id, 1);
+    }
+}
@@ -0,0 +1,85 @@
+package com.picktory.notification.service;
+
+import com.picktory.domain.notification.dto.OutboxNotification;
+import com.picktory.domain.notification.entity.NotificationOutbox;
+import com.picktory.domain.notification.enums.NotificationStatus;
+import com.picktory.domain.notification.enums.NotificationType;
+import com.picktory.domain.notification.repository.NotificationOutboxRepository;
+import com.picktory.domain.notification.service.NotificationOutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    private NotificationOutboxService notificationOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxService = new NotificationOutboxService(notificationOutboxRepository,
+                Duration.ofSeconds(60), Duration.ofSeconds(10), Duration.ofSeconds(30), 3);
+    }
+
+    @Test
+    @DisplayName("✅ 가져간 알림은 시도 횟수를 올리고 임대 시간만큼 다음 시도를 미룬다")
+    void 알림_임대_테스트() {
+        NotificationOutbox outbox = outbox(1L);
+        when(notificationOutboxRepository.findDueForUpdate(any(LocalDateTime.class), eq(10))).thenReturn(List.of(outbox));
+
+        List<OutboxNotification> claimed = notificationOutboxService.claimDue(10);
+
+        assertThat(claimed).extracting(OutboxNotification::id).containsExactly(1L);
+        assertThat(claimed.get(0).attempts()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(60), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("❌ 발송에 실패하면 지수 백오프(최대값 제한)로 다시 시도하고, 최대 시도 횟수에 도달하면 포기한다")
+    void 발송_실패_재시도_테스트() {
+        NotificationOutbox outbox = outbox(1L);
+        when(notificationOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+
+        outbox.lease(LocalDateTime.now());
+        assertThat(notificationOutboxService.markFailed(1L, "timeout")).isFalse();
+        assertThat(outbox.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(10), within(5, ChronoUnit.SECONDS));
+
+        outbox.lease(LocalDateTime.now());
+        assertThat(notificationOutboxService.markFailed(1L, "timeout")).isFalse();
+        assertThat(outbox.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(20), within(5, ChronoUnit.SECONDS));
+
+        outbox.lease(LocalDateTime.now());
+        assertThat(notificationOutboxService.markFailed(1L, "timeout")).isTrue();
+        assertThat(outbox.getStatus()).isEqualTo(NotificationStatus.FAILED);
+        assertThat(outbox.getLastError()).isEqualTo("timeout");
+    }
+
+    private NotificationOutbox outbox(Long id) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .type(NotificationType.BUNDLE_ANSWERED)
+                .userId(10L)
+                .bundleId(100L)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.picktory.response.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.picktory.common.BaseResponse;
+import com.picktory.common.image.ImageUrlMode;
+import com.picktory.common.image.ImageUrlSerializer;
+import com.picktory.config.JacksonConfig;
+import com.picktory.domain.gift.dto.DraftGiftsResponse;
+import com.picktory.domain.gift.dto.GiftDetailResponse;
+import com.picktory.domain.response.dto.ResponseBundleDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 직렬화 처리량 / 응답당 할당량 비교 (리플렉션 vs Blackbird)
+ * ./gradlew benchmark
+ * 결과의 gc.alloc.rate.norm 이 응답 1건 직렬화 시 할당되는 바이트 수
+ * ObjectMapper는 애플리케이션과 같은 JacksonConfig 설정(CDN 기준 URL 공유 속성 포함)으로 만든다.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResponseSerializationBenchmarkTest {
+
+    private static final String CLOUD_FRONT_DOMAIN = "d1a2b3c4d5e6f7.cloudfront.net";
+
+    @Param({"reflection", "blackbird"})
+    public String mode;
+
+    private ObjectWriter objectWriter;
+    private BaseResponse<ResponseBundleDto> linkPage;
+    private BaseResponse<DraftGiftsResponse> draftGifts;
+
+    @Setup
+    public void setUp() {
+        objectWriter = absoluteUrlWriter(createObjectMapper(mode));
+        linkPage = new BaseResponse<>(linkPage());
+        draftGifts = new BaseResponse<>(draftGifts());
+    }
+
+    @Benchmark
+    public byte[] serializeLinkPage() throws Exception {
+        return objectWriter.writeValueAsBytes(linkPage);
+    }
+
+    @Benchmark
+    public byte[] serializeDraftGifts() throws Exception {
+        return objectWriter.writeValueAsBytes(draftGifts);
+    }
+
+    @Test
+    @DisplayName("리플렉션 / Blackbird 직렬화 처리량과 응답당 할당량 비교")
+    void 직렬화_벤치마크() throws Exception {
+        // 두 방식의 직렬화 결과가 같고, 객체 키가 CDN 전체 URL로 바뀌는지 먼저 확인
+        ObjectWriter reflection = absoluteUrlWriter(createObjectMapper("reflection"));
+        ObjectWriter blackbird = absoluteUrlWriter(createObjectMapper("blackbird"));
+        byte[] expected = reflection.writeValueAsBytes(new BaseResponse<>(linkPage()));
+        assertThat(blackbird.writeValueAsBytes(new BaseResponse<>(linkPage()))).isEqualTo(expected);
+        assertThat(new String(expected, StandardCharsets.UTF_8)).contains("https://" + CLOUD_FRONT_DOMAIN + "/gifts/");
+
+        // 포크 JVM은 java.class.path로 벤치마크 클래스를 찾으므로 Gradle이 넘겨준 테스트 클래스패스를 사용
+        String classpath = System.getProperty("benchmark.classpath");
+        if (classpath != null) {
+            System.setProperty("java.class.path", classpath);
+        }
+        Options options = new OptionsBuilder()
+                .include(ResponseSerializationBenchmarkTest.class.getName() + ".serialize")
+                .addProfiler(GCProfiler.class)
+                .forks(1) // 테스트 워커 JVM의 JIT / GC 상태와 분리해 측정
+                .build();
+        assertThat(new Runner(options).run()).isNotEmpty();
+    }
+
+    /**
+     * 애플리케이션과 같은 방식으로 ObjectMapper 생성 (Spring Boot 기본 빌더 + JacksonConfig)
+     * reflection 모드만 Blackbird 모듈을 빼고 만든다.
+     */
+    private static ObjectMapper createObjectMapper(String mode) {
+        JacksonConfig jacksonConfig = new JacksonConfig();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        jacksonConfig.imageBaseUrlCustomizer(CLOUD_FRONT_DOMAIN).customize(builder);
+        if ("blackbird".equals(mode)) {
+            builder.modulesToInstall(jacksonConfig.blackbirdModule());
+        }
+        return builder.build();
+    }
+
+    // 링크 페이지 스냅샷과 같은 설정 (전체 URL로 렌더링)
+    private static ObjectWriter absoluteUrlWriter(ObjectMapper objectMapper) {
+        return objectMapper.writer().withAttribute(ImageUrlSerializer.MODE_ATTRIBUTE, ImageUrlMode.ABSOLUTE);
+    }
+
+    // 선물 6개, 선물당 이미지 3장 (전형적인 최대 크기 보따리)
+    private static ResponseBundleDto linkPage() {
+        List<ResponseBundleDto.GiftInfo> gifts = IntStream.rangeClosed(1, 6)
+                .mapToObj(i -> ResponseBundleDto.GiftInfo.builder()
+                        .id(1_000_000L + i)
+                        .name("선물 " + i)
+                        .message("생일 축하해! 마음에 들었으면 좋겠다 " + i)
+                        .imageUrls(imageUrls(i))
+                        .thumbnail(imageUrls(i).get(0))
+                        .build())
+                .toList();
+
+        return ResponseBundleDto.builder()
+                .bundle(ResponseBundleDto.BundleInfo.builder()
+                        .id(1L)
+                        .delivery_character_type("CHARACTER_1")
+                        .design_type("RED")
+                        .status("PUBLISHED")
+                        .gifts(gifts)
+                        .total_gifts(gifts.size())
+                        .build())
+                .build();
+    }
+
+    private static DraftGiftsResponse draftGifts() {
+        List<GiftDetailResponse> gifts = IntStream.rangeClosed(1, 6)
+                .mapToObj(i -> GiftDetailResponse.builder()
+                        .id(1_000_000L + i)
+                        .name("선물 " + i)
+                        .message("생일 축하해! 마음에 들었으면 좋겠다 " + i)
+                        .purchaseUrl("https://shopping.example.com/products/" + i)
+                        .thumbnail(imageUrls(i).get(0))
+                        .imageUrls(imageUrls(i).subList(1, 3))
+                        .build())
+                .toList();
+
+        return DraftGiftsResponse.builder()
+                .bundleId(1L)
+                .version(3L)
+                .gifts(gifts)
+                .build();
+    }
+
+    private static List<String> imageUrls(int giftIndex) {
+        return IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> "gifts/2025/02/" + giftIndex + "-" + i + "-3f2a9c1e-8b7d-4e6a-9f0c-1d2e3f4a5b6c.jpg")
+                .toList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.picktory.response.repository;
+
+import com.picktory.domain.response.repository.LinkPageSnapshotRepository;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 적용한 H2(MySQL 모드)에서 스냅샷 저장/조회를 검증한다.
+ */
+class LinkPageSnapshotRepositoryTest {
+
+    private LinkPageSnapshotRepository linkPageSnapshotRepository;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:link-page-snapshot-" + System.nanoTime()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        linkPageSnapshotRepository = new LinkPageSnapshotRepository(new JdbcTemplate(dataSource));
+    }
+
+    @Test
+    @DisplayName("✅ 같은 버전의 스냅샷만 조회된다")
+    void 버전_일치_조회_테스트() {
+        linkPageSnapshotRepository.save(1L, 3L, bytes("v3"));
+
+        assertThat(linkPageSnapshotRepository.findBody(1L, 3L)).hasValueSatisfying(body ->
+                assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("v3"));
+        assertThat(linkPageSnapshotRepository.findBody(1L, 4L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 늦게 저장된 이전 버전은 최신 스냅샷을 덮어쓰지 않는다")
+    void 이전_버전_덮어쓰기_방지_테스트() {
+        linkPageSnapshotRepository.save(1L, 3L, bytes("v3"));
+        linkPageSnapshotRepository.save(1L, 5L, bytes("v5"));
+        linkPageSnapshotRepository.save(1L, 4L, bytes("v4"));
+
+        assertThat(linkPageSnapshotRepository.findBody(1L, 5L)).hasValueSatisfying(body ->
+                assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("v5"));
+        assertThat(linkPageSnapshotRepository.findBody(1L, 4L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 여러 보따리의 스냅샷을 한 번에 삭제하고 나머지는 유지한다")
+    void 일괄_삭제_테스트() {
+        linkPageSnapshotRepository.save(1L, 1L, bytes("a"));
+        linkPageSnapshotRepository.save(2L, 1L, bytes("b"));
+        linkPageSnapshotRepository.save(3L, 1L, bytes("c"));
+
+        linkPageSnapshotRepository.deleteAllByBundleIdIn(List.of(1L, 2L));
+        linkPageSnapshotRepository.deleteAllByBundleIdIn(List.of());
+
+        assertThat(linkPageSnapshotRepository.findBody(1L, 1L)).isEmpty();
+        assertThat(linkPageSnapshotRepository.findBody(2L, 1L)).isEmpty();
+        assertThat(linkPageSnapshotRepository.findBody(3L, 1L)).isPresent();
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,61 @@
+package com.picktory.response.service;
+
+import com.picktory.domain.bundle.event.BundleCompletedEvent;
+import com.picktory.domain.bundle.event.BundleEventMetrics;
+import com.picktory.domain.bundle.event.BundlePublishedEvent;
+import com.picktory.domain.response.service.LinkPageSnapshotEventHandler;
+import com.picktory.domain.response.service.LinkPageSnapshotService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LinkPageSnapshotEventHandlerTest {
+
+    @Mock
+    private LinkPageSnapshotService linkPageSnapshotService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LinkPageSnapshotEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new LinkPageSnapshotEventHandler(linkPageSnapshotService, new BundleEventMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("✅ 배달 이벤트를 받으면 스냅샷을 렌더링하고 처리 시간을 기록한다")
+    void 배달_이벤트_처리_테스트() {
+        handler.onPublished(new BundlePublishedEvent(1L, 10L, "link"));
+
+        verify(linkPageSnapshotService).refresh(1L);
+        assertThat(meterRegistry.get("picktory.bundle.events.handled")
+                .tag("event", "BundlePublishedEvent")
+                .tag("result", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("❌ 렌더링에 실패해도 예외를 전파하지 않고 실패로 기록한다")
+    void 렌더링_실패_기록_테스트() {
+        doThrow(new IllegalStateException("db down")).when(linkPageSnapshotService).refresh(1L);
+
+        assertThatCode(() -> handler.onCompleted(new BundleCompletedEvent(1L, 10L, "link")))
+                .doesNotThrowAnyException();
+
+        assertThat(meterRegistry.get("picktory.bundle.events.handled")
+                .tag("event", "BundleCompletedEvent")
+                .tag("result", "failure")
+                .timer().count()).isEqualTo(1);
+    }
+}
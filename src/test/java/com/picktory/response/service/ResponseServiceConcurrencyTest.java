@@ -0,0 +1,154 @@
+package com.picktory.response.service;
+
+import com.picktory.common.BaseResponseStatus;
+import com.picktory.common.exception.BaseException;
+import com.picktory.domain.bundle.entity.Bundle;
+import com.picktory.domain.bundle.enums.BundleStatus;
+import com.picktory.domain.bundle.enums.DeliveryCharacterType;
+import com.picktory.domain.bundle.enums.DesignType;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.gift.entity.Gift;
+import com.picktory.domain.gift.repository.GiftRepository;
+import com.picktory.domain.response.dto.SaveGiftResponsesRequest;
+import com.picktory.domain.response.entity.Response;
+import com.picktory.domain.response.repository.ResponseRepository;
+import com.picktory.domain.response.service.ResponseService;
+import com.picktory.domain.user.entity.User;
+import com.picktory.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+✅ MySQL과 연동한 동시성 테스트
+*/
+
+@SpringBootTest
+class ResponseServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private ResponseService responseService;
+
+    @Autowired
+    private BundleRepository bundleRepository;
+
+    @Autowired
+    private GiftRepository giftRepository;
+
+    @Autowired
+    private ResponseRepository responseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Bundle bundle;
+    private List<Gift> gifts;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByKakaoId(87654321L)
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .kakaoId(87654321L)
+                        .nickname("concurrency-test")
+                        .build()));
+
+        bundle = bundleRepository.save(Bundle.builder()
+                .user(user)
+                .name("동시성 테스트 보따리")
+                .designType(DesignType.RED)
+                .deliveryCharacterType(DeliveryCharacterType.CHARACTER_1)
+                .link(UUID.randomUUID().toString())
+                .status(BundleStatus.PUBLISHED)
+                .publishedAt(LocalDateTime.now())
+                .isRead(false)
+                .build());
+
+        gifts = giftRepository.saveAll(List.of(
+                Gift.builder().bundleId(bundle.getId()).name("향수").build(),
+                Gift.builder().bundleId(bundle.getId()).name("초콜릿").build()
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        responseRepository.deleteAll(responseRepository.findAllByBundleIdAndGiftIds(bundle.getId(), null));
+        giftRepository.deleteAll(gifts);
+        bundleRepository.deleteById(bundle.getId());
+    }
+
+    @Test
+    @DisplayName("✅ 동시에 답변을 제출해도 단 한 건만 저장된다")
+    void 동시_답변_제출_테스트() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+
+        AtomicInteger successCount = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    responseService.saveGiftResponses(bundle.getLink(), createRequest());
+                    successCount.incrementAndGet();
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(failures).hasSize(THREAD_COUNT - 1)
+                .allSatisfy(e -> assertThat(e)
+                        .isInstanceOf(BaseException.class)
+                        .hasFieldOrPropertyWithValue("status", BaseResponseStatus.ALREADY_ANSWERED));
+
+        List<Response> responses = responseRepository.findAllByBundleIdAndGiftIds(bundle.getId(), null);
+        assertThat(responses).hasSize(gifts.size());
+        assertThat(bundleRepository.findById(bundle.getId()).orElseThrow().getStatus())
+                .isEqualTo(BundleStatus.COMPLETED);
+    }
+
+    private SaveGiftResponsesRequest createRequest() {
+        List<SaveGiftResponsesRequest.GiftResponse> giftResponses = gifts.stream()
+                .map(gift -> {
+                    SaveGiftResponsesRequest.GiftResponse giftResponse = new SaveGiftResponsesRequest.GiftResponse();
+                    giftResponse.setGiftId(gift.getId());
+                    giftResponse.setResponseTag("GREAT");
+                    return giftResponse;
+                })
+                .toList();
+
+        SaveGiftResponsesRequest request = new SaveGiftResponsesRequest();
+        request.setBundleId(bundle.getId().toString());
+        request.setGifts(giftResponses);
+        return request;
+    }
+}
@@ -0,0 +1,240 @@
+package com.picktory.schema;
+
+import com.picktory.common.image.ImageKeyResolver;
+import com.picktory.common.lock.SchedulerLock;
+import com.picktory.domain.analytics.repository.ResponseTagRollupRepository;
+import com.picktory.domain.auth.refresh.repository.RefreshTokenRepository;
+import com.picktory.domain.bundle.entity.BundleStatistics;
+import com.picktory.domain.bundle.enums.BundleStatus;
+import com.picktory.domain.bundle.repository.BundleArchiveRepository;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.gift.repository.GiftImageRepository;
+import com.picktory.domain.gift.repository.GiftRepository;
+import com.picktory.domain.gift.repository.S3ObjectDeletionRepository;
+import com.picktory.domain.gift.service.GiftImageKeyMigrationJob;
+import com.picktory.domain.notification.repository.NotificationOutboxRepository;
+import com.picktory.domain.response.repository.LinkPageSnapshotRepository;
+import com.picktory.domain.response.repository.ResponseRepository;
+import com.picktory.domain.user.repository.UserRepository;
+import com.picktory.domain.user.repository.WithdrawnUserPurgeRepository;
+import com.picktory.support.annotation.H2JpaTest;
+import com.picktory.support.sql.SqlCapturingDataSource;
+import com.picktory.support.sql.SqlCapturingDataSource.CapturedStatement;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 H2(MySQL 모드)에 적용한 뒤 레포지토리 메서드를 실제로 호출하고,
+ * Hibernate / QueryDSL / JdbcTemplate이 만든 SQL을 같은 바인딩 값으로 EXPLAIN 해서 모두 인덱스를 타는지 검증한다.
+ */
+@H2JpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@Import({
+        RepositoryQueryIndexTest.SqlCaptureConfig.class,
+        BundleArchiveRepository.class,
+        LinkPageSnapshotRepository.class,
+        S3ObjectDeletionRepository.class,
+        WithdrawnUserPurgeRepository.class,
+        ResponseTagRollupRepository.class,
+        SchedulerLock.class
+})
+class RepositoryQueryIndexTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final List<Long> IDS = List.of(1L, 2L, 3L);
+
+    @Autowired private DataSource dataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private BundleRepository bundleRepository;
+    @Autowired private GiftRepository giftRepository;
+    @Autowired private GiftImageRepository giftImageRepository;
+    @Autowired private ResponseRepository responseRepository;
+    @Autowired private NotificationOutboxRepository notificationOutboxRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BundleArchiveRepository bundleArchiveRepository;
+    @Autowired private LinkPageSnapshotRepository linkPageSnapshotRepository;
+    @Autowired private S3ObjectDeletionRepository s3ObjectDeletionRepository;
+    @Autowired private WithdrawnUserPurgeRepository withdrawnUserPurgeRepository;
+    @Autowired private ResponseTagRollupRepository responseTagRollupRepository;
+    @Autowired private SchedulerLock schedulerLock;
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                // BundleRepository
+                query("BundleRepository.countByUserIdAndCreatedAtAfter", t -> t.bundleRepository.countByUserIdAndCreatedAtAfter(1L, NOW)),
+                query("BundleRepository.findByLink", t -> t.bundleRepository.findByLink("link")),
+                query("BundleRepository.findByIdAndUserId", t -> t.bundleRepository.findByIdAndUserId(1L, 1L)),
+                query("BundleRepository.findByUserIdOrderByUpdatedAtDesc", t -> t.bundleRepository.findByUserIdOrderByUpdatedAtDesc(1L)),
+                query("BundleRepository.findTop8ByUser_IdOrderByUpdatedAtDesc", t -> t.bundleRepository.findTop8ByUser_IdOrderByUpdatedAtDesc(1L)),
+                query("BundleRepository.findByIdAndStatus", t -> t.bundleRepository.findByIdAndStatus(1L, BundleStatus.COMPLETED)),
+                query("BundleRepository.findFreshnessById", t -> t.bundleRepository.findFreshnessById(1L)),
+                query("BundleRepository.findFreshnessByLink", t -> t.bundleRepository.findFreshnessByLink("link")),
+                query("BundleRepository.findListFreshnessByUserId", t -> t.bundleRepository.findListFreshnessByUserId(1L)),
+                query("BundleRepository.completeIfPublished", t -> t.bundleRepository.completeIfPublished("link", NOW)),
+                query("BundleRepository.completeIfPublishedById", t -> t.bundleRepository.completeIfPublishedById(1L, "link", NOW)),
+                query("BundleRepository.markAsReadByIdIn", t -> t.bundleRepository.markAsReadByIdIn(IDS, NOW)),
+                query("BundleRepository.findBatchAfter", t -> t.bundleRepository.findBatchAfter(0L, PageRequest.of(0, 500))),
+                query("BundleRepository.updateStatistics", t -> t.bundleRepository.updateStatistics(1L, BundleStatistics.ofGiftCount(2), 0L)),
+                query("BundleRepository.findArchiveCandidates", t -> t.bundleRepository.findArchiveCandidates(NOW, PageRequest.of(0, 200))),
+                query("BundleRepository.deleteAllByIdIn", t -> t.bundleRepository.deleteAllByIdIn(IDS)),
+
+                // BundleArchiveRepository
+                query("BundleArchiveRepository.findById", t -> t.bundleArchiveRepository.findById(1L)),
+                query("BundleArchiveRepository.findAllByUserId", t -> t.bundleArchiveRepository.findAllByUserId(1L)),
+                query("BundleArchiveRepository.findTopByUserId", t -> t.bundleArchiveRepository.findTopByUserId(1L, 8)),
+                query("BundleArchiveRepository.findListFreshnessByUserId", t -> t.bundleArchiveRepository.findListFreshnessByUserId(1L)),
+                query("BundleArchiveRepository.findUserIdById", t -> t.bundleArchiveRepository.findUserIdById(1L)),
+                query("BundleArchiveRepository.findAllWithPayloadByUserId", t -> t.bundleArchiveRepository.findAllWithPayloadByUserId(1L, 100)),
+                query("BundleArchiveRepository.deleteById", t -> t.bundleArchiveRepository.deleteById(1L)),
+                query("BundleArchiveRepository.deleteAllByIdIn", t -> t.bundleArchiveRepository.deleteAllByIdIn(IDS)),
+
+                // GiftRepository
+                query("GiftRepository.findAllByBundleId", t -> t.giftRepository.findAllByBundleId(1L)),
+                query("GiftRepository.findAllByBundleIdIn", t -> t.giftRepository.findAllByBundleIdIn(IDS)),
+                query("GiftRepository.findByIdAndBundleId", t -> t.giftRepository.findByIdAndBundleId(1L, 1L)),
+                query("GiftRepository.countByBundleIdsGroupByResponseTag", t -> t.giftRepository.countByBundleIdsGroupByResponseTag(IDS)),
+                query("GiftRepositoryImpl.deleteAllWithImagesByBundleId", t -> t.giftRepository.deleteAllWithImagesByBundleId(1L)),
+                query("GiftRepositoryImpl.deleteAllWithImagesByIdIn", t -> t.giftRepository.deleteAllWithImagesByIdIn(IDS)),
+
+                // GiftImageRepository
+                query("GiftImageRepository.findAllByGift_Id", t -> t.giftImageRepository.findAllByGift_Id(1L)),
+                query("GiftImageRepository.findAllByGift_IdIn", t -> t.giftImageRepository.findAllByGift_IdIn(IDS)),
+                query("GiftImageRepository.deleteAllByGift_IdIn", t -> t.giftImageRepository.deleteAllByGift_IdIn(IDS)),
+                query("GiftImageRepository.findByGift_IdAndIsPrimaryTrue", t -> t.giftImageRepository.findByGift_IdAndIsPrimaryTrue(1L)),
+                query("GiftImageKeyMigrationJob.migrateChunk", t -> {
+                    t.jdbcTemplate.update("INSERT INTO gifts (id, bundle_id, name, is_responsed, created_at) "
+                            + "VALUES (1, 1, '선물', FALSE, CURRENT_TIMESTAMP)");
+                    t.jdbcTemplate.update("INSERT INTO gift_images (id, gift_id, image_url, is_primary) "
+                            + "VALUES (1, 1, 'https://cdn.example.com/gifts/a.jpg', TRUE)");
+                    new GiftImageKeyMigrationJob(t.jdbcTemplate, new ImageKeyResolver("cdn.example.com"), true, 500)
+                            .migrateChunk();
+                }),
+
+                // S3ObjectDeletionRepository
+                query("S3ObjectDeletionRepository.findDue", t -> t.s3ObjectDeletionRepository.findDue(NOW, 5, 500)),
+                query("S3ObjectDeletionRepository.deleteAllByIdIn", t -> t.s3ObjectDeletionRepository.deleteAllByIdIn(IDS)),
+                query("S3ObjectDeletionRepository.retryLater", t -> t.s3ObjectDeletionRepository.retryLater(IDS, NOW)),
+
+                // ResponseRepository
+                query("ResponseRepository.existsByGiftId", t -> t.responseRepository.existsByGiftId(1L)),
+                query("ResponseRepository.existsByGiftIdIn", t -> t.responseRepository.existsByGiftIdIn(IDS)),
+                query("ResponseRepository.findAllByBundleIdIn", t -> t.responseRepository.findAllByBundleIdIn(IDS)),
+                query("ResponseRepository.deleteAllByBundleIdIn", t -> t.responseRepository.deleteAllByBundleIdIn(IDS)),
+                query("ResponseRepositoryImpl.findAllByBundleIdAndGiftIds", t -> t.responseRepository.findAllByBundleIdAndGiftIds(1L, IDS)),
+
+                // LinkPageSnapshotRepository
+                query("LinkPageSnapshotRepository.findBody", t -> t.linkPageSnapshotRepository.findBody(1L, 1L)),
+                query("LinkPageSnapshotRepository.deleteByBundleId", t -> t.linkPageSnapshotRepository.deleteByBundleId(1L)),
+                query("LinkPageSnapshotRepository.deleteAllByBundleIdIn", t -> t.linkPageSnapshotRepository.deleteAllByBundleIdIn(IDS)),
+
+                // ResponseTagRollupRepository
+                query("ResponseTagRollupRepository.findWatermarkForUpdate",
+                        t -> t.responseTagRollupRepository.findWatermarkForUpdate("response_tag_rollup")),
+                query("ResponseTagRollupRepository.findResponses", t -> t.responseTagRollupRepository.findResponses(1L, 100L, 1000)),
+                query("ResponseTagRollupRepository.findResponsesByBundleIdIn",
+                        t -> t.responseTagRollupRepository.findResponsesByBundleIdIn(List.of(1L, 2L), 0L)),
+                query("ResponseTagRollupRepository.findDomainTagCounts",
+                        t -> t.responseTagRollupRepository.findDomainTagCounts(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))),
+                query("ResponseTagRollupRepository.findDailyTagCounts",
+                        t -> t.responseTagRollupRepository.findDailyTagCounts(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))),
+
+                // SchedulerLock
+                query("SchedulerLock.tryAcquire", t -> t.schedulerLock.tryAcquire("job", Duration.ofMinutes(1))),
+                query("SchedulerLock.release", t -> t.schedulerLock.release("job")),
+
+                // NotificationOutboxRepository
+                query("NotificationOutboxRepository.findDueForUpdate", t -> t.notificationOutboxRepository.findDueForUpdate(NOW, 100)),
+                query("NotificationOutboxRepository.deleteSentBefore", t -> t.notificationOutboxRepository.deleteSentBefore(NOW)),
+
+                // RefreshTokenRepository
+                query("RefreshTokenRepository.findByToken", t -> t.refreshTokenRepository.findByToken("token")),
+                query("RefreshTokenRepository.findByUserId", t -> t.refreshTokenRepository.findByUserId(1L)),
+                query("RefreshTokenRepository.existsByUserId", t -> t.refreshTokenRepository.existsByUserId(1L)),
+                query("RefreshTokenRepository.deleteByUserId", t -> t.refreshTokenRepository.deleteByUserId(1L)),
+
+                // UserRepository
+                query("UserRepository.findByIdAndIsDeletedFalse", t -> t.userRepository.findByIdAndIsDeletedFalse(1L)),
+                query("UserRepository.findByKakaoId", t -> t.userRepository.findByKakaoId(1L)),
+
+                // WithdrawnUserPurgeRepository
+                query("WithdrawnUserPurgeRepository.findPurgeTargets", t -> t.withdrawnUserPurgeRepository.findPurgeTargets(NOW, 50)),
+                query("WithdrawnUserPurgeRepository.findBundleIds", t -> t.withdrawnUserPurgeRepository.findBundleIds(1L, 100)),
+                query("WithdrawnUserPurgeRepository.findGiftIds", t -> t.withdrawnUserPurgeRepository.findGiftIds(IDS)),
+                query("WithdrawnUserPurgeRepository.findImages", t -> t.withdrawnUserPurgeRepository.findImages(IDS)),
+                query("WithdrawnUserPurgeRepository.deleteImagesByGiftIds", t -> t.withdrawnUserPurgeRepository.deleteImagesByGiftIds(IDS)),
+                query("WithdrawnUserPurgeRepository.deleteBundlesWithChildren", t -> t.withdrawnUserPurgeRepository.deleteBundlesWithChildren(IDS)),
+                query("WithdrawnUserPurgeRepository.markPurged", t -> t.withdrawnUserPurgeRepository.markPurged(1L, NOW))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void 레포지토리_쿼리는_인덱스를_사용한다(String repositoryMethod, RepositoryCall call) throws Exception {
+        SqlCapturingDataSource capture = (SqlCapturingDataSource) dataSource;
+        capture.clear();
+
+        call.invoke(this);
+
+        List<CapturedStatement> statements = capture.getStatements().stream()
+                .filter(CapturedStatement::isExplainable)
+                .toList();
+        assertThat(statements).as("%s 실행 SQL", repositoryMethod).isNotEmpty();
+        for (CapturedStatement statement : statements) {
+            String plan = capture.explain(statement);
+            assertThat(plan)
+                    .as("%s 실행 계획:%n%s%n%s", repositoryMethod, statement.sql(), plan)
+                    .doesNotContainIgnoringCase(TABLE_SCAN);
+        }
+    }
+
+    private static Arguments query(String repositoryMethod, RepositoryCall call) {
+        return Arguments.of(repositoryMethod, call);
+    }
+
+    @FunctionalInterface
+    interface RepositoryCall {
+        void invoke(RepositoryQueryIndexTest test) throws Exception;
+    }
+
+    /**
+     * 애플리케이션이 쓰는 DataSource를 SQL 기록용 래퍼로 감싼다.
+     */
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor sqlCapturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof SqlCapturingDataSource)) {
+                        return new SqlCapturingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.picktory.schema;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제약이 없던 시절 생긴 중복 답변이 있어도 V2(responses.gift_id 유니크 제약)가 실패하지 않는지 검증한다.
+ */
+class ResponseDedupeMigrationTest {
+
+    @Test
+    @DisplayName("✅ 선물마다 가장 최근 답변만 남기고 유니크 제약을 추가한다")
+    void 중복_답변_정리_테스트() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:response-dedupe-" + System.nanoTime()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        flyway(dataSource, "1").migrate();
+        jdbcTemplate.update("INSERT INTO responses (id, gift_id, bundle_id, response_tag) VALUES (1, 100, 10, 'GOOD')");
+        jdbcTemplate.update("INSERT INTO responses (id, gift_id, bundle_id, response_tag) VALUES (2, 100, 10, 'GREAT')");
+        jdbcTemplate.update("INSERT INTO responses (id, gift_id, bundle_id, response_tag) VALUES (3, 200, 10, 'NOT_SURE')");
+
+        flyway(dataSource, "latest").migrate();
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM responses ORDER BY id", Long.class)).containsExactly(2L, 3L);
+        assertThat(jdbcTemplate.queryForObject("SELECT response_tag FROM responses WHERE gift_id = 100", String.class))
+                .isEqualTo("GREAT");
+    }
+
+    private Flyway flyway(JdbcDataSource dataSource, String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load();
+    }
+}
@@ -0,0 +1,159 @@
+package com.picktory.support.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실행된 SQL과 바인딩 값을 그대로 기록하는 DataSource 래퍼 (테스트 전용)
+ * Hibernate / QueryDSL / JdbcTemplate이 실제로 만든 쿼리를 같은 값으로 다시 EXPLAIN 할 때 사용한다.
+ */
+public class SqlCapturingDataSource extends DelegatingDataSource {
+
+    private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+
+    public SqlCapturingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    public List<CapturedStatement> getStatements() {
+        return List.copyOf(statements);
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    /**
+     * 기록된 SQL을 같은 바인딩 값으로 EXPLAIN (기록되지 않는 원본 커넥션 사용)
+     */
+    public String explain(CapturedStatement statement) throws SQLException {
+        try (Connection connection = obtainTargetDataSource().getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (Binding binding : statement.bindings()) {
+                binding.applyTo(explain);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = explain.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> {
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement preparedStatement) {
+                return wrapPreparedStatement(preparedStatement, (String) args[0]);
+            }
+            if (method.getName().equals("createStatement") && result instanceof Statement statement) {
+                return wrapStatement(statement);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement wrapPreparedStatement(PreparedStatement preparedStatement, String sql) {
+        Map<Integer, Binding> bindings = new TreeMap<>();
+        return proxy(PreparedStatement.class, preparedStatement, (method, args, result) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bindings.put(index, new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if ((name.equals("addBatch") || (name.startsWith("execute") && !name.endsWith("Batch")))
+                    && (args == null || args.length == 0)) {
+                statements.add(new CapturedStatement(sql, List.copyOf(bindings.values())));
+            }
+            return result;
+        });
+    }
+
+    private Statement wrapStatement(Statement statement) {
+        return proxy(Statement.class, statement, (method, args, result) -> {
+            String name = method.getName();
+            if ((name.startsWith("execute") || name.equals("addBatch")) && args != null && args.length > 0
+                    && args[0] instanceof String sql) {
+                statements.add(new CapturedStatement(sql, List.of()));
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, AfterInvocation afterInvocation) {
+        return (T) Proxy.newProxyInstance(SqlCapturingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals") && args != null && args.length == 1) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode") && (args == null || args.length == 0)) {
+                        return System.identityHashCode(proxy);
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                    return afterInvocation.apply(method, args, result);
+                });
+    }
+
+    @FunctionalInterface
+    private interface AfterInvocation {
+        Object apply(Method method, Object[] args, Object result) throws Throwable;
+    }
+
+    public record CapturedStatement(String sql, List<Binding> bindings) {
+
+        /**
+         * 실행 계획을 확인할 수 있는 조회 / 변경 쿼리인지 (INSERT 등은 제외)
+         */
+        public boolean isExplainable() {
+            String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+            return head.startsWith("select") || head.startsWith("update") || head.startsWith("delete");
+        }
+    }
+
+    public record Binding(Method setter, Object[] args) {
+
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                if (e.getTargetException() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new IllegalStateException(e.getTargetException());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.picktory.user.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picktory.common.image.ImageKeyResolver;
+import com.picktory.common.lock.SchedulerLock;
+import com.picktory.domain.analytics.repository.ResponseTagRollupRepository;
+import com.picktory.domain.analytics.service.ResponseTagRollupService;
+import com.picktory.domain.bundle.cache.BundleViewCache;
+import com.picktory.domain.bundle.dto.BundleArchivePayload;
+import com.picktory.domain.bundle.dto.BundleArchivePayload.ArchivedGift;
+import com.picktory.domain.bundle.repository.BundleArchiveRepository;
+import com.picktory.domain.bundle.repository.BundleRepository;
+import com.picktory.domain.bundle.service.BundleArchiveService;
+import com.picktory.domain.gift.repository.GiftImageRepository;
+import com.picktory.domain.gift.repository.GiftRepository;
+import com.picktory.domain.gift.repository.S3ObjectDeletionRepository;
+import com.picktory.domain.user.job.WithdrawnUserPurgeJob;
+import com.picktory.domain.response.repository.LinkPageSnapshotRepository;
+import com.picktory.domain.response.repository.ResponseRepository;
+import com.picktory.domain.user.repository.WithdrawnUserPurgeRepository;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Flyway 마이그레이션을 적용한 H2(MySQL 모드)에서 탈퇴 회원 데이터 일괄 삭제를 검증한다.
+ */
+class WithdrawnUserPurgeJobTest {
+
+    private static final String CDN = "d1a2b3c4d5e6f7.cloudfront.net";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private JdbcTemplate jdbcTemplate;
+    private BundleViewCache bundleViewCache;
+    private WithdrawnUserPurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:user-purge-" + System.nanoTime()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        bundleViewCache = mock(BundleViewCache.class);
+        ResponseTagRollupService responseTagRollupService =
+                new ResponseTagRollupService(new ResponseTagRollupRepository(jdbcTemplate));
+        BundleArchiveService bundleArchiveService = new BundleArchiveService(
+                mock(BundleRepository.class), mock(GiftRepository.class), mock(GiftImageRepository.class),
+                mock(ResponseRepository.class), mock(LinkPageSnapshotRepository.class),
+                new BundleArchiveRepository(jdbcTemplate), responseTagRollupService, bundleViewCache, objectMapper);
+        job = new WithdrawnUserPurgeJob(
+                new WithdrawnUserPurgeRepository(namedJdbcTemplate),
+                new S3ObjectDeletionRepository(namedJdbcTemplate),
+                new ImageKeyResolver(CDN),
+                bundleArchiveService,
+                responseTagRollupService,
+                bundleViewCache,
+                new SchedulerLock(jdbcTemplate, "instance-a"),
+                new DataSourceTransactionManager(dataSource),
+                true, Duration.ofDays(1), 2, 10, Duration.ZERO, Duration.ofMinutes(10));
+
+        insertUser(1, LocalDateTime.now().minusDays(2));
+        insertUser(2, null);
+        insertUser(3, LocalDateTime.now().minusHours(1));
+
+        insertBundle(10, 1);
+        insertBundle(11, 1);
+        insertBundle(12, 1);
+        insertBundle(20, 2);
+        insertBundle(30, 3);
+
+        insertGift(100, 10);
+        insertGift(110, 11);
+        insertGift(200, 20);
+
+        insertImage(1000, 100, "", "gifts/users/1/a.jpg");
+        insertImage(1100, 110, "https://" + CDN + "/gifts/users/1/b.jpg", null);
+        insertImage(1101, 110, "https://other.example.com/c.jpg", null);
+        insertImage(2000, 200, "", "gifts/users/2/d.jpg");
+
+        jdbcTemplate.update("INSERT INTO responses (gift_id, bundle_id, response_tag, created_at) "
+                + "VALUES (100, 10, 'GREAT', CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO bundle_link_snapshots (bundle_id, bundle_version, body, rendered_at) "
+                + "VALUES (10, 1, X'7B7D', CURRENT_TIMESTAMP)");
+    }
+
+    @Test
+    @DisplayName("✅ 보따리를 청크 단위로 자식 행과 함께 지우고, 남은 보따리가 없으면 삭제 완료로 기록한다")
+    void 청크_삭제_테스트() {
+        assertThat(job.purgeChunk(1L)).isEqualTo(2);
+        assertThat(job.purgeChunk(1L)).isEqualTo(1);
+        assertThat(job.purgeChunk(1L)).isZero();
+
+        assertThat(ids("bundles")).containsExactly(20L, 30L);
+        assertThat(ids("gifts")).containsExactly(200L);
+        assertThat(ids("gift_images")).containsExactly(2000L);
+        assertThat(count("responses")).isZero();
+        assertThat(count("bundle_link_snapshots")).isZero();
+        // 지운 답변은 지우기 전에 태그 집계에 더해진다
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(response_count) FROM response_tag_rollups "
+                + "WHERE purchase_domain = '(none)' AND response_tag = 'GREAT'", Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT purged_at FROM user WHERE id = 1", Timestamp.class)).isNotNull();
+        verify(bundleViewCache).evict(10L);
+        verify(bundleViewCache).evict(11L);
+        verify(bundleViewCache).evict(12L);
+    }
+
+    @Test
+    @DisplayName("✅ 지운 이미지 중 우리 버킷의 객체 키만 S3 삭제 대기열에 넣는다")
+    void S3_삭제_대기열_테스트() {
+        job.purgeChunk(1L);
+
+        assertThat(jdbcTemplate.queryForList("SELECT object_key FROM s3_object_deletions ORDER BY object_key", String.class))
+                .containsExactly("gifts/users/1/a.jpg", "gifts/users/1/b.jpg");
+    }
+
+    @Test
+    @DisplayName("✅ 원본 보따리를 다 지우면 보관된 보따리도 지우고, 본문의 이미지 키를 S3 삭제 대기열에 넣는다")
+    void 보관된_보따리_삭제_테스트() throws IOException {
+        insertArchivedBundle(13, 1, new ArchivedGift(130L, "향수", null, null, null, null, "gifts/users/1/f.jpg",
+                List.of("gifts/users/1/f.jpg", "https://" + CDN + "/gifts/users/1/g.jpg", "https://other.example.com/h.jpg")));
+        insertArchivedBundle(21, 2, new ArchivedGift(210L, "초콜릿", null, null, null, null, "gifts/users/2/i.jpg",
+                List.of("gifts/users/2/i.jpg")));
+
+        assertThat(job.purgeChunk(1L)).isEqualTo(2);
+        assertThat(job.purgeChunk(1L)).isEqualTo(1);
+        // 원본을 다 지운 뒤 보관된 보따리 청크
+        assertThat(job.purgeChunk(1L)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT purged_at FROM user WHERE id = 1", Timestamp.class)).isNull();
+        assertThat(job.purgeChunk(1L)).isZero();
+
+        assertThat(jdbcTemplate.queryForList("SELECT bundle_id FROM archived_bundles", Long.class)).containsExactly(21L);
+        assertThat(jdbcTemplate.queryForList("SELECT object_key FROM s3_object_deletions ORDER BY object_key", String.class))
+                .containsExactly("gifts/users/1/a.jpg", "gifts/users/1/b.jpg", "gifts/users/1/f.jpg", "gifts/users/1/g.jpg");
+        assertThat(jdbcTemplate.queryForObject("SELECT purged_at FROM user WHERE id = 1", Timestamp.class)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("✅ 주기 실행은 유예 기간이 지난 탈퇴 회원만 지운다")
+    void 주기_실행_테스트() {
+        job.purgeWithdrawnUsers();
+
+        assertThat(ids("bundles")).containsExactly(20L, 30L);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM user WHERE purged_at IS NOT NULL", Long.class))
+                .containsExactly(1L);
+        // 끝나면 임대를 반납해 다른 인스턴스가 다음 주기를 실행할 수 있다
+        assertThat(new SchedulerLock(jdbcTemplate, "instance-b").tryAcquire("withdrawn-user-purge", Duration.ofMinutes(10)))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("❌ 다른 인스턴스가 실행 중이면 이번 주기는 건너뛴다")
+    void 다른_인스턴스_실행_중_테스트() {
+        new SchedulerLock(jdbcTemplate, "instance-b").tryAcquire("withdrawn-user-purge", Duration.ofMinutes(10));
+
+        job.purgeWithdrawnUsers();
+
+        assertThat(ids("bundles")).containsExactly(10L, 11L, 12L, 20L, 30L);
+        assertThat(count("s3_object_deletions")).isZero();
+    }
+
+    private void insertUser(long id, LocalDateTime deletedAt) {
+        jdbcTemplate.update("INSERT INTO user (id, kakao_id, is_deleted, deleted_at) VALUES (?, ?, ?, ?)",
+                id, id, deletedAt != null, deletedAt == null ? null : Timestamp.valueOf(deletedAt));
+    }
+
+    private void insertBundle(long id, long userId) {
+        jdbcTemplate.update("INSERT INTO bundles (id, user_id, name, design_type, status) VALUES (?, ?, '보따리', 'RED', 'PUBLISHED')",
+                id, userId);
+    }
+
+    private void insertGift(long id, long bundleId) {
+        jdbcTemplate.update("INSERT INTO gifts (id, bundle_id, name, is_responsed, created_at) VALUES (?, ?, '향수', FALSE, CURRENT_TIMESTAMP)",
+                id, bundleId);
+    }
+
+    private void insertImage(long id, long giftId, String imageUrl, String imageKey) {
+        jdbcTemplate.update("INSERT INTO gift_images (id, gift_id, image_url, image_key, is_primary) VALUES (?, ?, ?, ?, FALSE)",
+                id, giftId, imageUrl, imageKey);
+    }
+
+    private void insertArchivedBundle(long bundleId, long userId, ArchivedGift gift) throws IOException {
+        BundleArchivePayload payload = new BundleArchivePayload("link-" + bundleId, null, null, Map.of(), List.of(gift));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, payload);
+        }
+        jdbcTemplate.update("INSERT INTO archived_bundles (bundle_id, user_id, name, design_type, gift_count, responded_count, "
+                        + "updated_at, archived_at, payload) VALUES (?, ?, '보관 보따리', 'RED', 1, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ?)",
+                bundleId, userId, bytes.toByteArray());
+    }
+
+    private List<Long> ids(String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class);
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
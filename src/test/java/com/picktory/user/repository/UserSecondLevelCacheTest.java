@@ -0,0 +1,114 @@
+package com.picktory.user.repository;
+
+import com.picktory.common.cache.CacheRegions;
+import com.picktory.config.cache.HibernateCacheConfig;
+import com.picktory.domain.user.entity.User;
+import com.picktory.domain.user.repository.UserRepository;
+import com.picktory.support.annotation.H2JpaTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시를 켠 상태에서 사용자 조회가 캐시에 적중하고,
+ * 변경 / 벌크 UPDATE 후에는 바뀐 값을 읽는지 검증한다.
+ * (트랜잭션이 커밋돼야 캐시에 반영되므로 테스트 트랜잭션 없이 실행)
+ */
+@H2JpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("✅ 한 번 읽은 사용자는 DB 조회 없이 2차 캐시에서 읽는다")
+    void 캐시_적중_테스트() {
+        Long userId = saveUser("cached");
+        userRepository.findById(userId).orElseThrow();
+
+        statistics.clear();
+        User user = userRepository.findById(userId).orElseThrow();
+
+        assertThat(user.getNickname()).isEqualTo("cached");
+        assertThat(userRegion().getHitCount()).isEqualTo(1);
+        assertThat(userRegion().getMissCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 엔티티를 변경하면 커밋과 함께 캐시가 갱신되고, 조회 쿼리 캐시도 무효화된다")
+    void 변경_후_캐시_갱신_테스트() {
+        Long userId = saveUser("withdrawing");
+        assertThat(userRepository.findByIdAndIsDeletedFalse(userId)).isPresent();
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow().delete());
+
+        assertThat(userRepository.findByIdAndIsDeletedFalse(userId)).isEmpty();
+        assertThat(userRepository.findById(userId).orElseThrow().isDeleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("✅ 벌크 UPDATE 후에는 사용자 영역이 비워져 DB에서 다시 읽는다")
+    void 벌크_수정_후_캐시_제거_테스트() {
+        Long userId = saveUser("before");
+        userRepository.findById(userId).orElseThrow();
+
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE User u SET u.nickname = :nickname WHERE u.id = :id")
+                .setParameter("nickname", "after")
+                .setParameter("id", userId)
+                .executeUpdate());
+
+        statistics.clear();
+        User user = userRepository.findById(userId).orElseThrow();
+
+        assertThat(user.getNickname()).isEqualTo("after");
+        assertThat(userRegion().getHitCount()).isZero();
+        assertThat(userRegion().getMissCount()).isEqualTo(1);
+    }
+
+    private Long saveUser(String nickname) {
+        return userRepository.save(User.builder().kakaoId(System.nanoTime()).nickname(nickname).build()).getId();
+    }
+
+    private CacheRegionStatistics userRegion() {
+        return statistics.getDomainDataRegionStatistics(CacheRegions.USER);
+    }
+}
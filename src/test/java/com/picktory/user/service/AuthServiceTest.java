@@ -1,5 +1,6 @@
 package com.picktory.user.service;
 
+import com.picktory.config.datasource.RecentWriteTracker;
 import com.picktory.domain.auth.jwt.JwtTokenProvider;
 import com.picktory.domain.auth.dto.TokenDto;
 import com.picktory.domain.auth.oauth.dto.KakaoUserInfo;
@@ -40,6 +41,9 @@ class AuthServiceTest {
     @Mock
     private RefreshTokenService refreshTokenService;
 
+    @Mock
+    private RecentWriteTracker recentWriteTracker;
+
     @InjectMocks
     private AuthService authService;
 